@@ -0,0 +1,37 @@
+package com.futesat.hexagonal.benchmarks;
+
+import com.futesat.hexagonal.DemoApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+
+import java.util.Arrays;
+
+// Boots the real application (H2 + JPA) without the web layer, so benchmarks measure the real adapters.
+// Arranca la aplicación real (H2 + JPA) sin la capa web, para que los benchmarks midan los adaptadores reales.
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(String... properties) {
+        return builder(properties).run();
+    }
+
+    // For benchmarks that need to customize the boot (web server, extra beans...)
+    // Para benchmarks que necesitan personalizar el arranque (servidor web, beans extra...)
+    public static SpringApplicationBuilder builder(String... properties) {
+        return new SpringApplicationBuilder(DemoApplication.class)
+                .web(WebApplicationType.NONE)
+                // The "test" profile keeps the DemoDataLoader out of the measurements
+                // El perfil "test" deja al DemoDataLoader fuera de las mediciones
+                .profiles("test")
+                .properties("logging.level.root=WARN", "spring.main.banner-mode=off")
+                // Added as a first property source: default properties would lose against application.properties
+                // Añadidas como primera fuente: las propiedades por defecto perderían contra application.properties
+                .initializers(context -> context.getEnvironment().getPropertySources()
+                        .addFirst(new SimpleCommandLinePropertySource("benchmark",
+                                Arrays.stream(properties).map(property -> "--" + property).toArray(String[]::new))));
+    }
+}
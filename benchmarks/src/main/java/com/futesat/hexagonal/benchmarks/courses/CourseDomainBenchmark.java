@@ -0,0 +1,72 @@
+package com.futesat.hexagonal.benchmarks.courses;
+
+import com.futesat.hexagonal.courses.domain.Course;
+import com.futesat.hexagonal.courses.domain.CourseId;
+import com.futesat.hexagonal.courses.domain.CourseName;
+import com.futesat.hexagonal.shared.domain.bus.event.DomainEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Cost of the pure domain: aggregate factories, Identifier parsing/equality and event pulling.
+// Coste del dominio puro: factorías del agregado, parseo/igualdad de Identifier y extracción de eventos.
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CourseDomainBenchmark {
+
+    private static final String ID = "5a02e5b0-394c-4235-8656-78225586618e";
+    private static final String NAME = "Hexagonal Architecture";
+    private static final String DURATION = "10 hours";
+
+    private CourseId courseId;
+    private CourseId sameCourseId;
+    private CourseName courseName;
+
+    @Setup
+    public void setUp() {
+        courseId = new CourseId(ID);
+        sameCourseId = new CourseId(ID);
+        courseName = new CourseName(NAME);
+    }
+
+    @Benchmark
+    public CourseId identifier_validation() {
+        return new CourseId(ID);
+    }
+
+    // What every map/cache lookup by id pays
+    // Lo que paga cada búsqueda por id en un mapa/caché
+    @Benchmark
+    public boolean identifier_hash_and_equals() {
+        return courseId.hashCode() == sameCourseId.hashCode() && courseId.equals(sameCourseId);
+    }
+
+    @Benchmark
+    public Course course_create() {
+        return Course.create(courseId, courseName, DURATION);
+    }
+
+    @Benchmark
+    public Course course_from() {
+        return Course.from(ID, NAME, DURATION);
+    }
+
+    @Benchmark
+    public List<DomainEvent> course_create_and_pull_domain_events() {
+        return Course.create(courseId, courseName, DURATION).pullDomainEvents();
+    }
+}
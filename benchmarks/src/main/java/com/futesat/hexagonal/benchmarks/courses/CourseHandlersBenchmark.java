@@ -0,0 +1,175 @@
+package com.futesat.hexagonal.benchmarks.courses;
+
+import com.futesat.hexagonal.benchmarks.BenchmarkApplication;
+import com.futesat.hexagonal.courses.application.create.CreateCourseCommand;
+import com.futesat.hexagonal.courses.application.create.CreateCourseCommandHandler;
+import com.futesat.hexagonal.courses.application.find.CourseReadModelProjector;
+import com.futesat.hexagonal.courses.application.find.CourseResponse;
+import com.futesat.hexagonal.courses.application.find.FindCourseQuery;
+import com.futesat.hexagonal.courses.application.find.FindCourseQueryHandler;
+import com.futesat.hexagonal.courses.application.find.CoursesLookupResponse;
+import com.futesat.hexagonal.courses.application.find.FindCoursesQuery;
+import com.futesat.hexagonal.courses.application.find.FindCoursesQueryHandler;
+import com.futesat.hexagonal.courses.domain.CourseRepository;
+import com.futesat.hexagonal.courses.infrastructure.persistence.InMemoryCourseRepository;
+import com.futesat.hexagonal.courses.infrastructure.persistence.jpa.JpaCourseRepository;
+import com.futesat.hexagonal.courses.infrastructure.persistence.mmap.MappedCourseRepository;
+import com.futesat.hexagonal.courses.infrastructure.persistence.mmap.MappedFsyncPolicy;
+import com.futesat.hexagonal.courses.infrastructure.readmodel.InMemoryCourseReadModel;
+import com.futesat.hexagonal.shared.domain.bus.event.EventBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Command and query handlers against each persistence adapter (in memory, JPA on H2 with and without cache, mmap).
+// Handlers de comando y consulta contra cada adaptador de persistencia (memoria, JPA sobre H2 con y sin caché, mmap).
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CourseHandlersBenchmark {
+
+    private static final String EXISTING_ID = "5a02e5b0-394c-4235-8656-78225586618e";
+    private static final FindCourseQuery FIND_EXISTING = new FindCourseQuery(EXISTING_ID);
+    // A catalogue page: 100 courses, found one by one or with a single multi-get
+    // Una página del catálogo: 100 cursos, buscados uno a uno o con un único multi-get
+    private static final int PAGE_SIZE = 100;
+
+    @Param({ "in-memory", "jpa", "jpa-cached", "mmap" })
+    public String repository;
+
+    private ConfigurableApplicationContext context;
+    private MappedCourseRepository mappedRepository;
+    private Path segmentsDirectory;
+    private CreateCourseCommandHandler createHandler;
+    private FindCourseQueryHandler findHandler;
+    private FindCourseQueryHandler findReadModelHandler;
+    private FindCoursesQueryHandler findManyHandler;
+    private List<FindCourseQuery> pageQueries;
+    private FindCoursesQuery pageQuery;
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        CourseRepository courseRepository;
+        if ("jpa".equals(repository)) {
+            context = BenchmarkApplication.start();
+            courseRepository = context.getBean(JpaCourseRepository.class);
+        } else if ("jpa-cached".equals(repository)) {
+            context = BenchmarkApplication.start("courses.cache.enabled=true");
+            courseRepository = context.getBean(CourseRepository.class);
+        } else if ("mmap".equals(repository)) {
+            segmentsDirectory = createTempDirectory();
+            mappedRepository = new MappedCourseRepository(segmentsDirectory, DataSize.ofMegabytes(64),
+                    MappedFsyncPolicy.PERIODIC, Duration.ofSeconds(1), 0.5);
+            courseRepository = mappedRepository;
+        } else {
+            courseRepository = new InMemoryCourseRepository(Integer.MAX_VALUE);
+        }
+
+        // No-op bus: we measure the handler and the adapter, not the subscribers (2s fake SMTP)
+        // Bus vacío: medimos el handler y el adaptador, no los suscriptores (SMTP falso de 2s)
+        EventBus eventBus = events -> {
+        };
+        createHandler = new CreateCourseCommandHandler(courseRepository, eventBus);
+        // find_course: empty read model, every lookup goes to the repository and maps the aggregate
+        // find_course: modelo de lectura vacío, cada búsqueda va al repositorio y mapea el agregado
+        findHandler = new FindCourseQueryHandler(new InMemoryCourseReadModel(0, new SimpleMeterRegistry()),
+                courseRepository);
+        InMemoryCourseReadModel readModel = new InMemoryCourseReadModel(Integer.MAX_VALUE, new SimpleMeterRegistry());
+        findReadModelHandler = new FindCourseQueryHandler(readModel, courseRepository);
+
+        createHandler.handle(new CreateCourseCommand(EXISTING_ID, "Existing Course", "5 hours"));
+        findManyHandler = new FindCoursesQueryHandler(new InMemoryCourseReadModel(0, new SimpleMeterRegistry()),
+                courseRepository);
+        List<String> pageIds = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            String id = new UUID(0x6a02e5b0394c4235L, i).toString();
+            createHandler.handle(new CreateCourseCommand(id, "Catalogue Page Course", "1 hour"));
+            pageIds.add(id);
+        }
+        pageQueries = pageIds.stream().map(FindCourseQuery::new).toList();
+        pageQuery = new FindCoursesQuery(pageIds);
+        new CourseReadModelProjector(readModel).rebuild(handler -> {
+            handler.handle(UUID.fromString(EXISTING_ID), "Existing Course", "5 hours");
+            return 1;
+        });
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (context != null) {
+            context.close();
+        }
+        if (mappedRepository != null) {
+            mappedRepository.close();
+            FileSystemUtils.deleteRecursively(segmentsDirectory);
+        }
+    }
+
+    private static Path createTempDirectory() {
+        try {
+            return Files.createTempDirectory("courses-mmap-benchmark");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Benchmark
+    public void create_course() {
+        // Every invocation inserts a new row, so ids must be unique and cheap to build
+        // Cada invocación inserta una fila nueva, así que los ids deben ser únicos y baratos de construir
+        String id = new UUID(0x5a02e5b0394c4235L, ++sequence).toString();
+        createHandler.handle(new CreateCourseCommand(id, "Benchmark Course", "1 hour"));
+    }
+
+    @Benchmark
+    public CourseResponse find_course() {
+        return findHandler.handle(FIND_EXISTING);
+    }
+
+    @Benchmark
+    public CourseResponse find_course_read_model() {
+        return findReadModelHandler.handle(FIND_EXISTING);
+    }
+
+    @Benchmark
+    public int find_page_one_by_one() {
+        int found = 0;
+        for (FindCourseQuery query : pageQueries) {
+            findHandler.handle(query);
+            found++;
+        }
+        return found;
+    }
+
+    @Benchmark
+    public CoursesLookupResponse find_page_multi_get() {
+        return findManyHandler.handle(pageQuery);
+    }
+}
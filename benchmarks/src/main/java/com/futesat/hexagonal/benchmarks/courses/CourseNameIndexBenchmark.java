@@ -0,0 +1,92 @@
+package com.futesat.hexagonal.benchmarks.courses;
+
+import com.futesat.hexagonal.courses.application.search.CourseNameSuggestion;
+import com.futesat.hexagonal.courses.infrastructure.search.InMemoryCourseNameIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Typeahead over a million course names: top-10 completions from the prefix index vs. scanning every name
+// Typeahead sobre un millón de nombres de curso: top-10 del índice de prefijos frente a recorrer todos los nombres
+// (what LIKE 'x%' does on the courses table, without the round-trip).
+// (lo que hace LIKE 'x%' sobre la tabla courses, sin la ida y vuelta).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class CourseNameIndexBenchmark {
+
+    private static final int COURSES = 1_000_000;
+    private static final int LIMIT = 10;
+    private static final String[] WORDS = {
+            "Spring", "Boot", "Java", "Kotlin", "Hexagonal", "Architecture", "Domain", "Driven", "Design",
+            "Testing", "Clean", "Code", "Microservices", "Kafka", "Docker", "Kubernetes", "Reactive", "Security",
+            "Data", "Cloud", "Patterns", "Performance", "Concurrency", "Diseño", "Programación", "Avanzado",
+            "Fundamentos", "Masterclass", "Introducción", "Práctico" };
+
+    // Short prefixes match a lot of names, long ones only a few
+    // Los prefijos cortos encajan con muchos nombres, los largos solo con unos pocos
+    @Param({ "s", "spring b", "programacion avanzado k" })
+    private String prefix;
+
+    private InMemoryCourseNameIndex index;
+    private String[] normalizedNames;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<String> names = new ArrayList<>(COURSES);
+        for (int i = 0; i < COURSES; i++) {
+            StringBuilder name = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+            for (int words = 2 + random.nextInt(3); words > 0; words--) {
+                name.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+            }
+            names.add(name.append(' ').append(i).toString());
+        }
+
+        index = new InMemoryCourseNameIndex(10_000);
+        index.rebuild(handler -> {
+            names.forEach(name -> handler.handle(UUID.randomUUID(), name, "1 hour"));
+            return names.size();
+        });
+        normalizedNames = names.stream()
+                .map(name -> name.toLowerCase(Locale.ROOT).replace('ñ', 'n').replace('ó', 'o'))
+                .toArray(String[]::new);
+    }
+
+    @Benchmark
+    public List<CourseNameSuggestion> prefix_index() {
+        return index.complete(prefix, LIMIT);
+    }
+
+    @Benchmark
+    public List<String> full_scan() {
+        // Needs every match to sort them and return the first ones
+        // Necesita todas las coincidencias para ordenarlas y devolver las primeras
+        List<String> matches = new ArrayList<>();
+        for (String name : normalizedNames) {
+            if (name.startsWith(prefix)) {
+                matches.add(name);
+            }
+        }
+        matches.sort(null);
+        return matches.subList(0, Math.min(LIMIT, matches.size()));
+    }
+}
@@ -0,0 +1,56 @@
+package com.futesat.hexagonal.benchmarks.courses;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.futesat.hexagonal.courses.application.find.CourseResponse;
+import com.futesat.hexagonal.courses.domain.CourseId;
+import com.futesat.hexagonal.courses.infrastructure.http.CourseRepresentation;
+import com.futesat.hexagonal.courses.infrastructure.http.CourseRepresentationCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Body of GET /courses/{id}: Jackson on every request vs the cached bytes (and ETag) of CourseRepresentationCache.
+// Cuerpo de GET /courses/{id}: Jackson en cada petición vs los bytes cacheados (y el ETag) de CourseRepresentationCache.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CourseRepresentationBenchmark {
+
+    private static final String ID = "5a02e5b0-394c-4235-8656-78225586618e";
+
+    private ObjectMapper objectMapper;
+    private CourseRepresentationCache cache;
+    private CourseResponse response;
+    private CourseId id;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        cache = new CourseRepresentationCache(objectMapper, 10_000, new SimpleMeterRegistry());
+        response = new CourseResponse(ID, "Hexagonal Architecture Masterclass", "10 hours");
+        id = new CourseId(ID);
+    }
+
+    @Benchmark
+    public byte[] serialize_per_request() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public CourseRepresentation cached_representation() {
+        return cache.get(id, courseId -> response);
+    }
+}
@@ -0,0 +1,102 @@
+package com.futesat.hexagonal.benchmarks.courses;
+
+import com.futesat.hexagonal.benchmarks.BenchmarkApplication;
+import com.futesat.hexagonal.courses.application.create.CreateCourseCommand;
+import com.futesat.hexagonal.courses.application.create.CreateCourseCommandHandler;
+import com.futesat.hexagonal.courses.infrastructure.persistence.groupcommit.GroupCommitCourseRepository;
+import com.futesat.hexagonal.courses.infrastructure.persistence.jpa.JpaCourseRepository;
+import com.futesat.hexagonal.shared.domain.bus.event.EventBus;
+import com.futesat.hexagonal.shared.infrastructure.persistence.TransactionalProxy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Create load from 32 concurrent callers against JPA on H2: in memory, or on disk writing every commit to the file
+// Carga de altas desde 32 llamantes concurrentes contra JPA sobre H2: en memoria, o en disco escribiendo cada commit
+// (WRITE_DELAY=0, closer to what a commit costs on a server database): one transaction per create (the
+// en el fichero (WRITE_DELAY=0, más parecido a lo que cuesta un commit en una base de datos servidor): una transacción
+// default wiring) vs write-behind group commit.
+// por alta (el cableado por defecto) vs group commit write-behind.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(32)
+@Fork(1)
+public class GroupCommitBenchmark {
+
+    @Param({ "per-request", "group-commit" })
+    public String mode;
+
+    @Param({ "mem", "file" })
+    public String database;
+
+    private ConfigurableApplicationContext context;
+    private GroupCommitCourseRepository groupCommit;
+    private CreateCourseCommandHandler handler;
+    private Path databaseDirectory;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup
+    public void setUp() throws IOException {
+        String url = "jdbc:h2:mem:group-commit";
+        if ("file".equals(database)) {
+            databaseDirectory = Files.createTempDirectory("group-commit-benchmark");
+            url = "jdbc:h2:file:" + databaseDirectory.resolve("courses").toAbsolutePath() + ";WRITE_DELAY=0";
+        }
+        context = BenchmarkApplication.start("spring.datasource.url=" + url, "event-store.enabled=false");
+        JpaCourseRepository repository = context.getBean(JpaCourseRepository.class);
+        // No-op bus: we measure the commit path, not the subscribers
+        // Bus vacío: medimos el camino del commit, no los suscriptores
+        EventBus eventBus = events -> {
+        };
+        if ("group-commit".equals(mode)) {
+            groupCommit = new GroupCommitCourseRepository(repository, 256, Duration.ofMillis(2), 10_000,
+                    new SimpleMeterRegistry());
+            handler = new CreateCourseCommandHandler(groupCommit, eventBus);
+        } else {
+            handler = TransactionalProxy.wrap(new CreateCourseCommandHandler(repository, eventBus),
+                    context.getBean(PlatformTransactionManager.class));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (groupCommit != null) {
+            groupCommit.close();
+        }
+        context.close();
+        if (databaseDirectory != null) {
+            FileSystemUtils.deleteRecursively(databaseDirectory.toFile());
+        }
+    }
+
+    @Benchmark
+    public void create_course() {
+        String id = new UUID(0x5a02e5b0394c4235L, sequence.incrementAndGet()).toString();
+        handler.handle(new CreateCourseCommand(id, "Benchmark Course", "1 hour"));
+    }
+}
@@ -0,0 +1,76 @@
+package com.futesat.hexagonal.benchmarks.courses;
+
+import com.futesat.hexagonal.courses.domain.Course;
+import com.futesat.hexagonal.courses.domain.CourseId;
+import com.futesat.hexagonal.courses.infrastructure.persistence.InMemoryCourseRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Read scalability of the in-memory store: total throughput with 1, 2, 4 and all cores reading at once.
+// Escalabilidad de lectura del almacén en memoria: throughput total con 1, 2, 4 y todos los cores leyendo a la vez.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InMemoryCourseRepositoryBenchmark {
+
+    private static final int COURSES = 100_000;
+
+    private InMemoryCourseRepository repository;
+    private CourseId[] ids;
+
+    @Setup
+    public void setUp() {
+        repository = new InMemoryCourseRepository(COURSES);
+        ids = new CourseId[COURSES];
+        for (int i = 0; i < COURSES; i++) {
+            Course course = Course.from(UUID.randomUUID().toString(), "Benchmark Course", "1 hour");
+            repository.save(course);
+            ids[i] = course.id();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Optional<Course> search_1_thread() {
+        return search();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public Optional<Course> search_2_threads() {
+        return search();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Optional<Course> search_4_threads() {
+        return search();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Optional<Course> search_all_cores() {
+        return search();
+    }
+
+    private Optional<Course> search() {
+        return repository.search(ids[ThreadLocalRandom.current().nextInt(COURSES)]);
+    }
+}
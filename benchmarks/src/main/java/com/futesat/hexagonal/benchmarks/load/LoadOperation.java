@@ -0,0 +1,27 @@
+package com.futesat.hexagonal.benchmarks.load;
+
+// Requests the load test can send, with the status that counts as a success.
+// Peticiones que puede enviar la prueba de carga, con el estado que cuenta como éxito.
+enum LoadOperation {
+
+    // POST /courses with a fresh id (JSON binding, validation, insert and event publication)
+    // POST /courses con un id nuevo (binding JSON, validación, insert y publicación del evento)
+    POST(201),
+    // GET /courses/{id} over the seeded courses (read model + cached representation)
+    // GET /courses/{id} sobre los cursos sembrados (read model + representación cacheada)
+    GET(200);
+
+    private final int expectedStatus;
+
+    LoadOperation(int expectedStatus) {
+        this.expectedStatus = expectedStatus;
+    }
+
+    boolean succeeded(int status) {
+        return status == expectedStatus;
+    }
+
+    String label() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,259 @@
+package com.futesat.hexagonal.benchmarks.load;
+
+import com.futesat.hexagonal.benchmarks.BenchmarkApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+// HTTP load test: boots DemoApplication on a random port and drives POST /courses and GET /courses/{id} through
+// Prueba de carga HTTP: arranca DemoApplication en un puerto aleatorio y lanza POST /courses y GET /courses/{id} a través
+// the whole web, validation and persistence stack (see LoadTestOptions for the arguments).
+// de toda la pila web, de validación y de persistencia (ver LoadTestOptions para los argumentos).
+// Open model (rate > 0): requests start on a fixed schedule whatever the server does, and latency is measured
+// Modelo abierto (rate > 0): las peticiones salen según un calendario fijo haga lo que haga el servidor, y la latencia
+// from the scheduled time, so a stalled server shows up in the percentiles instead of slowing the client down.
+// se mide desde el instante previsto, así un servidor atascado aparece en los percentiles en vez de frenar al cliente.
+// Closed model (rate = 0): `concurrency` clients send back to back; only the service time is meaningful there.
+// Modelo cerrado (rate = 0): `concurrency` clientes envían uno tras otro; ahí solo el tiempo de servicio es significativo.
+public final class LoadTest {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestOptions options;
+    private final HttpClient httpClient;
+    private final URI coursesUri;
+    private final Map<LoadOperation, OperationStats> stats = new EnumMap<>(LoadOperation.class);
+    private final LoadOperation[] operations;
+    private final int[] cumulativeWeights;
+    private String[] seededIds = new String[0];
+
+    LoadTest(LoadTestOptions options, HttpClient httpClient, URI coursesUri) {
+        this.options = options;
+        this.httpClient = httpClient;
+        this.coursesUri = coursesUri;
+        this.operations = options.mix().keySet().toArray(LoadOperation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += options.mix().get(operations[i]);
+            cumulativeWeights[i] = total;
+        }
+        for (LoadOperation operation : LoadOperation.values()) {
+            stats.put(operation, new OperationStats(operation));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ConfigurableApplicationContext context = BenchmarkApplication.builder(applicationProperties(options))
+                .web(WebApplicationType.SERVLET)
+                .run();
+        // The client runs on virtual threads so it never becomes the bottleneck
+        // El cliente corre en hilos virtuales para que nunca sea el cuello de botella
+        try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(clientExecutor)
+                    .build();
+            URI coursesUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                    + "/courses");
+            new LoadTest(options, httpClient, coursesUri).run();
+        } finally {
+            context.close();
+        }
+    }
+
+    void run() throws InterruptedException, IOException {
+        seed();
+        System.out.printf("Warming up for %s...%n", options.warmup());
+        runPhase(options.warmup());
+        stats.values().forEach(OperationStats::reset);
+
+        System.out.printf("Measuring for %s (%s)...%n", options.duration(), model());
+        long start = System.nanoTime();
+        runPhase(options.duration());
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        List<OperationStats.Report> reports = new ArrayList<>();
+        for (LoadOperation operation : operations) {
+            reports.add(stats.get(operation).report(elapsedSeconds));
+        }
+        writeReports(reports);
+    }
+
+    // Courses that the GET requests will read; created before the warm-up
+    // Cursos que leerán las peticiones GET; se crean antes del calentamiento
+    private void seed() {
+        List<String> ids = new ArrayList<>(options.seedCourses());
+        List<CompletableFuture<HttpResponse<Void>>> pending = new ArrayList<>(options.concurrency());
+        for (int i = 0; i < options.seedCourses(); i++) {
+            String id = UUID.randomUUID().toString();
+            ids.add(id);
+            pending.add(httpClient.sendAsync(request(LoadOperation.POST, id), HttpResponse.BodyHandlers.discarding()));
+            if (pending.size() == options.concurrency() || i == options.seedCourses() - 1) {
+                for (CompletableFuture<HttpResponse<Void>> response : pending) {
+                    int status = response.join().statusCode();
+                    if (!LoadOperation.POST.succeeded(status)) {
+                        throw new IllegalStateException("Could not seed courses: status " + status);
+                    }
+                }
+                pending.clear();
+            }
+        }
+        seededIds = ids.toArray(String[]::new);
+    }
+
+    private void runPhase(Duration phase) throws InterruptedException {
+        if (phase.isZero() || phase.isNegative()) {
+            return;
+        }
+        if (options.openModel()) {
+            runOpenModel(phase);
+        } else {
+            runClosedModel(phase);
+        }
+    }
+
+    private void runOpenModel(Duration phase) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(options.concurrency());
+        double intervalNanos = 1e9 / options.rate();
+        long start = System.nanoTime();
+        for (long i = 0; ; i++) {
+            long intended = start + (long) (i * intervalNanos);
+            if (intended - start >= phase.toNanos()) {
+                break;
+            }
+            waitUntil(intended);
+            // Waiting for a free slot delays the send, not the intended time: the wait counts as latency
+            // Esperar un hueco libre retrasa el envío, no el instante previsto: la espera cuenta como latencia
+            inFlight.acquire();
+            send(nextOperation(), intended).whenComplete((ignored, failure) -> inFlight.release());
+        }
+        inFlight.acquire(options.concurrency());
+        inFlight.release(options.concurrency());
+    }
+
+    private void runClosedModel(Duration phase) {
+        long end = System.nanoTime() + phase.toNanos();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.concurrency(); i++) {
+                clients.execute(() -> {
+                    while (System.nanoTime() < end) {
+                        send(nextOperation(), System.nanoTime()).join();
+                    }
+                });
+            }
+        }
+    }
+
+    private CompletableFuture<Void> send(LoadOperation operation, long intendedNanos) {
+        HttpRequest request = request(operation, null);
+        long sentNanos = System.nanoTime();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, failure) -> {
+                    long completedNanos = System.nanoTime();
+                    stats.get(operation).record(intendedNanos, sentNanos, completedNanos,
+                            failure == null && operation.succeeded(response.statusCode()));
+                    return null;
+                });
+    }
+
+    private HttpRequest request(LoadOperation operation, String id) {
+        return switch (operation) {
+            case POST -> {
+                String body = "{\"id\":\"" + (id != null ? id : UUID.randomUUID().toString())
+                        + "\",\"name\":\"Load Testing\",\"duration\":\"1 hour\"}";
+                yield HttpRequest.newBuilder(coursesUri)
+                        .timeout(REQUEST_TIMEOUT)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body))
+                        .build();
+            }
+            case GET -> HttpRequest.newBuilder(coursesUri.resolve("/courses/" + randomSeededId()))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET()
+                    .build();
+        };
+    }
+
+    private LoadOperation nextOperation() {
+        int draw = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (draw < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("Unreachable: draw " + draw);
+    }
+
+    private String randomSeededId() {
+        return seededIds[ThreadLocalRandom.current().nextInt(seededIds.length)];
+    }
+
+    private void writeReports(List<OperationStats.Report> reports) throws IOException {
+        Files.createDirectories(options.reportDirectory());
+        StringBuilder summary = new StringBuilder()
+                .append(String.format("%s: %s, mix %s, %s measured after %s warm-up%n",
+                        options.name(), model(), options.mix(), options.duration(), options.warmup()));
+        for (OperationStats.Report report : reports) {
+            if (report.count() > 0) {
+                report.write(options.reportDirectory(), options.name());
+            }
+            summary.append(report.summary()).append(System.lineSeparator());
+        }
+        Files.writeString(options.reportDirectory().resolve(options.name() + "-summary.txt"), summary);
+        System.out.print(summary);
+        System.out.printf("Reports written to %s%n", options.reportDirectory().toAbsolutePath());
+    }
+
+    private String model() {
+        return options.openModel()
+                ? "open model, " + options.rate() + " req/s, max " + options.concurrency() + " in flight"
+                : "closed model, " + options.concurrency() + " clients";
+    }
+
+    private static void waitUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    // Defaults for the application under load; --key=value arguments override them
+    // Valores por defecto para la aplicación bajo carga; los argumentos --clave=valor los sobrescriben
+    private static String[] applicationProperties(LoadTestOptions options) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("event-store.directory", options.reportDirectory().resolve("events").toString());
+        for (String property : options.applicationProperties()) {
+            int separator = property.indexOf('=');
+            if (separator < 0) {
+                properties.put(property, "true");
+            } else {
+                properties.put(property.substring(0, separator), property.substring(separator + 1));
+            }
+        }
+        return properties.entrySet().stream()
+                .map(property -> property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+    }
+}
@@ -0,0 +1,93 @@
+package com.futesat.hexagonal.benchmarks.load;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// Load test settings, parsed from key=value arguments; --key=value arguments go to the application as properties.
+// Ajustes de la prueba de carga, leídos de argumentos clave=valor; los --clave=valor van a la aplicación como propiedades.
+//   name=default              report file prefix / prefijo de los ficheros de informe
+//   mix=post:20,get:80        operation weights / pesos de cada operación
+//   rate=500                  open model: requests per second (0 = closed model) / peticiones por segundo (0 = modelo cerrado)
+//   concurrency=64            max requests in flight (closed model: number of clients) / máximo de peticiones en vuelo
+//   warmup=10s duration=30s   warm-up (discarded) and measured phases / fases de calentamiento (descartada) y medida
+//   seed-courses=1000         courses created before the run, targets of the GETs / cursos creados antes, objetivo de los GET
+//   report-dir=target/load    where the .hgrm files and the summary are written / dónde se escriben los .hgrm y el resumen
+record LoadTestOptions(
+        String name,
+        Map<LoadOperation, Integer> mix,
+        int rate,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        int seedCourses,
+        Path reportDirectory,
+        List<String> applicationProperties) {
+
+    static LoadTestOptions parse(String... args) {
+        String name = "default";
+        Map<LoadOperation, Integer> mix = parseMix("post:20,get:80");
+        int rate = 500;
+        int concurrency = 64;
+        Duration warmup = Duration.ofSeconds(10);
+        Duration duration = Duration.ofSeconds(30);
+        int seedCourses = 1000;
+        Path reportDirectory = Path.of("target", "load");
+        List<String> applicationProperties = new ArrayList<>();
+
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                applicationProperties.add(arg.substring(2));
+                continue;
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected key=value, got: " + arg);
+            }
+            String value = arg.substring(separator + 1);
+            switch (arg.substring(0, separator)) {
+                case "name" -> name = value;
+                case "mix" -> mix = parseMix(value);
+                case "rate" -> rate = Integer.parseInt(value);
+                case "concurrency" -> concurrency = Integer.parseInt(value);
+                case "warmup" -> warmup = DurationStyle.detectAndParse(value);
+                case "duration" -> duration = DurationStyle.detectAndParse(value);
+                case "seed-courses" -> seedCourses = Integer.parseInt(value);
+                case "report-dir" -> reportDirectory = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown load test option: " + arg);
+            }
+        }
+        if (rate < 0 || concurrency < 1) {
+            throw new IllegalArgumentException("rate must be >= 0 and concurrency >= 1");
+        }
+        if (mix.getOrDefault(LoadOperation.GET, 0) > 0 && seedCourses < 1) {
+            throw new IllegalArgumentException("GET requests need seed-courses >= 1");
+        }
+        return new LoadTestOptions(name, mix, rate, concurrency, warmup, duration, seedCourses, reportDirectory,
+                List.copyOf(applicationProperties));
+    }
+
+    boolean openModel() {
+        return rate > 0;
+    }
+
+    private static Map<LoadOperation, Integer> parseMix(String value) {
+        Map<LoadOperation, Integer> mix = new EnumMap<>(LoadOperation.class);
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation:weight in mix, got: " + entry);
+            }
+            mix.put(LoadOperation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("The mix needs at least one positive weight: " + value);
+        }
+        return mix;
+    }
+}
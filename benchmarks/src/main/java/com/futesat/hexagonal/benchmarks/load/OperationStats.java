@@ -0,0 +1,90 @@
+package com.futesat.hexagonal.benchmarks.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Latencies of one operation, in microseconds (3 significant digits, auto-resizing).
+// Latencias de una operación, en microsegundos (3 dígitos significativos, redimensionable).
+// Response time runs from the intended send time (coordinated-omission free); service time from the actual send.
+// El tiempo de respuesta cuenta desde el instante previsto de envío (sin omisión coordinada); el de servicio desde el envío real.
+final class OperationStats {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final LoadOperation operation;
+    private final Recorder responseTime = new Recorder(3);
+    private final Recorder serviceTime = new Recorder(3);
+    private final LongAdder errors = new LongAdder();
+
+    OperationStats(LoadOperation operation) {
+        this.operation = operation;
+    }
+
+    void record(long intendedNanos, long sentNanos, long completedNanos, boolean succeeded) {
+        responseTime.recordValue(TimeUnit.NANOSECONDS.toMicros(completedNanos - intendedNanos));
+        serviceTime.recordValue(TimeUnit.NANOSECONDS.toMicros(completedNanos - sentNanos));
+        if (!succeeded) {
+            errors.increment();
+        }
+    }
+
+    // Drops what was recorded so far (end of the warm-up)
+    // Descarta lo registrado hasta ahora (fin del calentamiento)
+    void reset() {
+        responseTime.reset();
+        serviceTime.reset();
+        errors.reset();
+    }
+
+    Report report(double elapsedSeconds) {
+        return new Report(operation, responseTime.getIntervalHistogram(), serviceTime.getIntervalHistogram(),
+                errors.sum(), elapsedSeconds);
+    }
+
+    record Report(LoadOperation operation, Histogram responseTime, Histogram serviceTime, long errors,
+            double elapsedSeconds) {
+
+        long count() {
+            return responseTime.getTotalCount();
+        }
+
+        // Percentile distributions in the .hgrm format (values in ms), readable by the HdrHistogram plotter
+        // Distribuciones de percentiles en formato .hgrm (valores en ms), legibles por el plotter de HdrHistogram
+        void write(Path directory, String name) throws IOException {
+            write(directory.resolve(name + "-" + operation.label() + "-response-time.hgrm"), responseTime);
+            write(directory.resolve(name + "-" + operation.label() + "-service-time.hgrm"), serviceTime);
+        }
+
+        String summary() {
+            return String.format("%-5s count=%d errors=%d throughput=%.1f/s%n"
+                            + "      response time (ms): %s%n"
+                            + "      service time  (ms): %s",
+                    operation.label(), count(), errors, count() / elapsedSeconds,
+                    percentiles(responseTime), percentiles(serviceTime));
+        }
+
+        private static void write(Path file, Histogram histogram) throws IOException {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+
+        private static String percentiles(Histogram histogram) {
+            return String.format("p50=%.3f p90=%.3f p99=%.3f p99.9=%.3f p99.99=%.3f max=%.3f",
+                    millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+                    millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getValueAtPercentile(99.99)), millis(histogram.getMaxValue()));
+        }
+
+        private static double millis(long micros) {
+            return micros / MICROS_PER_MILLI;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.futesat.hexagonal.benchmarks.shared;
+
+import com.futesat.hexagonal.shared.domain.bus.command.Command;
+import com.futesat.hexagonal.shared.domain.bus.command.CommandBus;
+import com.futesat.hexagonal.shared.domain.bus.command.CommandHandler;
+import com.futesat.hexagonal.shared.domain.bus.query.Query;
+import com.futesat.hexagonal.shared.domain.bus.query.QueryBus;
+import com.futesat.hexagonal.shared.domain.bus.query.QueryHandler;
+import com.futesat.hexagonal.shared.infrastructure.bus.BusMiddleware;
+import com.futesat.hexagonal.shared.infrastructure.bus.TimingBusMiddleware;
+import com.futesat.hexagonal.shared.infrastructure.bus.command.InMemoryCommandBus;
+import com.futesat.hexagonal.shared.infrastructure.bus.query.InMemoryQueryBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Cost of going through the buses instead of calling the handler: direct call vs bus with 0, 1 or 4 middlewares.
+// Coste de pasar por los buses en lugar de llamar al handler: llamada directa vs bus con 0, 1 o 4 middlewares.
+// The handlers do almost nothing on purpose, so what is measured is the dispatch itself.
+// Los handlers no hacen casi nada a propósito, así que lo que se mide es el despacho en sí.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BusDispatchBenchmark {
+
+    // pass-through: middlewares that only call the next step; timing: the real TimingBusMiddleware
+    // pass-through: middlewares que solo llaman al siguiente paso; timing: el TimingBusMiddleware real
+    @Param({ "0", "1", "4" })
+    public int middlewares;
+
+    @Param({ "pass-through", "timing" })
+    public String middleware;
+
+    private IncrementHandler commandHandler;
+    private CountHandler queryHandler;
+    private CommandBus commandBus;
+    private QueryBus queryBus;
+    private final Increment increment = new Increment(1);
+    private final Count count = new Count();
+
+    @Setup
+    public void setUp() {
+        List<BusMiddleware> chain = new ArrayList<>();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        for (int i = 0; i < middlewares; i++) {
+            chain.add("timing".equals(middleware)
+                    ? new TimingBusMiddleware(meterRegistry, true)
+                    : (type, next) -> next::handle);
+        }
+        commandHandler = new IncrementHandler();
+        queryHandler = new CountHandler(commandHandler);
+        commandBus = new InMemoryCommandBus(List.of(commandHandler), chain);
+        queryBus = new InMemoryQueryBus(List.of(queryHandler), chain);
+    }
+
+    @Benchmark
+    public long directCommand() {
+        commandHandler.handle(increment);
+        return commandHandler.total;
+    }
+
+    @Benchmark
+    public long busCommand() {
+        commandBus.dispatch(increment);
+        return commandHandler.total;
+    }
+
+    @Benchmark
+    public Long directQuery() {
+        return queryHandler.handle(count);
+    }
+
+    @Benchmark
+    public Long busQuery() {
+        return queryBus.ask(count);
+    }
+
+    public record Increment(long amount) implements Command {
+    }
+
+    public record Count() implements Query<Long> {
+    }
+
+    public static final class IncrementHandler implements CommandHandler<Increment> {
+
+        private long total;
+
+        @Override
+        public Class<Increment> subscribedTo() {
+            return Increment.class;
+        }
+
+        @Override
+        public void handle(Increment command) {
+            total += command.amount();
+        }
+    }
+
+    public static final class CountHandler implements QueryHandler<Count, Long> {
+
+        private final IncrementHandler counter;
+
+        CountHandler(IncrementHandler counter) {
+            this.counter = counter;
+        }
+
+        @Override
+        public Class<Count> subscribedTo() {
+            return Count.class;
+        }
+
+        @Override
+        public Long handle(Count query) {
+            return counter.total;
+        }
+    }
+}
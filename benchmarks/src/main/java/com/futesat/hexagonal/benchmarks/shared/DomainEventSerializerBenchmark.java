@@ -0,0 +1,64 @@
+package com.futesat.hexagonal.benchmarks.shared;
+
+import com.futesat.hexagonal.courses.domain.CourseCreatedEvent;
+import com.futesat.hexagonal.courses.infrastructure.bus.CourseCreatedEventCodec;
+import com.futesat.hexagonal.shared.domain.bus.event.DomainEvent;
+import com.futesat.hexagonal.shared.infrastructure.bus.event.DomainEventSerializer;
+import com.futesat.hexagonal.shared.infrastructure.bus.event.JavaDomainEventSerializer;
+import com.futesat.hexagonal.shared.infrastructure.bus.event.binary.BinaryDomainEventSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Encoding/decoding of a course.created event (what the outbox stores): Java serialization vs the binary codec.
+// Codificación/decodificación de un evento course.created (lo que guarda el outbox): serialización Java vs el codec binario.
+// The encoded size of each format is printed at setup.
+// El tamaño codificado de cada formato se imprime al preparar el benchmark.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainEventSerializerBenchmark {
+
+    @Param({ "java", "binary" })
+    public String format;
+
+    private DomainEventSerializer serializer;
+    private DomainEvent event;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() {
+        JavaDomainEventSerializer javaSerializer = new JavaDomainEventSerializer();
+        serializer = "java".equals(format)
+                ? javaSerializer
+                : new BinaryDomainEventSerializer(List.of(new CourseCreatedEventCodec()), javaSerializer);
+        event = new CourseCreatedEvent("5a02e5b0-394c-4235-8656-78225586618e", "Hexagonal Architecture Masterclass",
+                "10 hours");
+        encoded = serializer.serialize(event);
+        System.out.println(format + " encoded size: " + encoded.length + " bytes");
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(event);
+    }
+
+    @Benchmark
+    public DomainEvent deserialize() {
+        return serializer.deserialize(encoded);
+    }
+}
@@ -0,0 +1,99 @@
+package com.futesat.hexagonal.benchmarks.shared;
+
+import com.futesat.hexagonal.courses.domain.CourseCreatedEvent;
+import com.futesat.hexagonal.shared.domain.bus.event.DomainEvent;
+import com.futesat.hexagonal.shared.domain.bus.event.DomainEventSubscriber;
+import com.futesat.hexagonal.shared.domain.bus.event.EventBus;
+import com.futesat.hexagonal.shared.infrastructure.bus.event.ringbuffer.RingBufferBackpressure;
+import com.futesat.hexagonal.shared.infrastructure.bus.event.ringbuffer.RingBufferEventBus;
+import com.futesat.hexagonal.shared.infrastructure.bus.event.ringbuffer.RingBufferWaitStrategy;
+import com.futesat.hexagonal.shared.infrastructure.bus.event.spring.SpringApplicationEventBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.event.EventListener;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Publish latency seen by the create path: Spring (reflective, caller thread) vs ring buffer.
+// Latencia de publicación vista por el camino de creación: Spring (reflexivo, hilo llamante) vs ring buffer.
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBusBenchmark {
+
+    @Param({ "spring", "ring-buffer" })
+    public String bus;
+
+    private AnnotationConfigApplicationContext springContext;
+    private RingBufferEventBus ringBufferEventBus;
+    private EventBus eventBus;
+    private List<DomainEvent> events;
+
+    @Setup
+    public void setUp() {
+        if ("spring".equals(bus)) {
+            springContext = new AnnotationConfigApplicationContext(CountingListener.class);
+            eventBus = new SpringApplicationEventBus(springContext);
+        } else {
+            ringBufferEventBus = new RingBufferEventBus(List.of(new CountingSubscriber()), new SimpleMeterRegistry(),
+                    8192, 2, RingBufferWaitStrategy.YIELDING, RingBufferBackpressure.BLOCK);
+            eventBus = ringBufferEventBus;
+        }
+        events = List.of(new CourseCreatedEvent("5a02e5b0-394c-4235-8656-78225586618e", "Benchmark Course", "1 hour"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (springContext != null) {
+            springContext.close();
+        }
+        if (ringBufferEventBus != null) {
+            ringBufferEventBus.shutdown();
+        }
+    }
+
+    @Benchmark
+    public void publish() {
+        eventBus.publish(events);
+    }
+
+    public static class CountingListener {
+        private final LongAdder received = new LongAdder();
+
+        @EventListener
+        public void on(CourseCreatedEvent event) {
+            received.increment();
+        }
+    }
+
+    static class CountingSubscriber implements DomainEventSubscriber<CourseCreatedEvent> {
+        private final LongAdder received = new LongAdder();
+
+        @Override
+        public Class<CourseCreatedEvent> subscribedTo() {
+            return CourseCreatedEvent.class;
+        }
+
+        @Override
+        public void on(CourseCreatedEvent event) {
+            received.increment();
+        }
+    }
+}
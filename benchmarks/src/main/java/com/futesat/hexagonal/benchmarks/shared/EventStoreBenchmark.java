@@ -0,0 +1,118 @@
+package com.futesat.hexagonal.benchmarks.shared;
+
+import com.futesat.hexagonal.courses.domain.CourseCreatedEvent;
+import com.futesat.hexagonal.courses.infrastructure.bus.CourseCreatedEventCodec;
+import com.futesat.hexagonal.shared.domain.bus.event.DomainEvent;
+import com.futesat.hexagonal.shared.domain.bus.event.EventStreamFilter;
+import com.futesat.hexagonal.shared.infrastructure.bus.event.JavaDomainEventSerializer;
+import com.futesat.hexagonal.shared.infrastructure.bus.event.binary.BinaryDomainEventSerializer;
+import com.futesat.hexagonal.shared.infrastructure.bus.event.store.FileEventStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Event store throughput: appends (one event and batches of 100) and sequential replays of 100k stored events,
+// Rendimiento del event store: appends (un evento y lotes de 100) y relecturas secuenciales de 100k eventos guardados,
+// unfiltered (every event is deserialized) and by aggregate id (filtered on the record header, nothing deserialized).
+// sin filtro (se deserializa cada evento) y por id de agregado (filtrado en la cabecera del registro, sin deserializar).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventStoreBenchmark {
+
+    private static final int STORED_EVENTS = 100_000;
+    private static final int BATCH_SIZE = 100;
+
+    private Path directory;
+    private FileEventStore store;
+    private List<DomainEvent> single;
+    private List<DomainEvent> batch;
+    private String someAggregateId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("event-store-benchmark");
+        store = new FileEventStore(
+                new BinaryDomainEventSerializer(List.of(new CourseCreatedEventCodec()), new JavaDomainEventSerializer()),
+                directory, DataSize.ofMegabytes(64), 4096, false);
+        List<DomainEvent> events = new ArrayList<>(STORED_EVENTS);
+        for (int i = 0; i < STORED_EVENTS; i++) {
+            events.add(event());
+        }
+        store.append(events);
+        someAggregateId = events.get(STORED_EVENTS / 2).aggregateId();
+        single = List.of(event());
+        batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add(event());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        store.close();
+        try {
+            FileSystemUtils.deleteRecursively(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Benchmark
+    public long appendOne() {
+        store.append(single);
+        return store.nextOffset();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public long appendBatch() {
+        store.append(batch);
+        return store.nextOffset();
+    }
+
+    // Score = events read per second
+    // Puntuación = eventos leídos por segundo
+    @Benchmark
+    @OperationsPerInvocation(STORED_EVENTS)
+    public long replayAll(Blackhole blackhole) {
+        return store.replay(store.nextOffset() - STORED_EVENTS, EventStreamFilter.all(),
+                (offset, event) -> blackhole.consume(event));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STORED_EVENTS)
+    public long replayOneAggregate(Blackhole blackhole) {
+        return store.replay(0, EventStreamFilter.aggregate(someAggregateId),
+                (offset, event) -> blackhole.consume(event));
+    }
+
+    private static DomainEvent event() {
+        return new CourseCreatedEvent(UUID.randomUUID().toString(), "Event Sourcing Fundamentals", "3 hours");
+    }
+}
@@ -0,0 +1,168 @@
+package com.futesat.hexagonal.benchmarks.shared;
+
+import com.futesat.hexagonal.benchmarks.BenchmarkApplication;
+import com.futesat.hexagonal.courses.domain.CourseCreatedEvent;
+import com.futesat.hexagonal.notifications.domain.Email;
+import com.futesat.hexagonal.notifications.domain.EmailSender;
+import com.futesat.hexagonal.shared.domain.bus.event.DomainEvent;
+import com.futesat.hexagonal.shared.domain.bus.event.EventBus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Sustained concurrency with blocking work: platform thread pools vs virtual threads (spring.threads.virtual.enabled).
+// Concurrencia sostenida con trabajo bloqueante: pools de hilos de plataforma vs hilos virtuales.
+// Each operation is a burst of `concurrency` tasks; the score is the time until all of them finish.
+// Cada operación es una ráfaga de `concurrency` tareas; el resultado es el tiempo hasta que terminan todas.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ThreadingModeBenchmark {
+
+    private static final Duration SMTP_LATENCY = Duration.ofMillis(20);
+
+    @Param({ "platform", "virtual" })
+    public String threads;
+
+    @Param({ "500" })
+    public int concurrency;
+
+    private ConfigurableApplicationContext context;
+    private BlockingEmailSender emailSender;
+    private EventBus eventBus;
+    private ExecutorService clientExecutor;
+    private HttpClient httpClient;
+    private URI coursesUri;
+
+    @Setup
+    public void setUp() {
+        emailSender = new BlockingEmailSender(SMTP_LATENCY);
+        context = BenchmarkApplication.builder(
+                "spring.threads.virtual.enabled=" + "virtual".equals(threads),
+                "notifications.email.batch.enabled=false",
+                "server.port=0")
+                .web(WebApplicationType.SERVLET)
+                // The blocking SMTP stand-in replaces FakeEmailSender for SendWelcomeEmail
+                // El sustituto SMTP bloqueante reemplaza a FakeEmailSender para SendWelcomeEmail
+                .initializers(applicationContext -> ((GenericApplicationContext) applicationContext)
+                        .registerBean(BlockingEmailSender.class, () -> emailSender,
+                                definition -> definition.setPrimary(true)))
+                .run();
+        eventBus = context.getBean(EventBus.class);
+
+        // The client always uses virtual threads: only the server side changes between modes
+        // El cliente siempre usa hilos virtuales: solo cambia el lado servidor entre modos
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        httpClient = HttpClient.newBuilder().executor(clientExecutor).build();
+        coursesUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                + "/courses");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+        clientExecutor.close();
+    }
+
+    // @Async welcome emails (WelcomeEmailSubscriber.on): default executor vs one virtual thread per task
+    // Emails de bienvenida @Async (WelcomeEmailSubscriber.on): executor por defecto vs un hilo virtual por tarea
+    @Benchmark
+    public void asyncSubscribers() throws InterruptedException {
+        CountDownLatch delivered = emailSender.expect(concurrency);
+        List<DomainEvent> events = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            events.add(new CourseCreatedEvent(UUID.randomUUID().toString(), "Virtual Threads", "1 hour"));
+        }
+        eventBus.publish(events);
+        if (!delivered.await(1, TimeUnit.MINUTES)) {
+            throw new IllegalStateException("Welcome emails not delivered in time");
+        }
+    }
+
+    // Concurrent POST /courses (JDBC insert + event publication) against Tomcat's request threads
+    // POST /courses concurrentes (insert JDBC + publicación de evento) contra los hilos de petición de Tomcat
+    @Benchmark
+    public void servletRequests() {
+        List<CompletableFuture<HttpResponse<Void>>> responses = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            String body = "{\"id\":\"" + UUID.randomUUID()
+                    + "\",\"name\":\"Virtual Threads\",\"duration\":\"1 hour\"}";
+            HttpRequest request = HttpRequest.newBuilder(coursesUri)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            responses.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+        for (CompletableFuture<HttpResponse<Void>> response : responses) {
+            if (response.join().statusCode() != 201) {
+                throw new IllegalStateException("Unexpected status " + response.join().statusCode());
+            }
+        }
+    }
+
+    // EmailSender that blocks like a slow SMTP server and counts deliveries
+    // EmailSender que se bloquea como un servidor SMTP lento y cuenta las entregas
+    static class BlockingEmailSender implements EmailSender {
+
+        private final Duration latency;
+        private volatile CountDownLatch delivered = new CountDownLatch(0);
+
+        BlockingEmailSender(Duration latency) {
+            this.latency = latency;
+        }
+
+        CountDownLatch expect(int emails) {
+            delivered = new CountDownLatch(emails);
+            return delivered;
+        }
+
+        @Override
+        public void send(String recipient, String subject, String body) {
+            block();
+            delivered.countDown();
+        }
+
+        @Override
+        public void sendBatch(List<Email> emails) {
+            block();
+            emails.forEach(email -> delivered.countDown());
+        }
+
+        private void block() {
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.futesat.hexagonal.benchmarks.startup;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Startup benchmark: launches the packaged application in a fresh JVM per run and measures, from process start,
+// Benchmark de arranque: lanza la aplicación empaquetada en una JVM nueva por ejecución y mide, desde el inicio del proceso,
+//   time-to-ready: first 200 from /actuator/health (what a readiness probe waits for)
+//   time-to-ready: primer 200 de /actuator/health (lo que espera una readiness probe)
+//   time-to-first-response: first successful GET /courses/{id} sent right after (lazy beans are created here)
+//   time-to-first-response: primer GET /courses/{id} correcto enviado justo después (aquí se crean los beans lazy)
+// Modes: plain (eager), lazy (spring.main.lazy-initialization) and aot-cds (the -Pfast-startup build).
+// Modos: plain (eager), lazy (spring.main.lazy-initialization) y aot-cds (el build -Pfast-startup).
+// Arguments: runs=5 modes=plain,lazy,aot-cds app-dir=../target report-dir=target/startup timeout=60s
+// Argumentos: runs=5 modes=plain,lazy,aot-cds app-dir=../target report-dir=target/startup timeout=60s
+public final class StartupBenchmark {
+
+    private static final String ARTIFACT = "hexagonal-architecture-masterclass-1.0.0";
+    // Course created by DemoDataLoader before the application reports ready
+    // Curso creado por DemoDataLoader antes de que la aplicación se declare lista
+    private static final String DEMO_COURSE_ID = "1a9b456b-e85b-4b2a-a92c-d9a2c6d4838f";
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(5);
+
+    private final Path appDirectory;
+    private final Path reportDirectory;
+    private final Duration timeout;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    StartupBenchmark(Path appDirectory, Path reportDirectory, Duration timeout) {
+        this.appDirectory = appDirectory;
+        this.reportDirectory = reportDirectory;
+        this.timeout = timeout;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = 5;
+        List<String> modes = List.of("plain", "lazy", "aot-cds");
+        Path appDirectory = Path.of("..", "target");
+        Path reportDirectory = Path.of("target", "startup");
+        Duration timeout = Duration.ofSeconds(60);
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected key=value, got: " + arg);
+            }
+            String value = arg.substring(separator + 1);
+            switch (arg.substring(0, separator)) {
+                case "runs" -> runs = Integer.parseInt(value);
+                case "modes" -> modes = Arrays.asList(value.split(","));
+                case "app-dir" -> appDirectory = Path.of(value);
+                case "report-dir" -> reportDirectory = Path.of(value);
+                case "timeout" -> timeout = DurationStyle.detectAndParse(value);
+                default -> throw new IllegalArgumentException("Unknown startup benchmark option: " + arg);
+            }
+        }
+
+        StartupBenchmark benchmark = new StartupBenchmark(appDirectory, reportDirectory, timeout);
+        Files.createDirectories(reportDirectory);
+        StringBuilder summary = new StringBuilder(String.format("%-8s %-22s %-22s%n", "mode",
+                "time-to-ready (ms)", "time-to-first-response (ms)"))
+                .append(String.format("%-8s %-22s %-22s%n", "", "min / median / max", "min / median / max"));
+        List<String> csv = new ArrayList<>(List.of("mode,run,ready_ms,first_response_ms"));
+        for (String mode : modes) {
+            List<Long> ready = new ArrayList<>();
+            List<Long> firstResponse = new ArrayList<>();
+            for (int run = 1; run <= runs; run++) {
+                Timings timings = benchmark.launch(mode, run);
+                System.out.printf("%-8s run %d: ready %d ms, first response %d ms%n", mode, run,
+                        timings.readyMillis(), timings.firstResponseMillis());
+                ready.add(timings.readyMillis());
+                firstResponse.add(timings.firstResponseMillis());
+                csv.add(mode + "," + run + "," + timings.readyMillis() + "," + timings.firstResponseMillis());
+            }
+            summary.append(String.format("%-8s %-22s %-22s%n", mode, stats(ready), stats(firstResponse)));
+        }
+        Files.write(reportDirectory.resolve("startup-runs.csv"), csv);
+        Files.writeString(reportDirectory.resolve("startup-summary.txt"), summary);
+        System.out.print(summary);
+        System.out.printf("Reports written to %s%n", reportDirectory.toAbsolutePath());
+    }
+
+    private Timings launch(String mode, int run) throws IOException, InterruptedException {
+        int port = freePort();
+        Path runDirectory = reportDirectory.resolve(mode + "-" + run);
+        Files.createDirectories(runDirectory);
+        ProcessBuilder builder = new ProcessBuilder(command(mode, port, runDirectory))
+                .redirectErrorStream(true)
+                .redirectOutput(runDirectory.resolve("application.log").toFile());
+
+        long start = System.nanoTime();
+        Process process = builder.start();
+        try {
+            long deadline = start + timeout.toNanos();
+            awaitStatus(process, URI.create("http://localhost:" + port + "/actuator/health"), deadline);
+            long ready = System.nanoTime();
+            awaitStatus(process, URI.create("http://localhost:" + port + "/courses/" + DEMO_COURSE_ID), deadline);
+            long firstResponse = System.nanoTime();
+            return new Timings(TimeUnit.NANOSECONDS.toMillis(ready - start),
+                    TimeUnit.NANOSECONDS.toMillis(firstResponse - start));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private List<String> command(String mode, int port, Path runDirectory) {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        List<String> command = new ArrayList<>(List.of(java));
+        Path jar;
+        boolean lazy;
+        switch (mode) {
+            case "plain" -> {
+                jar = appDirectory.resolve(ARTIFACT + "-exec.jar");
+                lazy = false;
+            }
+            case "lazy" -> {
+                jar = appDirectory.resolve(ARTIFACT + "-exec.jar");
+                lazy = true;
+            }
+            case "aot-cds" -> {
+                Path directory = appDirectory.resolve("fast-startup");
+                jar = directory.resolve(ARTIFACT + "-fast-startup.jar");
+                command.add("-XX:SharedArchiveFile=" + directory.resolve("application.jsa"));
+                command.add("-Dspring.aot.enabled=true");
+                lazy = false;
+            }
+            default -> throw new IllegalArgumentException("Unknown mode: " + mode + " (plain, lazy, aot-cds)");
+        }
+        if (!Files.exists(jar)) {
+            throw new IllegalStateException(jar + " not found: build it first (make startup does)");
+        }
+        command.addAll(List.of("-jar", jar.toString(),
+                "--server.port=" + port,
+                "--spring.main.lazy-initialization=" + lazy,
+                "--event-store.directory=" + runDirectory.resolve("events")));
+        return command;
+    }
+
+    private void awaitStatus(Process process, URI uri, long deadlineNanos) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(timeout).GET().build();
+        while (System.nanoTime() < deadlineNanos) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Application exited with " + process.exitValue() + " (see its log)");
+            }
+            try {
+                if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet, or connection reset while Tomcat starts: try again
+                // Aún no escucha, o conexión reiniciada mientras arranca Tomcat: reintentamos
+            }
+            Thread.sleep(POLL_INTERVAL);
+        }
+        throw new IllegalStateException("No 200 from " + uri + " within " + timeout);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static String stats(List<Long> values) {
+        List<Long> sorted = values.stream().sorted().toList();
+        return String.format("%d / %d / %d", sorted.get(0), sorted.get(sorted.size() / 2),
+                sorted.get(sorted.size() - 1));
+    }
+
+    private record Timings(long readyMillis, long firstResponseMillis) {
+    }
+}
@@ -4,9 +4,13 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
-@EnableAsync
+// Class-based proxies: @Async subscribers also implement DomainEventSubscriber and must keep their class
+// Proxies basados en clase: los suscriptores @Async también implementan DomainEventSubscriber y deben mantener su clase
+@EnableAsync(proxyTargetClass = true)
+@EnableScheduling
 @ComponentScan(basePackages = {
 		"com.futesat.hexagonal.courses",
 		"com.futesat.hexagonal.notifications",
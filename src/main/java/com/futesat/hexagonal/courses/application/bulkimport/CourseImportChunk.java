@@ -0,0 +1,8 @@
+package com.futesat.hexagonal.courses.application.bulkimport;
+
+import java.util.List;
+
+// Consecutive raw records of the input, starting at line firstLine (1-based)
+// Registros en bruto consecutivos de la entrada, empezando en la línea firstLine (desde 1)
+public record CourseImportChunk(long firstLine, List<String> records) {
+}
@@ -0,0 +1,10 @@
+package com.futesat.hexagonal.courses.application.bulkimport;
+
+// Port to report an import as it runs. Called from several workers at once.
+// Puerto para informar de una importación mientras corre. Se llama desde varios workers a la vez.
+public interface CourseImportListener {
+
+    void rejected(long line, String id, String reason);
+
+    void progress(CourseImportProgress progress);
+}
@@ -0,0 +1,8 @@
+package com.futesat.hexagonal.courses.application.bulkimport;
+
+import java.io.Serializable;
+
+// Totals of an import so far (or of the whole import once it finishes)
+// Totales de una importación hasta el momento (o de toda la importación cuando termina)
+public record CourseImportProgress(long read, long imported, long rejected) implements Serializable {
+}
@@ -0,0 +1,6 @@
+package com.futesat.hexagonal.courses.application.bulkimport;
+
+// The raw fields of one record of the import file, not validated yet
+// Los campos en bruto de un registro del fichero de importación, aún sin validar
+public record CourseImportRow(String id, String name, String duration) {
+}
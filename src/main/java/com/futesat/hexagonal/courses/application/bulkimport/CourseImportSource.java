@@ -0,0 +1,19 @@
+package com.futesat.hexagonal.courses.application.bulkimport;
+
+// Port for the input of a bulk import (a CSV or NDJSON file, for instance).
+// Puerto para la entrada de una importación masiva (un fichero CSV o NDJSON, por ejemplo).
+// Reading is sequential and cheap; parsing is left apart so that it runs in parallel on the workers.
+// La lectura es secuencial y barata; el parseo se deja aparte para que corra en paralelo en los workers.
+public interface CourseImportSource extends AutoCloseable {
+
+    // The next raw records, with no records at the end of the input
+    // Los siguientes registros en bruto, sin registros al final de la entrada
+    CourseImportChunk nextChunk(int maxRecords);
+
+    // Thread-safe. Returns null for records to skip (blank lines); IllegalArgumentException when malformed
+    // Thread-safe. Devuelve null para registros a saltar (líneas en blanco); IllegalArgumentException si está mal formado
+    CourseImportRow parse(String record);
+
+    @Override
+    void close();
+}
@@ -0,0 +1,153 @@
+package com.futesat.hexagonal.courses.application.bulkimport;
+
+import com.futesat.hexagonal.courses.application.create.CourseCreationResult;
+import com.futesat.hexagonal.courses.application.create.CreateCourseCommand;
+import com.futesat.hexagonal.courses.application.create.CreateCoursesCommand;
+import com.futesat.hexagonal.courses.application.create.CreateCoursesCommandHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Bulk import pipeline: one thread reads chunks of raw records, a pool of workers parses, validates and stores them.
+// Pipeline de importación masiva: un hilo lee bloques de registros en bruto, un pool de workers los parsea, valida y guarda.
+// Each chunk goes through CreateCoursesCommandHandler: same domain rules, one batched saveAll and one event list per chunk.
+// Cada bloque pasa por CreateCoursesCommandHandler: mismas reglas de dominio, un saveAll por lotes y una lista de eventos por bloque.
+// At most 2 x parallelism chunks are in memory, whatever the size of the input.
+// Como mucho hay 2 x parallelism bloques en memoria, sea cual sea el tamaño de la entrada.
+public class ImportCoursesCommandHandler {
+
+    private final CreateCoursesCommandHandler createCoursesCommandHandler;
+    private final int chunkSize;
+    private final int parallelism;
+
+    public ImportCoursesCommandHandler(CreateCoursesCommandHandler createCoursesCommandHandler, int chunkSize,
+            int parallelism) {
+        this.createCoursesCommandHandler = createCoursesCommandHandler;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    public CourseImportProgress handle(CourseImportSource source, CourseImportListener listener) {
+        Counters counters = new Counters();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        int maxChunksInFlight = 2 * parallelism;
+        Semaphore inFlight = new Semaphore(maxChunksInFlight);
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(parallelism,
+                runnable -> new Thread(runnable, "course-import-" + threads.incrementAndGet()));
+        try {
+            CourseImportChunk chunk;
+            while (!(chunk = source.nextChunk(chunkSize)).records().isEmpty()) {
+                // Backpressure: the reader waits while the workers are behind
+                // Contrapresión: el lector espera mientras los workers van retrasados
+                inFlight.acquire();
+                if (failure.get() != null) {
+                    inFlight.release();
+                    break;
+                }
+                CourseImportChunk current = chunk;
+                workers.execute(() -> {
+                    try {
+                        importChunk(source, current, listener, counters);
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+            inFlight.acquire(maxChunksInFlight);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Course import interrupted", e);
+        } finally {
+            workers.shutdownNow();
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return counters.snapshot();
+    }
+
+    private void importChunk(CourseImportSource source, CourseImportChunk chunk, CourseImportListener listener,
+            Counters counters) {
+        List<CreateCourseCommand> commands = new ArrayList<>(chunk.records().size());
+        List<Long> lines = new ArrayList<>(chunk.records().size());
+        long line = chunk.firstLine();
+        int malformed = 0;
+        for (String record : chunk.records()) {
+            long current = line++;
+            CourseImportRow row;
+            try {
+                row = source.parse(record);
+            } catch (IllegalArgumentException e) {
+                listener.rejected(current, null, e.getMessage());
+                malformed++;
+                continue;
+            }
+            if (row != null) {
+                commands.add(new CreateCourseCommand(row.id(), row.name(), row.duration()));
+                lines.add(current);
+            }
+        }
+
+        int imported = 0;
+        if (!commands.isEmpty()) {
+            List<CourseCreationResult> results = create(commands);
+            for (int i = 0; i < results.size(); i++) {
+                CourseCreationResult result = results.get(i);
+                if (result.created()) {
+                    imported++;
+                } else {
+                    listener.rejected(lines.get(i), result.id(), result.error());
+                }
+            }
+        }
+        // Read = every non-blank record, whether it could be parsed or not
+        // Leídos = todos los registros no vacíos, se pudieran parsear o no
+        long read = commands.size() + malformed;
+        listener.progress(counters.add(read, imported, read - imported));
+    }
+
+    private List<CourseCreationResult> create(List<CreateCourseCommand> commands) {
+        try {
+            return createCoursesCommandHandler.handle(new CreateCoursesCommand(commands));
+        } catch (RuntimeException e) {
+            // The chunk was rolled back (usually an id stored meanwhile by another writer): row by row to find the culprits
+            // El bloque se deshizo (normalmente un id guardado mientras tanto por otro escritor): fila a fila para encontrar a los culpables
+            return commands.stream().map(this::createOne).toList();
+        }
+    }
+
+    private CourseCreationResult createOne(CreateCourseCommand command) {
+        try {
+            return createCoursesCommandHandler.handle(new CreateCoursesCommand(List.of(command))).get(0);
+        } catch (RuntimeException e) {
+            return CourseCreationResult.failed(command.id(), "Could not be stored: " + e.getClass().getSimpleName());
+        }
+    }
+
+    private static final class Counters {
+
+        private final AtomicLong read = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+
+        CourseImportProgress add(long read, long imported, long rejected) {
+            return new CourseImportProgress(
+                    this.read.addAndGet(read),
+                    this.imported.addAndGet(imported),
+                    this.rejected.addAndGet(rejected));
+        }
+
+        CourseImportProgress snapshot() {
+            return new CourseImportProgress(read.get(), imported.get(), rejected.get());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.futesat.hexagonal.courses.application.create;
+
+import java.io.Serializable;
+
+// Outcome of a single item inside a batch creation.
+// Resultado de un único elemento dentro de una creación por lotes.
+public record CourseCreationResult(String id, boolean created, String error) implements Serializable {
+
+    public static CourseCreationResult created(String id) {
+        return new CourseCreationResult(id, true, null);
+    }
+
+    public static CourseCreationResult failed(String id, String error) {
+        return new CourseCreationResult(id, false, error);
+    }
+}
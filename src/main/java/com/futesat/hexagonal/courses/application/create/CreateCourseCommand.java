@@ -1,5 +1,7 @@
 package com.futesat.hexagonal.courses.application.create;
 
+import com.futesat.hexagonal.shared.domain.bus.command.Command;
+
 // Immutable DTO representing the intention to create a course.
 // DTO inmutable que representa la intención de crear un curso.
 // In modern Java we could use records (Java 14+), but we use class for clarity in older versions if applicable,
@@ -7,5 +9,5 @@ package com.futesat.hexagonal.courses.application.create;
 // although here we use a standard class with getters.
 // aunque aquí usaremos una clase standard con getters.
 
-public record CreateCourseCommand(String id, String name, String duration) {
+public record CreateCourseCommand(String id, String name, String duration) implements Command {
 }
@@ -4,12 +4,13 @@ import com.futesat.hexagonal.courses.domain.Course;
 import com.futesat.hexagonal.courses.domain.CourseId;
 import com.futesat.hexagonal.courses.domain.CourseName;
 import com.futesat.hexagonal.courses.domain.CourseRepository;
+import com.futesat.hexagonal.shared.domain.bus.command.CommandHandler;
 import com.futesat.hexagonal.shared.domain.bus.event.DomainEvent;
 import com.futesat.hexagonal.shared.domain.bus.event.EventBus;
 
 import java.util.List;
 
-public class CreateCourseCommandHandler {
+public class CreateCourseCommandHandler implements CommandHandler<CreateCourseCommand> {
 
     private final CourseRepository repository;
     private final EventBus eventBus;
@@ -19,6 +20,12 @@ public class CreateCourseCommandHandler {
         this.eventBus = eventBus;
     }
 
+    @Override
+    public Class<CreateCourseCommand> subscribedTo() {
+        return CreateCourseCommand.class;
+    }
+
+    @Override
     public void handle(CreateCourseCommand command) {
         // 1. Convert primitive data to Value Objects
         // 1. Convertir datos primitivos a Value Objects
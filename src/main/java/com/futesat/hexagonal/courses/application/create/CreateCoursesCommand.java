@@ -0,0 +1,8 @@
+package com.futesat.hexagonal.courses.application.create;
+
+import java.util.List;
+
+// Intention to create many courses at once (bulk catalogue sync).
+// Intención de crear muchos cursos de una vez (sincronización masiva de catálogo).
+public record CreateCoursesCommand(List<CreateCourseCommand> courses) {
+}
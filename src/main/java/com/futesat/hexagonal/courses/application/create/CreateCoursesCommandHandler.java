@@ -0,0 +1,84 @@
+package com.futesat.hexagonal.courses.application.create;
+
+import com.futesat.hexagonal.courses.domain.Course;
+import com.futesat.hexagonal.courses.domain.CourseId;
+import com.futesat.hexagonal.courses.domain.CourseName;
+import com.futesat.hexagonal.courses.domain.CourseRepository;
+import com.futesat.hexagonal.shared.domain.bus.event.DomainEvent;
+import com.futesat.hexagonal.shared.domain.bus.event.EventBus;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class CreateCoursesCommandHandler {
+
+    private final CourseRepository repository;
+    private final EventBus eventBus;
+
+    public CreateCoursesCommandHandler(CourseRepository repository, EventBus eventBus) {
+        this.repository = repository;
+        this.eventBus = eventBus;
+    }
+
+    public List<CourseCreationResult> handle(CreateCoursesCommand command) {
+        List<CreateCourseCommand> items = command.courses();
+        List<CourseCreationResult> results = new ArrayList<>(items.size());
+        List<Course> candidates = new ArrayList<>(items.size());
+        List<Integer> positions = new ArrayList<>(items.size());
+        Set<CourseId> seenIds = new HashSet<>();
+
+        // 1. Validate every item in one pass: an invalid item does not abort the batch
+        // 1. Validar todos los elementos en una pasada: un elemento inválido no aborta el lote
+        for (CreateCourseCommand item : items) {
+            try {
+                CourseId id = new CourseId(item.id());
+                if (!seenIds.add(id)) {
+                    results.add(CourseCreationResult.failed(item.id(), "Duplicated id in batch"));
+                    continue;
+                }
+                candidates.add(Course.create(id, new CourseName(item.name()), item.duration()));
+                positions.add(results.size());
+                results.add(CourseCreationResult.created(item.id()));
+            } catch (IllegalArgumentException e) {
+                results.add(CourseCreationResult.failed(item.id(), e.getMessage()));
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            return results;
+        }
+
+        // 2. Ids that are already stored fail on their own: one of them in saveAll would abort the whole batch
+        // 2. Los ids ya guardados fallan por separado: uno solo de ellos en saveAll abortaría todo el lote
+        Set<CourseId> storedIds = new HashSet<>();
+        repository.searchAll(candidates.stream().map(Course::id).toList()).forEach(course -> storedIds.add(course.id()));
+        List<Course> courses = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            Course course = candidates.get(i);
+            if (storedIds.contains(course.id())) {
+                int position = positions.get(i);
+                results.set(position, CourseCreationResult.failed(results.get(position).id(), "Course already exists"));
+            } else {
+                courses.add(course);
+            }
+        }
+
+        if (courses.isEmpty()) {
+            return results;
+        }
+
+        // 3. Persist all valid new courses through the batched port method
+        // 3. Persistir todos los cursos válidos nuevos mediante el método por lotes del puerto
+        repository.saveAll(courses);
+
+        // 4. Publish the events of the whole batch as a single list
+        // 4. Publicar los eventos de todo el lote como una única lista
+        List<DomainEvent> events = new ArrayList<>(courses.size());
+        courses.forEach(course -> events.addAll(course.pullDomainEvents()));
+        eventBus.publish(events);
+
+        return results;
+    }
+}
@@ -0,0 +1,10 @@
+package com.futesat.hexagonal.courses.application.export;
+
+// Read-side port for bulk exports: rows are pushed one by one as they are read, nothing is accumulated
+// Puerto de lectura para exportaciones masivas: las filas se empujan una a una según se leen, nada se acumula
+public interface CourseCatalogueReader {
+
+    // Returns the number of rows read
+    // Devuelve el número de filas leídas
+    long readAll(CourseRowHandler handler);
+}
@@ -0,0 +1,11 @@
+package com.futesat.hexagonal.courses.application.export;
+
+import java.util.UUID;
+
+// Receives the raw columns of one course: no aggregate and no DTO is built per row
+// Recibe las columnas en bruto de un curso: no se construye ni agregado ni DTO por fila
+@FunctionalInterface
+public interface CourseRowHandler {
+
+    void handle(UUID id, String name, String duration);
+}
@@ -0,0 +1,8 @@
+package com.futesat.hexagonal.courses.application.export;
+
+import com.futesat.hexagonal.shared.domain.bus.query.Query;
+
+// Question: the whole catalogue, row by row to the given handler; the answer is the number of rows
+// Pregunta: todo el catálogo, fila a fila al handler indicado; la respuesta es el número de filas
+public record ExportCoursesQuery(CourseRowHandler rows) implements Query<Long> {
+}
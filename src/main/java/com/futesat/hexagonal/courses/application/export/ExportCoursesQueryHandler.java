@@ -0,0 +1,24 @@
+package com.futesat.hexagonal.courses.application.export;
+
+import com.futesat.hexagonal.shared.domain.bus.query.QueryHandler;
+
+public class ExportCoursesQueryHandler implements QueryHandler<ExportCoursesQuery, Long> {
+
+    private final CourseCatalogueReader reader;
+
+    public ExportCoursesQueryHandler(CourseCatalogueReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public Class<ExportCoursesQuery> subscribedTo() {
+        return ExportCoursesQuery.class;
+    }
+
+    // The whole catalogue, in constant memory: the caller writes each row out before the next one is read
+    // Todo el catálogo, en memoria constante: quien llama escribe cada fila antes de que se lea la siguiente
+    @Override
+    public Long handle(ExportCoursesQuery query) {
+        return reader.readAll(query.rows());
+    }
+}
@@ -0,0 +1,16 @@
+package com.futesat.hexagonal.courses.application.find;
+
+import java.io.Serializable;
+
+// Outcome of a single id inside a multi-get: the course, or why there is none.
+// Resultado de un único id dentro de un multi-get: el curso, o por qué no lo hay.
+public record CourseLookupResult(String id, boolean found, CourseResponse course, String error) implements Serializable {
+
+    public static CourseLookupResult found(String id, CourseResponse course) {
+        return new CourseLookupResult(id, true, course, null);
+    }
+
+    public static CourseLookupResult failed(String id, String error) {
+        return new CourseLookupResult(id, false, null, error);
+    }
+}
@@ -0,0 +1,15 @@
+package com.futesat.hexagonal.courses.application.find;
+
+import com.futesat.hexagonal.courses.domain.CourseId;
+
+import java.util.Optional;
+
+// Port for the query side: ready-to-return course views, kept apart from the write model.
+// Puerto para el lado de lectura: vistas de curso listas para devolver, separadas del modelo de escritura.
+// It is fed by CourseReadModelProjector and may lag behind the write side (or not hold every course).
+// Se alimenta desde CourseReadModelProjector y puede ir por detrás del lado de escritura (o no tener todos los cursos).
+public interface CourseReadModel {
+    Optional<CourseResponse> find(CourseId id);
+
+    void save(CourseId id, CourseResponse view);
+}
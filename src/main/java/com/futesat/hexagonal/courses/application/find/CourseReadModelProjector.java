@@ -0,0 +1,30 @@
+package com.futesat.hexagonal.courses.application.find;
+
+import com.futesat.hexagonal.courses.application.export.CourseCatalogueReader;
+import com.futesat.hexagonal.courses.domain.CourseCreatedEvent;
+import com.futesat.hexagonal.courses.domain.CourseId;
+
+// Turns what happens on the write side into course views: one event at a time, or the whole catalogue at once.
+// Convierte lo que ocurre en el lado de escritura en vistas de curso: evento a evento, o todo el catálogo de una vez.
+// Courses are immutable and never deleted, so projecting the same course twice is harmless.
+// Los cursos son inmutables y nunca se borran, así que proyectar dos veces el mismo curso es inocuo.
+public class CourseReadModelProjector {
+
+    private final CourseReadModel readModel;
+
+    public CourseReadModelProjector(CourseReadModel readModel) {
+        this.readModel = readModel;
+    }
+
+    public void on(CourseCreatedEvent event) {
+        CourseId id = new CourseId(event.getAggregateId());
+        readModel.save(id, new CourseResponse(id.getValue(), event.getName(), event.getDuration()));
+    }
+
+    // Full rebuild from the write side: rows go straight to views, no aggregate is built
+    // Reconstrucción completa desde el lado de escritura: las filas van directas a vistas, sin construir agregados
+    public long rebuild(CourseCatalogueReader reader) {
+        return reader.readAll((id, name, duration) -> readModel.save(CourseId.fromUuid(id),
+                new CourseResponse(id.toString(), name, duration)));
+    }
+}
@@ -0,0 +1,14 @@
+package com.futesat.hexagonal.courses.application.find;
+
+import java.io.Serializable;
+import java.util.List;
+
+// Answer of a multi-get: totals + one result per requested id (same order as the request)
+// Respuesta de un multi-get: totales + un resultado por id pedido (mismo orden que la petición)
+public record CoursesLookupResponse(int found, int missing, List<CourseLookupResult> items) implements Serializable {
+
+    static CoursesLookupResponse of(List<CourseLookupResult> items) {
+        int found = (int) items.stream().filter(CourseLookupResult::found).count();
+        return new CoursesLookupResponse(found, items.size() - found, items);
+    }
+}
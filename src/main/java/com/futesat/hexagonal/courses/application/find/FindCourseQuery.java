@@ -0,0 +1,8 @@
+package com.futesat.hexagonal.courses.application.find;
+
+import com.futesat.hexagonal.shared.domain.bus.query.Query;
+
+// Question: which course has this id?
+// Pregunta: ¿qué curso tiene este id?
+public record FindCourseQuery(String id) implements Query<CourseResponse> {
+}
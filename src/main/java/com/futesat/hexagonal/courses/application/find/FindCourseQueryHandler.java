@@ -2,21 +2,35 @@ package com.futesat.hexagonal.courses.application.find;
 
 import com.futesat.hexagonal.courses.domain.CourseId;
 import com.futesat.hexagonal.courses.domain.CourseRepository;
+import com.futesat.hexagonal.shared.domain.bus.query.QueryHandler;
 
-public class FindCourseQueryHandler {
+// Served from the read model; the write model is only asked for courses the projection has not reached yet
+// Se sirve desde el modelo de lectura; al de escritura solo se le pregunta por cursos que la proyección aún no tiene
+// (asynchronous buses, or a rebuild still running), so a course is never reported missing after its creation.
+// (buses asíncronos, o una reconstrucción aún en marcha), así que un curso nunca aparece como inexistente tras crearse.
+public class FindCourseQueryHandler implements QueryHandler<FindCourseQuery, CourseResponse> {
 
+    private final CourseReadModel readModel;
     private final CourseRepository repository;
 
-    public FindCourseQueryHandler(CourseRepository repository) {
+    public FindCourseQueryHandler(CourseReadModel readModel, CourseRepository repository) {
+        this.readModel = readModel;
         this.repository = repository;
     }
 
-    public CourseResponse handle(String id) {
+    @Override
+    public Class<FindCourseQuery> subscribedTo() {
+        return FindCourseQuery.class;
+    }
+
+    @Override
+    public CourseResponse handle(FindCourseQuery query) {
+        String id = query.id();
         CourseId courseId = new CourseId(id); // We validate UUID format when instantiating
                                               // Validamos formato UUID al instanciar
 
-        return repository.search(courseId)
-                .map(CourseResponse::fromAggregate)
+        return readModel.find(courseId)
+                .or(() -> repository.search(courseId).map(CourseResponse::fromAggregate))
                 .orElseThrow(() -> new CourseNotFound(id));
     }
 }
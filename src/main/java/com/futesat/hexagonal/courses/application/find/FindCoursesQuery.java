@@ -0,0 +1,10 @@
+package com.futesat.hexagonal.courses.application.find;
+
+import com.futesat.hexagonal.shared.domain.bus.query.Query;
+
+import java.util.List;
+
+// Question: which courses have these ids? (one answer per id, in the same order)
+// Pregunta: ¿qué cursos tienen estos ids? (una respuesta por id, en el mismo orden)
+public record FindCoursesQuery(List<String> ids) implements Query<CoursesLookupResponse> {
+}
@@ -0,0 +1,84 @@
+package com.futesat.hexagonal.courses.application.find;
+
+import com.futesat.hexagonal.courses.domain.Course;
+import com.futesat.hexagonal.courses.domain.CourseId;
+import com.futesat.hexagonal.courses.domain.CourseRepository;
+import com.futesat.hexagonal.shared.domain.bus.query.QueryHandler;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Multi-get for catalogue pages: the read model answers what it has and every remaining id goes to the
+// Multi-get para las páginas del catálogo: el modelo de lectura responde lo que tiene y todos los ids restantes van al
+// write model in a single searchAll, instead of one GET /courses/{id} (and one lookup) per course.
+// modelo de escritura en un único searchAll, en lugar de un GET /courses/{id} (y una búsqueda) por curso.
+// An invalid or unknown id is reported in its own item: it never fails the whole request.
+// Un id inválido o inexistente se informa en su propio elemento: nunca hace fallar toda la petición.
+public class FindCoursesQueryHandler implements QueryHandler<FindCoursesQuery, CoursesLookupResponse> {
+
+    public static final int MAX_IDS = 1_000;
+
+    private final CourseReadModel readModel;
+    private final CourseRepository repository;
+
+    public FindCoursesQueryHandler(CourseReadModel readModel, CourseRepository repository) {
+        this.readModel = readModel;
+        this.repository = repository;
+    }
+
+    @Override
+    public Class<FindCoursesQuery> subscribedTo() {
+        return FindCoursesQuery.class;
+    }
+
+    @Override
+    public CoursesLookupResponse handle(FindCoursesQuery query) {
+        List<String> ids = query.ids();
+        if (ids.isEmpty() || ids.size() > MAX_IDS) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_IDS + " ids can be requested at once");
+        }
+
+        // 1. Validate every id and take what the read model already has
+        // 1. Validar todos los ids y tomar lo que ya tiene el modelo de lectura
+        CourseLookupResult[] results = new CourseLookupResult[ids.size()];
+        CourseId[] courseIds = new CourseId[ids.size()];
+        Set<CourseId> pending = new LinkedHashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            String id = ids.get(i);
+            try {
+                courseIds[i] = new CourseId(id);
+            } catch (IllegalArgumentException e) {
+                results[i] = CourseLookupResult.failed(id, e.getMessage());
+                continue;
+            }
+            CourseResponse view = readModel.find(courseIds[i]).orElse(null);
+            if (view != null) {
+                results[i] = CourseLookupResult.found(id, view);
+            } else {
+                pending.add(courseIds[i]);
+            }
+        }
+
+        // 2. One batched lookup for the rest; whatever it does not return does not exist
+        // 2. Una única búsqueda por lotes para el resto; lo que no devuelva no existe
+        if (!pending.isEmpty()) {
+            Map<CourseId, CourseResponse> stored = new HashMap<>();
+            for (Course course : repository.searchAll(pending)) {
+                stored.put(course.id(), CourseResponse.fromAggregate(course));
+            }
+            for (int i = 0; i < results.length; i++) {
+                if (results[i] == null) {
+                    CourseResponse course = stored.get(courseIds[i]);
+                    results[i] = course != null
+                            ? CourseLookupResult.found(ids.get(i), course)
+                            : CourseLookupResult.failed(ids.get(i), "Course not found");
+                }
+            }
+        }
+
+        return CoursesLookupResponse.of(List.of(results));
+    }
+}
@@ -0,0 +1,11 @@
+package com.futesat.hexagonal.courses.application.list;
+
+import com.futesat.hexagonal.courses.application.find.CourseResponse;
+
+import java.io.Serializable;
+import java.util.List;
+
+// One page of courses. nextAfter is the id to continue from, or null when there are no more pages.
+// Una página de cursos. nextAfter es el id desde el que continuar, o null si no hay más páginas.
+public record CoursesResponse(List<CourseResponse> courses, String nextAfter) implements Serializable {
+}
@@ -0,0 +1,8 @@
+package com.futesat.hexagonal.courses.application.list;
+
+import com.futesat.hexagonal.shared.domain.bus.query.Query;
+
+// Question: which page of courses comes after this id? (after = null for the first page)
+// Pregunta: ¿qué página de cursos viene tras este id? (after = null para la primera página)
+public record ListCoursesQuery(String after, int limit) implements Query<CoursesResponse> {
+}
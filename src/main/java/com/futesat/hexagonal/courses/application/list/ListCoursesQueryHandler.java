@@ -0,0 +1,47 @@
+package com.futesat.hexagonal.courses.application.list;
+
+import com.futesat.hexagonal.courses.application.find.CourseResponse;
+import com.futesat.hexagonal.courses.domain.Course;
+import com.futesat.hexagonal.courses.domain.CourseId;
+import com.futesat.hexagonal.courses.domain.CourseRepository;
+import com.futesat.hexagonal.shared.domain.bus.query.QueryHandler;
+
+import java.util.List;
+
+public class ListCoursesQueryHandler implements QueryHandler<ListCoursesQuery, CoursesResponse> {
+
+    public static final int MAX_LIMIT = 1_000;
+
+    private final CourseRepository repository;
+
+    public ListCoursesQueryHandler(CourseRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public Class<ListCoursesQuery> subscribedTo() {
+        return ListCoursesQuery.class;
+    }
+
+    // after = id of the last course of the previous page (null for the first page)
+    // after = id del último curso de la página anterior (null para la primera página)
+    @Override
+    public CoursesResponse handle(ListCoursesQuery query) {
+        String after = query.after();
+        int limit = query.limit();
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("The limit must be between 1 and " + MAX_LIMIT);
+        }
+        CourseId afterId = after == null ? null : new CourseId(after);
+
+        // One extra row tells us whether there is a next page without a COUNT query
+        // Una fila extra nos dice si hay siguiente página sin una consulta COUNT
+        List<Course> courses = repository.searchAfter(afterId, limit + 1);
+        boolean hasMore = courses.size() > limit;
+        List<Course> page = hasMore ? courses.subList(0, limit) : courses;
+
+        return new CoursesResponse(
+                page.stream().map(CourseResponse::fromAggregate).toList(),
+                hasMore ? page.get(limit - 1).id().getValue() : null);
+    }
+}
@@ -0,0 +1,15 @@
+package com.futesat.hexagonal.courses.application.search;
+
+import java.util.List;
+import java.util.UUID;
+
+// Port for typeahead: completes course names by prefix without touching the courses table
+// Puerto para el typeahead: completa nombres de curso por prefijo sin tocar la tabla courses
+public interface CourseNameIndex {
+
+    void add(UUID id, String name);
+
+    // At most limit names starting with prefix (case and accent insensitive), in alphabetical order
+    // Como mucho limit nombres que empiezan por prefix (sin distinguir mayúsculas ni acentos), en orden alfabético
+    List<CourseNameSuggestion> complete(String prefix, int limit);
+}
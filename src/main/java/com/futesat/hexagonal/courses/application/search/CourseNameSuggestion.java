@@ -0,0 +1,6 @@
+package com.futesat.hexagonal.courses.application.search;
+
+import java.io.Serializable;
+
+public record CourseNameSuggestion(String id, String name) implements Serializable {
+}
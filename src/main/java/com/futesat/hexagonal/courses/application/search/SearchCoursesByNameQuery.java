@@ -0,0 +1,10 @@
+package com.futesat.hexagonal.courses.application.search;
+
+import com.futesat.hexagonal.shared.domain.bus.query.Query;
+
+import java.util.List;
+
+// Question: which courses have a name starting with this prefix?
+// Pregunta: ¿qué cursos tienen un nombre que empieza por este prefijo?
+public record SearchCoursesByNameQuery(String prefix, int limit) implements Query<List<CourseNameSuggestion>> {
+}
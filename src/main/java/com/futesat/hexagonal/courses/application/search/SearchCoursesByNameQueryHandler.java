@@ -0,0 +1,36 @@
+package com.futesat.hexagonal.courses.application.search;
+
+import com.futesat.hexagonal.shared.domain.bus.query.QueryHandler;
+
+import java.util.List;
+
+public class SearchCoursesByNameQueryHandler
+        implements QueryHandler<SearchCoursesByNameQuery, List<CourseNameSuggestion>> {
+
+    public static final int MAX_LIMIT = 50;
+    public static final int MAX_PREFIX_LENGTH = 100;
+
+    private final CourseNameIndex index;
+
+    public SearchCoursesByNameQueryHandler(CourseNameIndex index) {
+        this.index = index;
+    }
+
+    @Override
+    public Class<SearchCoursesByNameQuery> subscribedTo() {
+        return SearchCoursesByNameQuery.class;
+    }
+
+    @Override
+    public List<CourseNameSuggestion> handle(SearchCoursesByNameQuery query) {
+        String prefix = query.prefix();
+        int limit = query.limit();
+        if (prefix == null || prefix.isBlank() || prefix.length() > MAX_PREFIX_LENGTH) {
+            throw new IllegalArgumentException("The prefix must have between 1 and " + MAX_PREFIX_LENGTH + " characters");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("The limit must be between 1 and " + MAX_LIMIT);
+        }
+        return index.complete(prefix, limit);
+    }
+}
@@ -37,8 +37,12 @@ public class Course extends AggregateRoot {
     // Method to rehydrate from infrastructure (DB) without triggering events
     // Método para rehidratar desde infraestructura (BBDD) sin disparar eventos
     public static Course from(String id, String name, String duration) {
+        return from(new CourseId(id), name, duration);
+    }
+
+    public static Course from(CourseId id, String name, String duration) {
         return new Course(
-                new CourseId(id),
+                id,
                 new CourseName(name),
                 duration);
     }
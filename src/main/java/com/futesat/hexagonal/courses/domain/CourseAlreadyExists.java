@@ -0,0 +1,19 @@
+package com.futesat.hexagonal.courses.domain;
+
+import java.util.List;
+
+// A course with this id is already stored: creating it again is a conflict, never an overwrite
+// Ya hay un curso guardado con este id: crearlo otra vez es un conflicto, nunca una sobrescritura
+public class CourseAlreadyExists extends RuntimeException {
+    public CourseAlreadyExists(CourseId id) {
+        super("Course already exists with id: " + id.getValue());
+    }
+
+    // A rejected batch: the storage only reports that one of its ids is taken, not which one
+    // Un lote rechazado: el almacenamiento solo informa de que uno de sus ids está ocupado, no de cuál
+    public CourseAlreadyExists(List<CourseId> batch) {
+        super(batch.size() == 1
+                ? "Course already exists with id: " + batch.get(0).getValue()
+                : "At least one of " + batch.size() + " courses already exists");
+    }
+}
@@ -2,6 +2,8 @@ package com.futesat.hexagonal.courses.domain;
 
 import com.futesat.hexagonal.shared.domain.bus.event.DomainEvent;
 
+import java.time.LocalDateTime;
+
 public class CourseCreatedEvent extends DomainEvent {
     private final String name;
     private final String duration;
@@ -12,6 +14,12 @@ public class CourseCreatedEvent extends DomainEvent {
         this.duration = duration;
     }
 
+    public CourseCreatedEvent(String id, String name, String duration, String eventId, LocalDateTime occurredOn) {
+        super(id, eventId, occurredOn);
+        this.name = name;
+        this.duration = duration;
+    }
+
     @Override
     public String eventName() {
         return "course.created";
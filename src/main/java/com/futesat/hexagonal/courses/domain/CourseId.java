@@ -2,6 +2,8 @@ package com.futesat.hexagonal.courses.domain;
 
 import com.futesat.hexagonal.shared.domain.Identifier;
 
+import java.util.UUID;
+
 // Now CourseId is much simpler and inherits all UUID validation power
 // Ahora CourseId es mucho más simple y hereda toda la potencia de validación de UUID
 public class CourseId extends Identifier {
@@ -10,6 +12,16 @@ public class CourseId extends Identifier {
         super(value);
     }
 
+    private CourseId(UUID value) {
+        super(value);
+    }
+
+    // From infrastructure that already stores the binary form (no parsing)
+    // Desde infraestructura que ya guarda la forma binaria (sin parseo)
+    public static CourseId fromUuid(UUID value) {
+        return new CourseId(value);
+    }
+
     // We could add specific methods here if necessary
     // Aquí podríamos añadir métodos específicos si fuera necesario
     // but base validation is already done in the parent.
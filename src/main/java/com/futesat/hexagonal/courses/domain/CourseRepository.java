@@ -1,5 +1,7 @@
 package com.futesat.hexagonal.courses.domain;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 // Output Port.
@@ -9,7 +11,27 @@ import java.util.Optional;
 // The implementation (Adapter) will go in 'infrastructure'.
 // La implementación (Adapter) irá en 'infrastructure'.
 public interface CourseRepository {
+    // Stores a new course. Every adapter is insert-only and throws CourseAlreadyExists for a taken id
+    // Guarda un curso nuevo. Todos los adaptadores son solo de inserción y lanzan CourseAlreadyExists si el id ya existe
     void save(Course course);
 
+    // Persists many courses in one go (adapters may use a single round-trip per batch).
+    // Persiste muchos cursos de una vez (los adaptadores pueden usar un solo round-trip por lote).
+    // All or nothing: a taken id rejects the whole batch with CourseAlreadyExists
+    // Todo o nada: un id ocupado rechaza todo el lote con CourseAlreadyExists
+    void saveAll(List<Course> courses);
+
     Optional<Course> search(CourseId id);
+
+    // Multi-get: the courses found among 'ids', in no particular order (missing ids are simply not returned).
+    // Multi-get: los cursos encontrados entre 'ids', sin un orden concreto (los ids inexistentes simplemente no vuelven).
+    // Adapters must answer with as few round-trips as they can, never one lookup per id against a database.
+    // Los adaptadores deben responder con las menos idas y vueltas posibles, nunca una búsqueda por id contra una base de datos.
+    List<Course> searchAll(Collection<CourseId> ids);
+
+    // Keyset pagination: up to 'limit' courses with an id greater than 'after' (null = from the start), ordered by id.
+    // Paginación keyset: hasta 'limit' cursos con id mayor que 'after' (null = desde el principio), ordenados por id.
+    // Adapters must seek directly to 'after' (index range scan), never skip rows with OFFSET.
+    // Los adaptadores deben saltar directamente a 'after' (range scan del índice), nunca saltar filas con OFFSET.
+    List<Course> searchAfter(CourseId after, int limit);
 }
@@ -1,26 +1,190 @@
 package com.futesat.hexagonal.courses.infrastructure;
 
+import com.futesat.hexagonal.courses.application.bulkimport.ImportCoursesCommandHandler;
 import com.futesat.hexagonal.courses.application.create.CreateCourseCommandHandler;
+import com.futesat.hexagonal.courses.application.create.CreateCoursesCommandHandler;
+import com.futesat.hexagonal.courses.application.export.CourseCatalogueReader;
+import com.futesat.hexagonal.courses.application.export.ExportCoursesQueryHandler;
+import com.futesat.hexagonal.courses.application.find.CourseReadModel;
+import com.futesat.hexagonal.courses.application.find.CourseReadModelProjector;
 import com.futesat.hexagonal.courses.application.find.FindCourseQueryHandler;
+import com.futesat.hexagonal.courses.application.find.FindCoursesQueryHandler;
+import com.futesat.hexagonal.courses.application.list.ListCoursesQueryHandler;
+import com.futesat.hexagonal.courses.application.search.CourseNameIndex;
+import com.futesat.hexagonal.courses.application.search.SearchCoursesByNameQueryHandler;
+import com.futesat.hexagonal.courses.domain.CourseRepository;
+import com.futesat.hexagonal.courses.infrastructure.persistence.InMemoryCourseRepository;
+import com.futesat.hexagonal.courses.infrastructure.persistence.KeysetCourseCatalogueReader;
+import com.futesat.hexagonal.courses.infrastructure.persistence.cache.CachingCourseRepository;
+import com.futesat.hexagonal.courses.infrastructure.persistence.groupcommit.GroupCommitCourseRepository;
+import com.futesat.hexagonal.courses.infrastructure.persistence.jpa.JdbcCourseCatalogueReader;
 import com.futesat.hexagonal.courses.infrastructure.persistence.jpa.JpaCourseRepository;
+import com.futesat.hexagonal.courses.infrastructure.persistence.mmap.MappedCourseRepository;
 import com.futesat.hexagonal.shared.domain.bus.event.EventBus;
+import com.futesat.hexagonal.shared.infrastructure.metrics.MeteredPort;
+import com.futesat.hexagonal.shared.infrastructure.persistence.TransactionalProxy;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
 
 @Configuration
 public class CourseModuleDependencyConfig {
 
+    // We compose the repository the handlers will use: adapter (JPA, in-memory or mmap) + optional decorators
+    // Componemos el repositorio que usarán los handlers: adaptador (JPA, en memoria o mmap) + decoradores opcionales
+    // With group commit the bean is AutoCloseable (through the metered proxy too): Spring drains its queue on shutdown
+    // Con group commit el bean es AutoCloseable (también a través del proxy medido): Spring vacía su cola al apagarse
+    @Bean
+    @Primary
+    public CourseRepository courseRepository(
+            @Value("${courses.persistence:jpa}") String persistence,
+            ObjectProvider<JpaCourseRepository> jpaRepository,
+            ObjectProvider<InMemoryCourseRepository> inMemoryRepository,
+            ObjectProvider<MappedCourseRepository> mappedRepository,
+            MeterRegistry meterRegistry,
+            @Value("${courses.cache.enabled:false}") boolean cacheEnabled,
+            @Value("${courses.cache.maximum-size:10000}") long cacheMaximumSize,
+            @Value("${courses.cache.ttl:10m}") Duration cacheTtl,
+            @Value("${courses.group-commit.enabled:false}") boolean groupCommitEnabled,
+            @Value("${courses.group-commit.max-group-size:256}") int groupCommitMaxGroupSize,
+            @Value("${courses.group-commit.max-delay:2ms}") Duration groupCommitMaxDelay,
+            @Value("${courses.group-commit.queue-capacity:10000}") int groupCommitQueueCapacity,
+            @Value("${ports.metrics.enabled:true}") boolean metricsEnabled) {
+        CourseRepository adapter = switch (persistence) {
+            case "in-memory" -> inMemoryRepository.getObject();
+            case "mmap" -> mappedRepository.getObject();
+            default -> jpaRepository.getObject();
+        };
+        CourseRepository repository = cacheEnabled
+                ? new CachingCourseRepository(adapter, cacheMaximumSize, cacheTtl, meterRegistry)
+                : adapter;
+        if (groupCommitEnabled) {
+            repository = new GroupCommitCourseRepository(repository, groupCommitMaxGroupSize, groupCommitMaxDelay,
+                    groupCommitQueueCapacity, meterRegistry);
+        }
+        // Measured outermost: the latency the handlers actually see, cache hits included
+        // Medido en la capa más externa: la latencia que ven realmente los handlers, aciertos de caché incluidos
+        return metricsEnabled ? MeteredPort.wrap(CourseRepository.class, repository, meterRegistry) : repository;
+    }
+
     // We teach Spring how to create the CREATE Handler
     // Enseñamos a Spring cómo crear el Handler de CREAR
+    // Saving the course and publishing its events share one transaction (required by the outbox)
+    // Guardar el curso y publicar sus eventos comparten una transacción (lo requiere el outbox)
+    // Except with group commit: the course is stored by the flusher thread in the transaction of its group, and a
+    // Salvo con group commit: el curso lo guarda el hilo flusher en la transacción de su grupo, y una
+    // handler transaction would only hold a pooled connection while waiting for it
+    // transacción del handler solo retendría una conexión del pool mientras lo espera
     @Bean
-    public CreateCourseCommandHandler createCourseCommandHandler(JpaCourseRepository repository, EventBus eventBus) {
-        return new CreateCourseCommandHandler(repository, eventBus);
+    public CreateCourseCommandHandler createCourseCommandHandler(
+            CourseRepository repository,
+            EventBus eventBus,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${ports.metrics.enabled:true}") boolean metricsEnabled,
+            @Value("${courses.group-commit.enabled:false}") boolean groupCommitEnabled,
+            @Value("${event-bus.mode:spring}") String eventBusMode) {
+        CreateCourseCommandHandler handler = new CreateCourseCommandHandler(repository,
+                metered(eventBus, meterRegistry, metricsEnabled));
+        if (!groupCommitEnabled) {
+            return TransactionalProxy.wrap(handler, transactionManager);
+        }
+        if ("outbox".equals(eventBusMode)) {
+            throw new IllegalStateException(
+                    "courses.group-commit.enabled cannot be combined with event-bus.mode=outbox: the course and its "
+                            + "events would no longer be stored in the same transaction");
+        }
+        return handler;
+    }
+
+    // We teach Spring how to create the BATCH CREATE Handler
+    // Enseñamos a Spring cómo crear el Handler de CREAR EN LOTE
+    @Bean
+    public CreateCoursesCommandHandler createCoursesCommandHandler(
+            CourseRepository repository,
+            EventBus eventBus,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${ports.metrics.enabled:true}") boolean metricsEnabled) {
+        return TransactionalProxy.wrap(new CreateCoursesCommandHandler(repository, metered(eventBus, meterRegistry, metricsEnabled)),
+                transactionManager);
+    }
+
+    // We teach Spring how to create the IMPORT Handler (it reuses the transactional batch handler per chunk)
+    // Enseñamos a Spring cómo crear el Handler de IMPORTAR (reutiliza por bloque el handler transaccional de lotes)
+    @Bean
+    public ImportCoursesCommandHandler importCoursesCommandHandler(
+            CreateCoursesCommandHandler createCoursesCommandHandler,
+            @Value("${courses.import.chunk-size:5000}") int chunkSize,
+            @Value("${courses.import.parallelism:0}") int parallelism) {
+        return new ImportCoursesCommandHandler(createCoursesCommandHandler, chunkSize,
+                parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
     }
 
     // We teach Spring how to create the SEARCH Handler
     // Enseñamos a Spring cómo crear el Handler de BUSCAR
     @Bean
-    public FindCourseQueryHandler findCourseQueryHandler(JpaCourseRepository repository) {
-        return new FindCourseQueryHandler(repository);
+    public FindCourseQueryHandler findCourseQueryHandler(CourseReadModel readModel, CourseRepository repository) {
+        return new FindCourseQueryHandler(readModel, repository);
+    }
+
+    // We teach Spring how to create the MULTI-GET Handler
+    // Enseñamos a Spring cómo crear el Handler de BUSCAR VARIOS
+    @Bean
+    public FindCoursesQueryHandler findCoursesQueryHandler(CourseReadModel readModel, CourseRepository repository) {
+        return new FindCoursesQueryHandler(readModel, repository);
+    }
+
+    // We teach Spring how to create the PROJECTOR that feeds the read model of the SEARCH Handler
+    // Enseñamos a Spring cómo crear el PROYECTOR que alimenta el modelo de lectura del Handler de BUSCAR
+    @Bean
+    public CourseReadModelProjector courseReadModelProjector(CourseReadModel readModel) {
+        return new CourseReadModelProjector(readModel);
+    }
+
+    // We teach Spring how to create the LIST Handler
+    // Enseñamos a Spring cómo crear el Handler de LISTAR
+    @Bean
+    public ListCoursesQueryHandler listCoursesQueryHandler(CourseRepository repository) {
+        return new ListCoursesQueryHandler(repository);
+    }
+
+    // We teach Spring how to create the TYPEAHEAD Handler
+    // Enseñamos a Spring cómo crear el Handler de AUTOCOMPLETAR
+    @Bean
+    public SearchCoursesByNameQueryHandler searchCoursesByNameQueryHandler(CourseNameIndex index) {
+        return new SearchCoursesByNameQueryHandler(index);
+    }
+
+    // The export reads the same storage as the repository: a JDBC cursor with JPA, keyset pages otherwise
+    // La exportación lee el mismo almacenamiento que el repositorio: un cursor JDBC con JPA, páginas keyset si no
+    @Bean
+    @Primary
+    public CourseCatalogueReader courseCatalogueReader(
+            @Value("${courses.persistence:jpa}") String persistence,
+            ObjectProvider<JdbcCourseCatalogueReader> jdbcReader,
+            CourseRepository repository,
+            @Value("${courses.export.fetch-size:1000}") int fetchSize) {
+        return switch (persistence) {
+            case "in-memory", "mmap" -> new KeysetCourseCatalogueReader(repository, fetchSize);
+            default -> jdbcReader.getObject();
+        };
+    }
+
+    // We teach Spring how to create the EXPORT Handler
+    // Enseñamos a Spring cómo crear el Handler de EXPORTAR
+    @Bean
+    public ExportCoursesQueryHandler exportCoursesQueryHandler(CourseCatalogueReader reader) {
+        return new ExportCoursesQueryHandler(reader);
+    }
+
+    private static EventBus metered(EventBus eventBus, MeterRegistry meterRegistry, boolean metricsEnabled) {
+        return metricsEnabled ? MeteredPort.wrap(EventBus.class, eventBus, meterRegistry) : eventBus;
     }
 }
@@ -0,0 +1,81 @@
+package com.futesat.hexagonal.courses.infrastructure.api;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.futesat.hexagonal.courses.application.export.ExportCoursesQuery;
+import com.futesat.hexagonal.shared.domain.bus.query.QueryBus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+public class CourseExportController {
+
+        private static final Logger LOGGER = LoggerFactory.getLogger(CourseExportController.class);
+        private static final String NDJSON = "application/x-ndjson";
+        private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+        private final QueryBus queryBus;
+        private final ObjectMapper objectMapper;
+
+        public CourseExportController(QueryBus queryBus, ObjectMapper objectMapper) {
+                this.queryBus = queryBus;
+                this.objectMapper = objectMapper;
+        }
+
+        @Operation(summary = "Exportar catálogo", description = "Todos los cursos en NDJSON (un objeto JSON por línea), en streaming y con gzip si el cliente lo acepta.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Catálogo completo en application/x-ndjson")
+        })
+        @GetMapping("/courses/export")
+        public void export(
+                        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                        HttpServletResponse response) throws IOException {
+                boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+                response.setContentType(NDJSON);
+                response.setCharacterEncoding("UTF-8");
+                response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"courses.ndjson\"");
+                response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                if (gzip) {
+                        response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                }
+
+                // Each row goes from the result set to the socket: the generator buffer is the only thing
+                // Cada fila va del result set al socket: el buffer del generador es lo único
+                // that grows, and it is flushed as it fills (chunked response, no Content-Length)
+                // que crece, y se vuelca según se llena (respuesta chunked, sin Content-Length)
+                OutputStream body = gzip
+                                ? new GZIPOutputStream(response.getOutputStream(), GZIP_BUFFER_SIZE)
+                                : response.getOutputStream();
+                try (JsonGenerator generator = objectMapper.getFactory().createGenerator(body)) {
+                        generator.setRootValueSeparator(null);
+                        long rows = queryBus.ask(new ExportCoursesQuery((id, name, duration) -> {
+                                try {
+                                        generator.writeStartObject();
+                                        generator.writeStringField("id", id.toString());
+                                        generator.writeStringField("name", name);
+                                        generator.writeStringField("duration", duration);
+                                        generator.writeEndObject();
+                                        generator.writeRaw('\n');
+                                } catch (IOException e) {
+                                        // Usually the client went away: aborts the read (and its cursor) as well
+                                        // Normalmente el cliente se ha ido: aborta también la lectura (y su cursor)
+                                        throw new UncheckedIOException(e);
+                                }
+                        }));
+                        LOGGER.info("Exported {} courses (gzip: {})", rows, gzip);
+                }
+        }
+}
@@ -1,44 +1,81 @@
 package com.futesat.hexagonal.courses.infrastructure.api;
 
+import com.futesat.hexagonal.courses.application.create.CourseCreationResult;
 import com.futesat.hexagonal.courses.application.create.CreateCourseCommand;
-import com.futesat.hexagonal.courses.application.create.CreateCourseCommandHandler;
-import com.futesat.hexagonal.courses.application.find.CourseResponse;
-import com.futesat.hexagonal.courses.application.find.FindCourseQueryHandler;
+import com.futesat.hexagonal.courses.application.create.CreateCoursesCommand;
+import com.futesat.hexagonal.courses.application.create.CreateCoursesCommandHandler;
+import com.futesat.hexagonal.courses.application.find.FindCourseQuery;
+import com.futesat.hexagonal.courses.domain.CourseId;
+import com.futesat.hexagonal.courses.infrastructure.http.CourseRepresentation;
+import com.futesat.hexagonal.courses.infrastructure.http.CourseRepresentationCache;
+import com.futesat.hexagonal.shared.domain.bus.command.CommandBus;
+import com.futesat.hexagonal.shared.domain.bus.query.QueryBus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
 @RestController
 public class CoursePostController {
 
-        private final CreateCourseCommandHandler createCourseCommandHandler;
-        private final FindCourseQueryHandler findCourseQueryHandler;
+        // Upper bound of items per batch request
+        // Límite superior de elementos por petición de lote
+        static final int MAX_BATCH_SIZE = 10_000;
+
+        // Single commands and queries go through the buses (and their middlewares); the batch endpoint
+        // Los comandos y consultas sueltos pasan por los buses (y sus middlewares); el endpoint de lotes
+        // keeps calling its handler, which answers with a result per item
+        // sigue llamando a su handler, que responde con un resultado por elemento
+        private final CommandBus commandBus;
+        private final QueryBus queryBus;
+        private final CreateCoursesCommandHandler createCoursesCommandHandler;
+        private final Validator validator;
+        private final CourseRepresentationCache representations;
+        private final CacheControl cacheControl;
 
         public CoursePostController(
-                        CreateCourseCommandHandler createCourseCommandHandler,
-                        FindCourseQueryHandler findCourseQueryHandler) {
-                this.createCourseCommandHandler = createCourseCommandHandler;
-                this.findCourseQueryHandler = findCourseQueryHandler;
+                        CommandBus commandBus,
+                        QueryBus queryBus,
+                        CreateCoursesCommandHandler createCoursesCommandHandler,
+                        Validator validator,
+                        CourseRepresentationCache representations,
+                        @Value("${courses.http.max-age:60s}") Duration maxAge) {
+                this.commandBus = commandBus;
+                this.queryBus = queryBus;
+                this.createCoursesCommandHandler = createCoursesCommandHandler;
+                this.validator = validator;
+                this.representations = representations;
+                this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
         }
 
         @Operation(summary = "Crear un nuevo curso", description = "Registra un curso en el sistema y notifica el evento de creación.")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "201", description = "Curso creado exitosamente"),
                         @ApiResponse(responseCode = "400", description = "Datos de entrada inválidos (ej. nombre corto)"),
+                        @ApiResponse(responseCode = "409", description = "Ya existe un curso con ese ID"),
                         @ApiResponse(responseCode = "500", description = "Error interno del servidor")
         })
         @PostMapping("/courses")
         public ResponseEntity<String> create(@Valid @RequestBody CourseRequest request) {
-                createCourseCommandHandler.handle(
+                commandBus.dispatch(
                                 new CreateCourseCommand(
                                                 request.id(),
                                                 request.name(),
@@ -46,15 +83,68 @@ public class CoursePostController {
                 return new ResponseEntity<>(HttpStatus.CREATED);
         }
 
+        @Operation(summary = "Crear cursos en lote", description = "Registra miles de cursos en una sola petición y transacción. Informa del resultado de cada elemento.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "201", description = "Todos los cursos creados"),
+                        @ApiResponse(responseCode = "207", description = "Algunos cursos no se han creado (ver 'items')"),
+                        @ApiResponse(responseCode = "400", description = "Lote vacío o demasiado grande")
+        })
+        @PostMapping("/courses/batch")
+        public ResponseEntity<BatchResponse> createBatch(@RequestBody List<CourseRequest> requests) {
+                if (requests.isEmpty() || requests.size() > MAX_BATCH_SIZE) {
+                        throw new IllegalArgumentException("The batch must contain between 1 and " + MAX_BATCH_SIZE + " courses");
+                }
+
+                // Bean Validation per item (instead of @Valid) so one bad item does not reject the whole batch
+                // Bean Validation por elemento (en lugar de @Valid) para que un elemento erróneo no rechace todo el lote
+                CourseCreationResult[] results = new CourseCreationResult[requests.size()];
+                List<CreateCourseCommand> commands = new ArrayList<>(requests.size());
+                List<Integer> positions = new ArrayList<>(requests.size());
+                for (int i = 0; i < requests.size(); i++) {
+                        CourseRequest request = requests.get(i);
+                        Set<ConstraintViolation<CourseRequest>> violations = validator.validate(request);
+                        if (violations.isEmpty()) {
+                                commands.add(new CreateCourseCommand(request.id(), request.name(), request.duration()));
+                                positions.add(i);
+                        } else {
+                                results[i] = CourseCreationResult.failed(request.id(), violations.stream()
+                                                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                                                .sorted()
+                                                .collect(Collectors.joining(", ")));
+                        }
+                }
+
+                if (!commands.isEmpty()) {
+                        List<CourseCreationResult> handled = createCoursesCommandHandler.handle(new CreateCoursesCommand(commands));
+                        for (int i = 0; i < handled.size(); i++) {
+                                results[positions.get(i)] = handled.get(i);
+                        }
+                }
+
+                BatchResponse response = BatchResponse.of(List.of(results));
+                HttpStatus status = response.failed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+                return new ResponseEntity<>(response, status);
+        }
+
         @Operation(summary = "Buscar curso por ID", description = "Recupera la información detallada de un curso existente.")
         @ApiResponses(value = {
                         @ApiResponse(responseCode = "200", description = "Curso encontrado"),
+                        @ApiResponse(responseCode = "304", description = "El cliente ya tiene esta versión del curso (If-None-Match)"),
                         @ApiResponse(responseCode = "404", description = "El curso con el ID especificado no existe")
         })
         @GetMapping("/courses/{id}")
-        public ResponseEntity<CourseResponse> get(@PathVariable String id) {
-                CourseResponse response = findCourseQueryHandler.handle(id);
-                return ResponseEntity.ok(response);
+        public ResponseEntity<byte[]> get(@PathVariable String id) {
+                // Cached bytes are written as they are; only the first request for an id reaches the query bus
+                // Los bytes cacheados se escriben tal cual; solo la primera petición de un id llega al bus de consultas
+                CourseRepresentation representation = representations.get(new CourseId(id),
+                                courseId -> queryBus.ask(new FindCourseQuery(id)));
+                // Spring compares the ETag with If-None-Match and answers 304 (same headers, no body) on a match
+                // Spring compara el ETag con If-None-Match y responde 304 (mismas cabeceras, sin cuerpo) si coinciden
+                return ResponseEntity.ok()
+                                .eTag(representation.etag())
+                                .cacheControl(cacheControl)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .body(representation.body());
         }
 
         // Internal DTO for Request Body
@@ -66,4 +156,14 @@ public class CoursePostController {
 
                         @NotBlank(message = "La duración es obligatoria") String duration) implements Serializable {
         }
+
+        // Response of the batch endpoint: totals + one result per item (same order as the request)
+        // Respuesta del endpoint de lotes: totales + un resultado por elemento (mismo orden que la petición)
+        public record BatchResponse(int created, int failed, List<CourseCreationResult> items) implements Serializable {
+
+                static BatchResponse of(List<CourseCreationResult> items) {
+                        int created = (int) items.stream().filter(CourseCreationResult::created).count();
+                        return new BatchResponse(created, items.size() - created, items);
+                }
+        }
 }
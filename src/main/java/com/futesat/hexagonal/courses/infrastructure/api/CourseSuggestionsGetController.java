@@ -0,0 +1,36 @@
+package com.futesat.hexagonal.courses.infrastructure.api;
+
+import com.futesat.hexagonal.courses.application.search.CourseNameSuggestion;
+import com.futesat.hexagonal.courses.application.search.SearchCoursesByNameQuery;
+import com.futesat.hexagonal.shared.domain.bus.query.QueryBus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+public class CourseSuggestionsGetController {
+
+        private final QueryBus queryBus;
+
+        public CourseSuggestionsGetController(QueryBus queryBus) {
+                this.queryBus = queryBus;
+        }
+
+        @Operation(summary = "Autocompletar cursos", description = "Cursos cuyo nombre empieza por el prefijo (sin distinguir mayúsculas ni acentos), servidos desde un índice en memoria.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Sugerencias en orden alfabético"),
+                        @ApiResponse(responseCode = "400", description = "Prefijo o límite inválidos")
+        })
+        @GetMapping("/courses/suggestions")
+        public ResponseEntity<List<CourseNameSuggestion>> suggest(
+                        @RequestParam String prefix,
+                        @RequestParam(defaultValue = "10") int limit) {
+                return ResponseEntity.ok(queryBus.ask(new SearchCoursesByNameQuery(prefix, limit)));
+        }
+}
@@ -0,0 +1,100 @@
+package com.futesat.hexagonal.courses.infrastructure.api;
+
+import com.futesat.hexagonal.courses.application.find.CourseResponse;
+import com.futesat.hexagonal.courses.application.find.CoursesLookupResponse;
+import com.futesat.hexagonal.courses.application.find.FindCoursesQuery;
+import com.futesat.hexagonal.courses.application.list.CoursesResponse;
+import com.futesat.hexagonal.courses.application.list.ListCoursesQuery;
+import com.futesat.hexagonal.shared.domain.bus.query.QueryBus;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+public class CoursesGetController {
+
+        private static final Base64.Encoder CURSOR_ENCODER = Base64.getUrlEncoder().withoutPadding();
+        private static final Base64.Decoder CURSOR_DECODER = Base64.getUrlDecoder();
+
+        private final QueryBus queryBus;
+
+        public CoursesGetController(QueryBus queryBus) {
+                this.queryBus = queryBus;
+        }
+
+        @Operation(summary = "Listar cursos", description = "Lista los cursos ordenados por id, paginando por cursor (keyset): cada página cuesta lo mismo.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Página de cursos (nextCursor es null en la última)"),
+                        @ApiResponse(responseCode = "400", description = "Cursor o límite inválidos")
+        })
+        @GetMapping("/courses")
+        public ResponseEntity<CoursesPageResponse> list(
+                        @RequestParam(required = false) String after,
+                        @RequestParam(defaultValue = "50") int limit) {
+                CoursesResponse page = queryBus.ask(new ListCoursesQuery(after == null ? null : decodeCursor(after), limit));
+                return ResponseEntity.ok(new CoursesPageResponse(
+                                page.courses(),
+                                page.nextAfter() == null ? null : encodeCursor(page.nextAfter())));
+        }
+
+        @Operation(summary = "Buscar varios cursos por ID", description = "Devuelve en una sola petición los cursos pedidos (ids separados por comas), con un resultado por id.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Un resultado por id, en el mismo orden (los inexistentes con found=false)"),
+                        @ApiResponse(responseCode = "400", description = "Ningún id o demasiados ids")
+        })
+        @GetMapping(value = "/courses", params = "ids")
+        public ResponseEntity<CoursesLookupResponse> findAll(@RequestParam List<String> ids) {
+                return ResponseEntity.ok(queryBus.ask(new FindCoursesQuery(ids)));
+        }
+
+        // Same lookup for lists that do not fit in a URL
+        // La misma búsqueda para listas que no caben en una URL
+        @Operation(summary = "Buscar varios cursos por ID (POST)", description = "Igual que GET /courses?ids=..., con los ids en el cuerpo como array JSON.")
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "Un resultado por id, en el mismo orden (los inexistentes con found=false)"),
+                        @ApiResponse(responseCode = "400", description = "Ningún id o demasiados ids")
+        })
+        @PostMapping("/courses/lookup")
+        public ResponseEntity<CoursesLookupResponse> lookup(@RequestBody List<String> ids) {
+                return ResponseEntity.ok(queryBus.ask(new FindCoursesQuery(ids)));
+        }
+
+        // The cursor is opaque for clients: the 16 bytes of the last id, Base64 URL-safe (22 chars)
+        // El cursor es opaco para los clientes: los 16 bytes del último id, en Base64 URL-safe (22 caracteres)
+        static String encodeCursor(String id) {
+                UUID uuid = UUID.fromString(id);
+                ByteBuffer bytes = ByteBuffer.allocate(16)
+                                .putLong(uuid.getMostSignificantBits())
+                                .putLong(uuid.getLeastSignificantBits());
+                return CURSOR_ENCODER.encodeToString(bytes.array());
+        }
+
+        static String decodeCursor(String cursor) {
+                byte[] bytes;
+                try {
+                        bytes = CURSOR_DECODER.decode(cursor);
+                } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("Invalid cursor: " + cursor);
+                }
+                if (bytes.length != 16) {
+                        throw new IllegalArgumentException("Invalid cursor: " + cursor);
+                }
+                ByteBuffer buffer = ByteBuffer.wrap(bytes);
+                return new UUID(buffer.getLong(), buffer.getLong()).toString();
+        }
+
+        public record CoursesPageResponse(List<CourseResponse> courses, String nextCursor) implements Serializable {
+        }
+}
@@ -1,6 +1,7 @@
 package com.futesat.hexagonal.courses.infrastructure.api;
 
 import com.futesat.hexagonal.courses.application.find.CourseNotFound;
+import com.futesat.hexagonal.courses.domain.CourseAlreadyExists;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
@@ -38,6 +39,15 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(body, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(CourseAlreadyExists.class)
+    public ResponseEntity<Object> handleConflict(CourseAlreadyExists ex) {
+        Map<String, String> body = new HashMap<>();
+        body.put("error", "Conflict");
+        body.put("message", ex.getMessage());
+
+        return new ResponseEntity<>(body, HttpStatus.CONFLICT);
+    }
+
     @SuppressWarnings("null")
     @Override
     protected ResponseEntity<Object> handleMethodArgumentNotValid(
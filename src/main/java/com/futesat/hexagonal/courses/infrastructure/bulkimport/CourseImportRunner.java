@@ -0,0 +1,62 @@
+package com.futesat.hexagonal.courses.infrastructure.bulkimport;
+
+import com.futesat.hexagonal.courses.application.bulkimport.CourseImportProgress;
+import com.futesat.hexagonal.courses.application.bulkimport.ImportCoursesCommandHandler;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+// Partner onboarding: java -jar app.jar --courses.import.file=partner.csv [--courses.import.exit-when-done=true]
+// Alta de partners: java -jar app.jar --courses.import.file=partner.csv [--courses.import.exit-when-done=true]
+// Rejected rows end up in <file>.errors.csv next to the input.
+// Las filas rechazadas acaban en <file>.errors.csv junto a la entrada.
+@Component
+@ConditionalOnProperty(name = "courses.import.file")
+public class CourseImportRunner implements ApplicationRunner {
+
+    private final ImportCoursesCommandHandler importCoursesCommandHandler;
+    private final Validator validator;
+    private final ConfigurableApplicationContext context;
+    private final Path file;
+    private final Duration progressInterval;
+    private final boolean exitWhenDone;
+
+    public CourseImportRunner(
+            ImportCoursesCommandHandler importCoursesCommandHandler,
+            Validator validator,
+            ConfigurableApplicationContext context,
+            @Value("${courses.import.file}") Path file,
+            @Value("${courses.import.progress-interval:5s}") Duration progressInterval,
+            @Value("${courses.import.exit-when-done:false}") boolean exitWhenDone) {
+        this.importCoursesCommandHandler = importCoursesCommandHandler;
+        this.validator = validator;
+        this.context = context;
+        this.file = file;
+        this.progressInterval = progressInterval;
+        this.exitWhenDone = exitWhenDone;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Path errorFile = file.resolveSibling(file.getFileName() + ".errors.csv");
+        CourseImportProgress summary;
+        try (FileCourseImportSource source = FileCourseImportSource.open(file, validator);
+                ErrorFileCourseImportListener listener = new ErrorFileCourseImportListener(errorFile, progressInterval)) {
+            summary = importCoursesCommandHandler.handle(source, listener);
+            listener.finished(summary);
+        }
+        if (exitWhenDone) {
+            // Closes the context first (pools, buffered writers...), then ends the JVM with its exit code
+            // Cierra antes el contexto (pools, escritores con buffer...), después termina la JVM con su código de salida
+            System.exit(SpringApplication.exit(context, () -> summary.rejected() == 0 ? 0 : 2));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.futesat.hexagonal.courses.infrastructure.bulkimport;
+
+import com.futesat.hexagonal.courses.application.bulkimport.CourseImportRow;
+
+import jakarta.validation.Validator;
+
+import java.nio.file.Path;
+
+// One course per line: id,name,duration (optional header). Fields may be quoted, with "" for a quote inside.
+// Un curso por línea: id,name,duration (cabecera opcional). Los campos pueden ir entre comillas, con "" para una comilla dentro.
+public class CsvCourseImportSource extends FileCourseImportSource {
+
+    private static final int COLUMNS = 3;
+
+    public CsvCourseImportSource(Path file, Validator validator) {
+        super(file, validator);
+    }
+
+    @Override
+    protected boolean isHeader(String firstLine) {
+        return firstLine.replace(" ", "").equalsIgnoreCase("id,name,duration");
+    }
+
+    @Override
+    protected CourseImportRow parseRecord(String record) {
+        if (record.isBlank()) {
+            return null;
+        }
+        String[] fields = new String[COLUMNS];
+        int column = 0;
+        int position = 0;
+        while (true) {
+            if (column == COLUMNS) {
+                throw new IllegalArgumentException("Expected " + COLUMNS + " columns (id,name,duration)");
+            }
+            StringBuilder field = new StringBuilder();
+            if (position < record.length() && record.charAt(position) == '"') {
+                position = readQuoted(record, position + 1, field);
+            } else {
+                while (position < record.length() && record.charAt(position) != ',') {
+                    field.append(record.charAt(position++));
+                }
+            }
+            fields[column++] = field.toString();
+            if (position == record.length()) {
+                break;
+            }
+            if (record.charAt(position) != ',') {
+                throw new IllegalArgumentException("Unexpected character after a quoted field at column " + column);
+            }
+            position++;
+        }
+        if (column != COLUMNS) {
+            throw new IllegalArgumentException("Expected " + COLUMNS + " columns (id,name,duration)");
+        }
+        return new CourseImportRow(fields[0], fields[1], fields[2]);
+    }
+
+    // Returns the position right after the closing quote
+    // Devuelve la posición justo después de la comilla de cierre
+    private static int readQuoted(String record, int position, StringBuilder field) {
+        while (position < record.length()) {
+            char c = record.charAt(position++);
+            if (c != '"') {
+                field.append(c);
+            } else if (position < record.length() && record.charAt(position) == '"') {
+                field.append('"');
+                position++;
+            } else {
+                return position;
+            }
+        }
+        throw new IllegalArgumentException("Unterminated quoted field");
+    }
+}
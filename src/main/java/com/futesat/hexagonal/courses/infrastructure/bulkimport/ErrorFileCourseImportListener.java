@@ -0,0 +1,84 @@
+package com.futesat.hexagonal.courses.infrastructure.bulkimport;
+
+import com.futesat.hexagonal.courses.application.bulkimport.CourseImportListener;
+import com.futesat.hexagonal.courses.application.bulkimport.CourseImportProgress;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+// Writes every rejected row to a CSV (line,id,error) and logs the progress at most once per interval
+// Escribe cada fila rechazada en un CSV (line,id,error) y registra el progreso como mucho una vez por intervalo
+public class ErrorFileCourseImportListener implements CourseImportListener, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ErrorFileCourseImportListener.class);
+
+    private final Path errorFile;
+    private final BufferedWriter writer;
+    private final long progressIntervalNanos;
+    private final long start = System.nanoTime();
+    private long lastProgressLog = start;
+
+    public ErrorFileCourseImportListener(Path errorFile, Duration progressInterval) {
+        this.errorFile = errorFile;
+        this.progressIntervalNanos = progressInterval.toNanos();
+        try {
+            this.writer = Files.newBufferedWriter(errorFile, StandardCharsets.UTF_8);
+            writer.write("line,id,error");
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to create the error file " + errorFile, e);
+        }
+    }
+
+    @Override
+    public synchronized void rejected(long line, String id, String reason) {
+        try {
+            writer.write(line + "," + quote(id) + "," + quote(reason));
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to write the error file " + errorFile, e);
+        }
+    }
+
+    @Override
+    public synchronized void progress(CourseImportProgress progress) {
+        long now = System.nanoTime();
+        if (now - lastProgressLog >= progressIntervalNanos) {
+            lastProgressLog = now;
+            log("Importing courses", progress, now);
+        }
+    }
+
+    public void finished(CourseImportProgress summary) {
+        log("Course import finished", summary, System.nanoTime());
+        if (summary.rejected() > 0) {
+            LOGGER.warn("{} rows rejected, see {}", summary.rejected(), errorFile);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            writer.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to close the error file " + errorFile, e);
+        }
+    }
+
+    private void log(String message, CourseImportProgress progress, long now) {
+        double seconds = Math.max((now - start) / 1e9, 0.001);
+        LOGGER.info("{}: {} read, {} imported, {} rejected ({} rows/s)", message, progress.read(),
+                progress.imported(), progress.rejected(), Math.round(progress.read() / seconds));
+    }
+
+    private static String quote(String value) {
+        return value == null ? "" : '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
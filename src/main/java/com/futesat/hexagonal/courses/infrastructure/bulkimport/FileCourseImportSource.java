@@ -0,0 +1,108 @@
+package com.futesat.hexagonal.courses.infrastructure.bulkimport;
+
+import com.futesat.hexagonal.courses.application.bulkimport.CourseImportChunk;
+import com.futesat.hexagonal.courses.application.bulkimport.CourseImportRow;
+import com.futesat.hexagonal.courses.application.bulkimport.CourseImportSource;
+import com.futesat.hexagonal.courses.infrastructure.api.CoursePostController.CourseRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Local file read line by line: only the chunk being handed out is in memory, never the file
+// Fichero local leído línea a línea: solo está en memoria el bloque que se entrega, nunca el fichero
+public abstract class FileCourseImportSource implements CourseImportSource {
+
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+
+    private final BufferedReader reader;
+    private final Validator validator;
+    private long nextLine = 1;
+
+    protected FileCourseImportSource(Path file, Validator validator) {
+        this.validator = validator;
+        try {
+            this.reader = new BufferedReader(Files.newBufferedReader(file, StandardCharsets.UTF_8), READ_BUFFER_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open " + file, e);
+        }
+    }
+
+    // The format is chosen by extension: .csv, or .ndjson / .jsonl
+    // El formato se elige por extensión: .csv, o .ndjson / .jsonl
+    public static FileCourseImportSource open(Path file, Validator validator) {
+        String name = file.getFileName().toString().toLowerCase();
+        if (name.endsWith(".csv")) {
+            return new CsvCourseImportSource(file, validator);
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return new NdjsonCourseImportSource(file, validator);
+        }
+        throw new IllegalArgumentException("Unsupported import file (expected .csv, .ndjson or .jsonl): " + file);
+    }
+
+    @Override
+    public CourseImportChunk nextChunk(int maxRecords) {
+        long firstLine = nextLine;
+        List<String> records = new ArrayList<>(maxRecords);
+        try {
+            String line;
+            while (records.size() < maxRecords && (line = reader.readLine()) != null) {
+                nextLine++;
+                if (firstLine == 1 && records.isEmpty() && isHeader(line)) {
+                    firstLine = nextLine;
+                    continue;
+                }
+                records.add(line);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read the import file", e);
+        }
+        return new CourseImportChunk(firstLine, records);
+    }
+
+    // Same Bean Validation rules as POST /courses (CourseRequest): a file cannot store what the API rejects
+    // Mismas reglas de Bean Validation que POST /courses (CourseRequest): un fichero no puede guardar lo que la API rechaza
+    @Override
+    public final CourseImportRow parse(String record) {
+        CourseImportRow row = parseRecord(record);
+        if (row == null) {
+            return null;
+        }
+        Set<ConstraintViolation<CourseRequest>> violations = validator.validate(
+                new CourseRequest(row.id(), row.name(), row.duration()));
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        return row;
+    }
+
+    // The raw fields of one record, or null to skip it; IllegalArgumentException when malformed
+    // Los campos en bruto de un registro, o null para saltarlo; IllegalArgumentException si está mal formado
+    protected abstract CourseImportRow parseRecord(String record);
+
+    protected boolean isHeader(String firstLine) {
+        return false;
+    }
+
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to close the import file", e);
+        }
+    }
+}
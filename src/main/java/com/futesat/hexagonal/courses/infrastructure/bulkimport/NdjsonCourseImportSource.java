@@ -0,0 +1,45 @@
+package com.futesat.hexagonal.courses.infrastructure.bulkimport;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.futesat.hexagonal.courses.application.bulkimport.CourseImportRow;
+
+import jakarta.validation.Validator;
+
+import java.nio.file.Path;
+
+// One JSON object per line, with the same fields as GET /courses/export: {"id":..,"name":..,"duration":..}
+// Un objeto JSON por línea, con los mismos campos que GET /courses/export: {"id":..,"name":..,"duration":..}
+public class NdjsonCourseImportSource extends FileCourseImportSource {
+
+    // ObjectMapper is thread-safe once configured: shared by all the workers
+    // ObjectMapper es thread-safe una vez configurado: lo comparten todos los workers
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public NdjsonCourseImportSource(Path file, Validator validator) {
+        super(file, validator);
+    }
+
+    @Override
+    protected CourseImportRow parseRecord(String record) {
+        if (record.isBlank()) {
+            return null;
+        }
+        JsonNode course;
+        try {
+            course = MAPPER.readTree(record);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid JSON: " + e.getOriginalMessage());
+        }
+        if (!course.isObject()) {
+            throw new IllegalArgumentException("Expected a JSON object");
+        }
+        return new CourseImportRow(text(course, "id"), text(course, "name"), text(course, "duration"));
+    }
+
+    private static String text(JsonNode course, String field) {
+        JsonNode value = course.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+}
@@ -0,0 +1,36 @@
+package com.futesat.hexagonal.courses.infrastructure.bus;
+
+import com.futesat.hexagonal.courses.domain.CourseCreatedEvent;
+import com.futesat.hexagonal.shared.infrastructure.bus.event.binary.DomainEventCodec;
+import com.futesat.hexagonal.shared.infrastructure.bus.event.binary.EventReader;
+import com.futesat.hexagonal.shared.infrastructure.bus.event.binary.EventWriter;
+import org.springframework.stereotype.Component;
+
+// Binary schema of course.created: name, duration.
+// Esquema binario de course.created: nombre, duración.
+@Component
+public class CourseCreatedEventCodec implements DomainEventCodec<CourseCreatedEvent> {
+
+    @Override
+    public String eventName() {
+        return "course.created";
+    }
+
+    @Override
+    public Class<CourseCreatedEvent> eventType() {
+        return CourseCreatedEvent.class;
+    }
+
+    @Override
+    public void write(CourseCreatedEvent event, EventWriter writer) {
+        writer.writeString(event.getName());
+        writer.writeString(event.getDuration());
+    }
+
+    @Override
+    public CourseCreatedEvent read(Header header, EventReader reader) {
+        String name = reader.readString();
+        String duration = reader.readString();
+        return new CourseCreatedEvent(header.aggregateId(), name, duration, header.eventId(), header.occurredOn());
+    }
+}
@@ -0,0 +1,23 @@
+package com.futesat.hexagonal.courses.infrastructure.http;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.futesat.hexagonal.courses.application.find.CourseResponse;
+import org.springframework.util.DigestUtils;
+
+// A course as sent over HTTP: the JSON bytes, ready to be written as is, and their strong ETag.
+// Un curso tal y como se envía por HTTP: los bytes JSON, listos para escribirse tal cual, y su ETag fuerte.
+public record CourseRepresentation(byte[] body, String etag) {
+
+    static CourseRepresentation of(CourseResponse response, ObjectMapper objectMapper) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize course " + response.id(), e);
+        }
+        // Hash of the exact bytes (same scheme as Spring's ShallowEtagHeaderFilter): equal tags, equal bodies
+        // Hash de los bytes exactos (el mismo esquema que ShallowEtagHeaderFilter de Spring): ETags iguales, cuerpos iguales
+        return new CourseRepresentation(body, "\"0" + DigestUtils.md5DigestAsHex(body) + "\"");
+    }
+}
@@ -0,0 +1,44 @@
+package com.futesat.hexagonal.courses.infrastructure.http;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.futesat.hexagonal.courses.application.find.CourseResponse;
+import com.futesat.hexagonal.courses.domain.CourseId;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+// Serialized courses per id, so GET /courses/{id} neither runs the query nor Jackson for a course already sent.
+// Cursos serializados por id, para que GET /courses/{id} no ejecute la consulta ni Jackson con un curso ya enviado.
+// Courses are immutable once created (the database adapter rejects an existing id), so entries never go stale:
+// Los cursos son inmutables una vez creados (el adaptador de base de datos rechaza un id existente), así que las entradas
+// the cache is only bounded by size.
+// nunca quedan obsoletas: la caché solo está acotada por tamaño.
+@Component
+public class CourseRepresentationCache {
+
+    private final Cache<CourseId, CourseRepresentation> cache;
+    private final ObjectMapper objectMapper;
+
+    public CourseRepresentationCache(
+            ObjectMapper objectMapper,
+            @Value("${courses.http.cache.maximum-size:10000}") long maximumSize,
+            MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "course-representations");
+    }
+
+    // Misses run the finder once per id; its exceptions (e.g. CourseNotFound) propagate and nothing is cached
+    // Los fallos ejecutan el buscador una vez por id; sus excepciones (p. ej. CourseNotFound) se propagan y no se cachea nada
+    public CourseRepresentation get(CourseId id, Function<CourseId, CourseResponse> finder) {
+        return cache.get(id, key -> CourseRepresentation.of(finder.apply(key), objectMapper));
+    }
+}
@@ -1,32 +1,131 @@
 package com.futesat.hexagonal.courses.infrastructure.persistence;
 
 import com.futesat.hexagonal.courses.domain.Course;
+import com.futesat.hexagonal.courses.domain.CourseAlreadyExists;
 import com.futesat.hexagonal.courses.domain.CourseId;
 import com.futesat.hexagonal.courses.domain.CourseRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
 
+// Thread-safe store for tests and the in-memory profile (courses.persistence=in-memory).
+// Almacén thread-safe para tests y el perfil en memoria (courses.persistence=in-memory).
+// ConcurrentHashMap: lock-free reads, and writes only lock the bin of their key (striped).
+// ConcurrentHashMap: lecturas sin locks, y las escrituras solo bloquean el bin de su clave (striped).
 @Repository
 public class InMemoryCourseRepository implements CourseRepository {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryCourseRepository.class);
-    private final Map<String, Course> courses = new HashMap<>();
+
+    // CourseId is the key: hashing/equality work on its two longs, no String per entry
+    // CourseId es la clave: hash/igualdad trabajan sobre sus dos longs, sin un String por entrada
+    private final ConcurrentHashMap<CourseId, Course> courses = new ConcurrentHashMap<>();
+    // Ordered copy of the keys for keyset pagination (the hash map stays O(1) for lookups)
+    // Copia ordenada de las claves para la paginación keyset (el hash map sigue siendo O(1) en búsquedas)
+    private final ConcurrentSkipListSet<CourseId> orderedIds = new ConcurrentSkipListSet<>();
+    // Reserving a slot before inserting (and giving it back if the insert does not happen) keeps the bound exact
+    // Reservar hueco antes de insertar (y devolverlo si la inserción no ocurre) mantiene el límite exacto
+    private final AtomicInteger size = new AtomicInteger();
+    private final int maxSize;
+
+    public InMemoryCourseRepository(@Value("${courses.in-memory.max-size:100000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
 
     @Override
     public void save(Course course) {
-        // We save using the primitive ID (Value Object -> Primitive)
-        // Guardamos usando el ID primitives (Value Object -> Primitivo)
-        courses.put(course.id().getValue(), course);
-        LOGGER.info("DEBUG: Curso guardado en memoria: {}", course.name().getValue());
+        // Insert-only, like the database adapter: a taken id is a conflict, never an overwrite
+        // Solo inserción, como el adaptador de base de datos: un id ocupado es un conflicto, nunca una sobrescritura
+        reserve(1);
+        if (courses.putIfAbsent(course.id(), course) != null) {
+            size.decrementAndGet();
+            throw new CourseAlreadyExists(course.id());
+        }
+        orderedIds.add(course.id());
+        LOGGER.debug("Course saved in memory: {}", course.name().getValue());
+    }
+
+    @Override
+    public void saveAll(List<Course> courses) {
+        // All or nothing, like the database transaction: room for the whole batch is reserved up front,
+        // Todo o nada, como la transacción de base de datos: se reserva hueco para todo el lote por adelantado,
+        // and a taken id removes the courses this call had already inserted
+        // y un id ocupado retira los cursos que esta llamada ya había insertado
+        reserve(courses.size());
+        List<Course> inserted = new ArrayList<>(courses.size());
+        for (Course course : courses) {
+            if (this.courses.putIfAbsent(course.id(), course) != null) {
+                for (Course undone : inserted) {
+                    orderedIds.remove(undone.id());
+                    this.courses.remove(undone.id(), undone);
+                }
+                size.addAndGet(-courses.size());
+                throw new CourseAlreadyExists(course.id());
+            }
+            orderedIds.add(course.id());
+            inserted.add(course);
+        }
+        LOGGER.debug("{} courses saved in memory", courses.size());
     }
 
     @Override
     public Optional<Course> search(CourseId id) {
-        return Optional.ofNullable(courses.get(id.getValue()));
+        return Optional.ofNullable(courses.get(id));
+    }
+
+    @Override
+    public List<Course> searchAll(Collection<CourseId> ids) {
+        List<Course> found = new ArrayList<>(ids.size());
+        for (CourseId id : ids) {
+            Course course = courses.get(id);
+            if (course != null) {
+                found.add(course);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public List<Course> searchAfter(CourseId after, int limit) {
+        NavigableSet<CourseId> ids = after == null ? orderedIds : orderedIds.tailSet(after, false);
+        List<Course> page = new ArrayList<>(Math.min(limit, courses.size()));
+        Iterator<CourseId> iterator = ids.iterator();
+        while (page.size() < limit && iterator.hasNext()) {
+            // Null when a failed saveAll has just undone its insert
+            // Null cuando un saveAll fallido acaba de deshacer su inserción
+            Course course = courses.get(iterator.next());
+            if (course != null) {
+                page.add(course);
+            }
+        }
+        return page;
+    }
+
+    // Point-in-time copy, safe to iterate while other threads keep writing
+    // Copia en un instante dado, segura de recorrer mientras otros hilos siguen escribiendo
+    public List<Course> snapshot() {
+        return List.copyOf(courses.values());
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    private void reserve(int slots) {
+        if (size.addAndGet(slots) > maxSize) {
+            size.addAndGet(-slots);
+            throw new IllegalStateException("In-memory course store is full (max " + maxSize + " courses)");
+        }
     }
 }
@@ -0,0 +1,40 @@
+package com.futesat.hexagonal.courses.infrastructure.persistence;
+
+import com.futesat.hexagonal.courses.application.export.CourseCatalogueReader;
+import com.futesat.hexagonal.courses.application.export.CourseRowHandler;
+import com.futesat.hexagonal.courses.domain.Course;
+import com.futesat.hexagonal.courses.domain.CourseId;
+import com.futesat.hexagonal.courses.domain.CourseRepository;
+
+import java.util.List;
+
+// Export adapter for the in-memory and mmap profiles: walks the repository with keyset pages.
+// Adaptador de exportación para los perfiles en memoria y mmap: recorre el repositorio con páginas keyset.
+// The courses already live in this process, so only one page of them is referenced at a time.
+// Los cursos ya viven en este proceso, así que solo se referencia una página de ellos a la vez.
+public class KeysetCourseCatalogueReader implements CourseCatalogueReader {
+
+    private final CourseRepository repository;
+    private final int pageSize;
+
+    public KeysetCourseCatalogueReader(CourseRepository repository, int pageSize) {
+        this.repository = repository;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public long readAll(CourseRowHandler handler) {
+        long rows = 0;
+        CourseId after = null;
+        List<Course> page;
+        do {
+            page = repository.searchAfter(after, pageSize);
+            for (Course course : page) {
+                handler.handle(course.id().toUuid(), course.name().getValue(), course.duration());
+            }
+            rows += page.size();
+            after = page.isEmpty() ? null : page.get(page.size() - 1).id();
+        } while (page.size() == pageSize);
+        return rows;
+    }
+}
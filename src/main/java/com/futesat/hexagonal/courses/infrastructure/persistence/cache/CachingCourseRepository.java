@@ -0,0 +1,78 @@
+package com.futesat.hexagonal.courses.infrastructure.persistence.cache;
+
+import com.futesat.hexagonal.courses.domain.Course;
+import com.futesat.hexagonal.courses.domain.CourseId;
+import com.futesat.hexagonal.courses.domain.CourseRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.Optional;
+
+// Read-through decorator (Decorator pattern) over any CourseRepository.
+// Decorador read-through (patrón Decorator) sobre cualquier CourseRepository.
+// Courses almost never change after creation, so lookups are served from a bounded cache (size + TTL).
+// Los cursos casi nunca cambian tras crearse, así que las búsquedas se sirven desde una caché acotada (tamaño + TTL).
+public class CachingCourseRepository implements CourseRepository {
+
+    private final CourseRepository delegate;
+    private final Cache<CourseId, Course> cache;
+
+    public CachingCourseRepository(CourseRepository delegate, long maximumSize, Duration ttl, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        // Exposes cache.gets{result=hit|miss}, cache.evictions, cache.size... under /actuator/metrics
+        // Expone cache.gets{result=hit|miss}, cache.evictions, cache.size... bajo /actuator/metrics
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "courses");
+    }
+
+    @Override
+    public void save(Course course) {
+        // Write-through: the delegate is the source of truth, then we drop any stale copy
+        // Write-through: el delegado es la fuente de verdad, después descartamos cualquier copia obsoleta
+        delegate.save(course);
+        cache.invalidate(course.id());
+    }
+
+    @Override
+    public void saveAll(List<Course> courses) {
+        delegate.saveAll(courses);
+        cache.invalidateAll(courses.stream().map(Course::id).toList());
+    }
+
+    @Override
+    public Optional<Course> search(CourseId id) {
+        // Misses are not cached (Caffeine ignores null), so a course created later is found on the next call
+        // Los fallos no se cachean (Caffeine ignora null), así que un curso creado después se encuentra en la siguiente llamada
+        return Optional.ofNullable(cache.get(id, key -> delegate.search(key).orElse(null)));
+    }
+
+    @Override
+    public List<Course> searchAll(Collection<CourseId> ids) {
+        // Hits come from the cache and all the misses go to the delegate in a single searchAll
+        // Los aciertos salen de la caché y todos los fallos van al delegado en un único searchAll
+        Map<CourseId, Course> found = cache.getAll(ids, missing -> delegate.searchAll(List.copyOf(missing)).stream()
+                .collect(Collectors.toMap(Course::id, Function.identity())));
+        return new ArrayList<>(found.values());
+    }
+
+    @Override
+    public List<Course> searchAfter(CourseId after, int limit) {
+        // Pages are not cached: any insert shifts them
+        // Las páginas no se cachean: cualquier inserción las desplaza
+        return delegate.searchAfter(after, limit);
+    }
+}
@@ -0,0 +1,218 @@
+package com.futesat.hexagonal.courses.infrastructure.persistence.groupcommit;
+
+import com.futesat.hexagonal.courses.domain.Course;
+import com.futesat.hexagonal.courses.domain.CourseId;
+import com.futesat.hexagonal.courses.domain.CourseRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+// Write-behind decorator with group commit (courses.group-commit.enabled=true).
+// Decorador write-behind con group commit (courses.group-commit.enabled=true).
+// Saves are queued and a single flusher thread stores them with one saveAll (one transaction) per group:
+// Los guardados se encolan y un único hilo los persiste con un saveAll (una transacción) por grupo:
+// a group closes at max-group-size courses or max-delay after its first one, whichever comes first.
+// un grupo se cierra al llegar a max-group-size cursos o max-delay después del primero, lo que ocurra antes.
+// Under bursty traffic many creates share a commit; save() still returns only once its course is durable.
+// Con tráfico a ráfagas muchas altas comparten commit; save() sigue volviendo solo cuando su curso es durable.
+public class GroupCommitCourseRepository implements CourseRepository, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GroupCommitCourseRepository.class);
+    // Queued by close() so a flusher lingering for more saves stops waiting at once
+    // Lo encola close() para que un flusher esperando más guardados deje de esperar en el acto
+    private static final PendingSave WAKE_UP = new PendingSave(null, null);
+
+    private final CourseRepository delegate;
+    private final int maxGroupSize;
+    private final long maxDelayNanos;
+    // Bounded: when the flusher falls behind, callers block on put() (backpressure) instead of piling up memory
+    // Acotada: cuando el flusher va retrasado, los llamantes se bloquean en put() (contrapresión) en vez de acumular memoria
+    private final BlockingQueue<PendingSave> queue;
+    private final Thread flusher;
+    private final Timer flushTimer;
+    private final DistributionSummary groupSizes;
+    private volatile boolean closed;
+
+    public GroupCommitCourseRepository(CourseRepository delegate, int maxGroupSize, Duration maxDelay,
+            int queueCapacity, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.maxGroupSize = maxGroupSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        Gauge.builder("courses.group-commit.queue.depth", queue, BlockingQueue::size)
+                .description("Course saves waiting for the next group commit")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("courses.group-commit.flush")
+                .description("Time to store one group of courses (one transaction)")
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(meterRegistry);
+        this.groupSizes = DistributionSummary.builder("courses.group-commit.group.size")
+                .description("Courses stored per group commit")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.flusher = Thread.ofPlatform().name("courses-group-commit").daemon().start(this::run);
+    }
+
+    // Completion handle: completes once the course is durable, or exceptionally with the error of its save
+    // Handle de finalización: se completa cuando el curso es durable, o con el error de su guardado
+    public CompletableFuture<Void> saveAsync(Course course) {
+        if (closed) {
+            throw new IllegalStateException("Group commit is closed");
+        }
+        PendingSave pending = new PendingSave(course, new CompletableFuture<>());
+        try {
+            queue.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing course " + course.id().getValue(), e);
+        }
+        // Queued after close() drained the queue: nobody would flush it, so it fails here
+        // Encolado después de que close() vaciara la cola: nadie lo persistiría, así que falla aquí
+        if (closed && queue.remove(pending)) {
+            pending.completion().completeExceptionally(new IllegalStateException("Group commit is closed"));
+        }
+        return pending.completion();
+    }
+
+    @Override
+    public void save(Course course) {
+        try {
+            saveAsync(course).join();
+        } catch (CompletionException e) {
+            // The caller sees the error of its own save (e.g. CourseAlreadyExists), not the wrapper
+            // El llamante ve el error de su propio guardado (p. ej. CourseAlreadyExists), no el envoltorio
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void saveAll(List<Course> courses) {
+        // Already one transaction per batch: nothing to gain by queueing it
+        // Ya es una transacción por lote: no se gana nada encolándolo
+        delegate.saveAll(courses);
+    }
+
+    @Override
+    public Optional<Course> search(CourseId id) {
+        return delegate.search(id);
+    }
+
+    @Override
+    public List<Course> searchAll(Collection<CourseId> ids) {
+        return delegate.searchAll(ids);
+    }
+
+    @Override
+    public List<Course> searchAfter(CourseId after, int limit) {
+        return delegate.searchAfter(after, limit);
+    }
+
+    // Stops accepting saves and stores everything already queued
+    // Deja de aceptar guardados y persiste todo lo que ya está encolado
+    @Override
+    public void close() {
+        closed = true;
+        queue.offer(WAKE_UP);
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<PendingSave> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.remove(WAKE_UP);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+    }
+
+    private void run() {
+        List<PendingSave> group = new ArrayList<>(maxGroupSize);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                collect(group);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                closed = true;
+            }
+            if (!group.isEmpty()) {
+                flush(group);
+                group.clear();
+            }
+        }
+    }
+
+    private void collect(List<PendingSave> group) throws InterruptedException {
+        // Wakes up now and then with an empty queue so close() is noticed
+        // Se despierta de vez en cuando con la cola vacía para enterarse de close()
+        PendingSave first = queue.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null || first == WAKE_UP) {
+            return;
+        }
+        group.add(first);
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (group.size() < maxGroupSize) {
+            queue.drainTo(group, maxGroupSize - group.size());
+            long remaining = deadline - System.nanoTime();
+            if (group.remove(WAKE_UP) || group.size() >= maxGroupSize || remaining <= 0) {
+                return;
+            }
+            PendingSave next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null || next == WAKE_UP) {
+                return;
+            }
+            group.add(next);
+        }
+    }
+
+    private void flush(List<PendingSave> group) {
+        long start = System.nanoTime();
+        RuntimeException[] errors = null;
+        try {
+            delegate.saveAll(group.stream().map(PendingSave::course).toList());
+        } catch (RuntimeException e) {
+            // The group was rolled back (usually an id that already exists): one by one, so only the culprits fail
+            // El grupo se deshizo (normalmente un id que ya existe): uno a uno, para que solo fallen los culpables
+            LOGGER.debug("Group of {} courses failed ({}), storing them one by one", group.size(), e.toString());
+            errors = new RuntimeException[group.size()];
+            for (int i = 0; i < group.size(); i++) {
+                try {
+                    delegate.save(group.get(i).course());
+                } catch (RuntimeException error) {
+                    errors[i] = error;
+                }
+            }
+        }
+        // Measured before the callers are released, so they never see a group missing from the metrics
+        // Se mide antes de liberar a los llamantes, para que nunca vean un grupo que falte en las métricas
+        flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        groupSizes.record(group.size());
+        for (int i = 0; i < group.size(); i++) {
+            if (errors == null || errors[i] == null) {
+                group.get(i).completion().complete(null);
+            } else {
+                group.get(i).completion().completeExceptionally(errors[i]);
+            }
+        }
+    }
+
+    private record PendingSave(Course course, CompletableFuture<Void> completion) {
+    }
+}
@@ -2,29 +2,46 @@ package com.futesat.hexagonal.courses.infrastructure.persistence.jpa;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+import java.util.UUID;
 
 @Entity
 @Table(name = "courses")
-public class CourseEntity {
+// The id is assigned by the domain, so Spring Data cannot tell a new entity from its id: without Persistable
+// El id lo asigna el dominio, así que Spring Data no distingue una entidad nueva por su id: sin Persistable
+// save() goes through merge(), which SELECTs the row before every INSERT
+// save() pasa por merge(), que hace un SELECT de la fila antes de cada INSERT
+public class CourseEntity implements Persistable<UUID> {
 
+    // Native UUID column (uuid in PostgreSQL/H2): 16 bytes instead of a 36-char VARCHAR key
+    // Columna UUID nativa (uuid en PostgreSQL/H2): 16 bytes en lugar de una clave VARCHAR de 36 caracteres
     @Id
-    private String id;
+    private UUID id;
     private String name;
     private String duration;
+    // New until it is persisted or loaded: then save() calls persist() and issues a single INSERT
+    // Nueva hasta que se persiste o se carga: así save() llama a persist() y lanza un único INSERT
+    @Transient
+    private boolean isNew = true;
 
     // Empty constructor required by JPA
     // Constructor vacío requerido por JPA
     public CourseEntity() {
     }
 
-    public CourseEntity(String id, String name, String duration) {
+    public CourseEntity(UUID id, String name, String duration) {
         this.id = id;
         this.name = name;
         this.duration = duration;
     }
 
-    public String getId() {
+    @Override
+    public UUID getId() {
         return id;
     }
 
@@ -35,4 +52,15 @@ public class CourseEntity {
     public String getDuration() {
         return duration;
     }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
 }
@@ -0,0 +1,54 @@
+package com.futesat.hexagonal.courses.infrastructure.persistence.jpa;
+
+import com.futesat.hexagonal.courses.application.export.CourseCatalogueReader;
+import com.futesat.hexagonal.courses.application.export.CourseRowHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+// Export adapter for the JPA profile: plain JDBC over the courses table, bypassing the persistence context.
+// Adaptador de exportación para el perfil JPA: JDBC plano sobre la tabla courses, sin contexto de persistencia.
+// The driver brings fetchSize rows per round-trip, so the heap holds one window of rows, never the table.
+// El driver trae fetchSize filas por ida y vuelta, así que el heap guarda una ventana de filas, nunca la tabla.
+@Repository
+public class JdbcCourseCatalogueReader implements CourseCatalogueReader {
+
+    private static final String SELECT_ALL = "SELECT id, name, duration FROM courses ORDER BY id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public JdbcCourseCatalogueReader(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${courses.export.fetch-size:1000}") int fetchSize) {
+        // A dedicated template: the fetch size must not leak into the shared JdbcTemplate
+        // Un template propio: el fetch size no debe filtrarse al JdbcTemplate compartido
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        // PostgreSQL only uses a server-side cursor when autocommit is off, hence the transaction
+        // PostgreSQL solo usa un cursor en servidor con el autocommit desactivado, de ahí la transacción
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public long readAll(CourseRowHandler handler) {
+        Long rows = readOnlyTransaction.execute(status -> {
+            long[] count = {0};
+            jdbcTemplate.query(SELECT_ALL, resultSet -> {
+                handler.handle(
+                        resultSet.getObject(1, UUID.class),
+                        resultSet.getString(2),
+                        resultSet.getString(3));
+                count[0]++;
+            });
+            return count[0];
+        });
+        return rows == null ? 0 : rows;
+    }
+}
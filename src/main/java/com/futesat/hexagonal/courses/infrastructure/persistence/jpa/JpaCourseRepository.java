@@ -1,42 +1,132 @@
 package com.futesat.hexagonal.courses.infrastructure.persistence.jpa;
 
 import com.futesat.hexagonal.courses.domain.Course;
+import com.futesat.hexagonal.courses.domain.CourseAlreadyExists;
 import com.futesat.hexagonal.courses.domain.CourseId;
 import com.futesat.hexagonal.courses.domain.CourseRepository;
-import org.springframework.context.annotation.Primary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
-@Primary // We mark this as primary so Spring chooses it if there is a conflict
-// Marcamos este como el principal para que Spring lo elija si hay conflicto
-// (although we will inject it manually)
-// (aunque lo inyectaremos manualmente)
+// The primary CourseRepository is composed in CourseModuleDependencyConfig (this adapter + decorators)
+// El CourseRepository principal se compone en CourseModuleDependencyConfig (este adaptador + decoradores)
 public class JpaCourseRepository implements CourseRepository {
 
+    private static final String INSERT = "INSERT INTO courses (id, name, duration) VALUES (?, ?, ?)";
+
     private final SpringDataCourseRepository jpaRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final int inChunkSize;
 
-    public JpaCourseRepository(SpringDataCourseRepository jpaRepository) {
+    public JpaCourseRepository(
+            SpringDataCourseRepository jpaRepository,
+            JdbcTemplate jdbcTemplate,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}") int batchSize,
+            @Value("${courses.jpa.in-chunk-size:500}") int inChunkSize) {
         this.jpaRepository = jpaRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.inChunkSize = inChunkSize;
     }
 
     @Override
     public void save(Course course) {
-        CourseEntity entity = new CourseEntity(
-                course.id().getValue(),
-                course.name().getValue(),
-                course.duration());
-        jpaRepository.save(entity);
+        // Insert-only: persist() + flush sends exactly one INSERT (no SELECT first), and flushing here makes a
+        // Solo inserción: persist() + flush envía exactamente un INSERT (sin SELECT previo), y hacer flush aquí hace que
+        // duplicated id fail now, inside the handler transaction, instead of at commit or as a silent overwrite
+        // un id duplicado falle ahora, dentro de la transacción del handler, y no al hacer commit o sobrescribiendo en silencio
+        try {
+            jpaRepository.saveAndFlush(toEntity(course));
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateKey(e)) {
+                throw new CourseAlreadyExists(course.id());
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(List<Course> courses) {
+        // Plain INSERTs sent as JDBC batches, on the connection of the current JPA transaction.
+        // INSERTs planos enviados en lotes JDBC, sobre la conexión de la transacción JPA actual.
+        // Skipping Hibernate (no entity, no persistence context, no dirty checking) is what makes bulk imports cheap.
+        // Saltarse Hibernate (sin entidad, sin contexto de persistencia, sin dirty checking) es lo que abarata las importaciones masivas.
+        try {
+            jdbcTemplate.batchUpdate(INSERT, courses, batchSize, (statement, course) -> {
+                statement.setObject(1, course.id().toUuid());
+                statement.setString(2, course.name().getValue());
+                statement.setString(3, course.duration());
+            });
+        } catch (DuplicateKeyException e) {
+            throw new CourseAlreadyExists(courses.stream().map(Course::id).toList());
+        }
     }
 
     @SuppressWarnings("null")
     @Override
     public Optional<Course> search(CourseId id) {
-        return jpaRepository.findById(id.getValue())
-                .map(entity -> Course.from(
-                        entity.getId(),
-                        entity.getName(),
-                        entity.getDuration()));
+        return jpaRepository.findById(id.toUuid()).map(JpaCourseRepository::toAggregate);
+    }
+
+    @Override
+    public List<Course> searchAll(Collection<CourseId> ids) {
+        // One WHERE id IN (...) per chunk: bounded statement size, and with IN-list padding enabled
+        // Un WHERE id IN (...) por bloque: tamaño de sentencia acotado y, con el relleno de listas IN activado,
+        // Hibernate reuses a handful of statement shapes instead of one per list length
+        // Hibernate reutiliza unas pocas formas de sentencia en lugar de una por cada longitud de lista
+        List<UUID> uuids = ids.stream().map(CourseId::toUuid).distinct().toList();
+        List<Course> courses = new ArrayList<>(uuids.size());
+        for (int from = 0; from < uuids.size(); from += inChunkSize) {
+            List<UUID> chunk = uuids.subList(from, Math.min(from + inChunkSize, uuids.size()));
+            jpaRepository.findAllById(chunk).forEach(entity -> courses.add(toAggregate(entity)));
+        }
+        return courses;
+    }
+
+    @Override
+    public List<Course> searchAfter(CourseId after, int limit) {
+        List<CourseEntity> page = after == null
+                ? jpaRepository.findAllByOrderByIdAsc(Limit.of(limit))
+                : jpaRepository.findByIdGreaterThanOrderByIdAsc(after.toUuid(), Limit.of(limit));
+        return page.stream().map(JpaCourseRepository::toAggregate).toList();
+    }
+
+    // Hibernate reports every constraint violation the same way (a name too long for its column too): only a
+    // Hibernate informa igual de cualquier violación de restricción (también un nombre demasiado largo para su columna): solo
+    // duplicated key, as the JDBC translator of the database classifies it, is a course that already exists
+    // una clave duplicada, según la clasifica el traductor JDBC de la base de datos, es un curso que ya existe
+    private boolean isDuplicateKey(DataIntegrityViolationException e) {
+        return NestedExceptionUtils.getMostSpecificCause(e) instanceof SQLException sqlException
+                && jdbcTemplate.getExceptionTranslator().translate("save", null, sqlException)
+                        instanceof DuplicateKeyException;
+    }
+
+    private static Course toAggregate(CourseEntity entity) {
+        return Course.from(
+                CourseId.fromUuid(entity.getId()),
+                entity.getName(),
+                entity.getDuration());
+    }
+
+    private CourseEntity toEntity(Course course) {
+        return new CourseEntity(
+                course.id().toUuid(),
+                course.name().getValue(),
+                course.duration());
     }
 }
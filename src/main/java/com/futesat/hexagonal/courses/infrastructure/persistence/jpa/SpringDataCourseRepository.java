@@ -1,12 +1,22 @@
 package com.futesat.hexagonal.courses.infrastructure.persistence.jpa;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.UUID;
+
 // Native "magic" Spring Data repository.
 // Repositorio "mágico" nativo de Spring Data.
 // Only accessible from the infrastructure layer.
 // Solo es accesible desde la capa de infraestructura.
 @Repository
-public interface SpringDataCourseRepository extends JpaRepository<CourseEntity, String> {
+public interface SpringDataCourseRepository extends JpaRepository<CourseEntity, UUID> {
+
+    // WHERE id > ? ORDER BY id LIMIT ?: a range scan on the primary key index, whatever the page
+    // WHERE id > ? ORDER BY id LIMIT ?: un range scan sobre el índice de la clave primaria, sea cual sea la página
+    List<CourseEntity> findByIdGreaterThanOrderByIdAsc(UUID after, Limit limit);
+
+    List<CourseEntity> findAllByOrderByIdAsc(Limit limit);
 }
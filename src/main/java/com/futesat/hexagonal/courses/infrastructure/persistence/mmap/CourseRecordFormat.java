@@ -0,0 +1,97 @@
+package com.futesat.hexagonal.courses.infrastructure.persistence.mmap;
+
+import com.futesat.hexagonal.courses.domain.Course;
+import com.futesat.hexagonal.courses.domain.CourseId;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+// Binary layout of a course record inside a segment:
+// Formato binario de un registro de curso dentro de un segmento:
+//   header:  int payloadLength | int crc32c(payload)
+//   payload: long idMostSignificantBits | long idLeastSignificantBits
+//            | short nameLength | name (UTF-8) | short durationLength (-1 = null) | duration (UTF-8)
+// A payloadLength of 0 marks the end of the written data (segments are zero-filled).
+// Un payloadLength de 0 marca el final de los datos escritos (los segmentos se rellenan con ceros).
+final class CourseRecordFormat {
+
+    static final int HEADER_SIZE = Integer.BYTES * 2;
+    static final int MIN_PAYLOAD_SIZE = Long.BYTES * 2 + Short.BYTES * 2;
+    private static final int MAX_STRING_BYTES = Short.MAX_VALUE;
+    private static final short NULL_STRING = -1;
+
+    private CourseRecordFormat() {
+    }
+
+    static byte[] encode(Course course) {
+        byte[] name = utf8(course.name().getValue());
+        byte[] duration = course.duration() == null ? null : utf8(course.duration());
+        int payloadLength = MIN_PAYLOAD_SIZE + name.length + (duration == null ? 0 : duration.length);
+
+        ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + payloadLength)
+                .putInt(payloadLength)
+                .putInt(0)
+                .putLong(course.id().getMostSignificantBits())
+                .putLong(course.id().getLeastSignificantBits())
+                .putShort((short) name.length)
+                .put(name);
+        if (duration == null) {
+            record.putShort(NULL_STRING);
+        } else {
+            record.putShort((short) duration.length).put(duration);
+        }
+
+        CRC32C crc = new CRC32C();
+        crc.update(record.array(), HEADER_SIZE, payloadLength);
+        record.putInt(Integer.BYTES, (int) crc.getValue());
+        return record.array();
+    }
+
+    static CourseId readId(ByteBuffer segment, int offset) {
+        int payload = offset + HEADER_SIZE;
+        return CourseId.fromUuid(new UUID(segment.getLong(payload), segment.getLong(payload + Long.BYTES)));
+    }
+
+    static Course decode(ByteBuffer segment, int offset) {
+        int position = offset + HEADER_SIZE + Long.BYTES * 2;
+        int nameLength = segment.getShort(position);
+        String name = readString(segment, position + Short.BYTES, nameLength);
+        position += Short.BYTES + nameLength;
+        int durationLength = segment.getShort(position);
+        String duration = durationLength == NULL_STRING
+                ? null
+                : readString(segment, position + Short.BYTES, durationLength);
+        return Course.from(readId(segment, offset), name, duration);
+    }
+
+    static int payloadLength(ByteBuffer segment, int offset) {
+        return segment.getInt(offset);
+    }
+
+    // A record is valid if it fits in the segment and its payload matches the checksum (no torn write)
+    // Un registro es válido si cabe en el segmento y su payload coincide con el checksum (sin escritura a medias)
+    static boolean isValid(ByteBuffer segment, int offset, int payloadLength) {
+        if (payloadLength < MIN_PAYLOAD_SIZE || offset + HEADER_SIZE + payloadLength > segment.capacity()) {
+            return false;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(segment.slice(offset + HEADER_SIZE, payloadLength));
+        return (int) crc.getValue() == segment.getInt(offset + Integer.BYTES);
+    }
+
+    private static byte[] utf8(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("Value too long to be stored: " + bytes.length + " bytes");
+        }
+        return bytes;
+    }
+
+    private static String readString(ByteBuffer segment, int position, int length) {
+        byte[] bytes = new byte[length];
+        segment.get(position, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
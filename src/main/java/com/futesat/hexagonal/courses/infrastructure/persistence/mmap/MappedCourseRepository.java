@@ -0,0 +1,339 @@
+package com.futesat.hexagonal.courses.infrastructure.persistence.mmap;
+
+import com.futesat.hexagonal.courses.domain.Course;
+import com.futesat.hexagonal.courses.domain.CourseAlreadyExists;
+import com.futesat.hexagonal.courses.domain.CourseId;
+import com.futesat.hexagonal.courses.domain.CourseRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// Persistent adapter for edge nodes: courses in memory-mapped, append-only segment files (courses.persistence=mmap).
+// Adaptador persistente para nodos edge: cursos en segmentos mapeados en memoria y solo de añadir (courses.persistence=mmap).
+// An in-memory index (CourseId -> segment + offset) answers lookups without any database round-trip,
+// Un índice en memoria (CourseId -> segmento + offset) responde las búsquedas sin ida y vuelta a base de datos,
+// and on restart it is rebuilt by scanning the segments (no JPA warm-up).
+// y al reiniciar se reconstruye recorriendo los segmentos (sin calentar JPA).
+@Repository
+@ConditionalOnProperty(name = "courses.persistence", havingValue = "mmap")
+public class MappedCourseRepository implements CourseRepository {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MappedCourseRepository.class);
+    private static final Pattern SEGMENT_FILE = Pattern.compile("segment-(\\d{10})\\.dat");
+
+    private final Path directory;
+    private final int segmentSize;
+    private final MappedFsyncPolicy fsyncPolicy;
+    private final double compactionThreshold;
+    // Location = segment id (high 32 bits) + offset inside the segment (low 32 bits)
+    // Ubicación = id de segmento (32 bits altos) + offset dentro del segmento (32 bits bajos)
+    private final ConcurrentHashMap<CourseId, Long> index = new ConcurrentHashMap<>();
+    // Ordered copy of the keys for keyset pagination
+    // Copia ordenada de las claves para la paginación keyset
+    private final ConcurrentSkipListSet<CourseId> orderedIds = new ConcurrentSkipListSet<>();
+    private final ConcurrentHashMap<Integer, MappedSegment> segments = new ConcurrentHashMap<>();
+    // Single writer: appends, rolling and compaction are serialized; reads never take it
+    // Un único escritor: appends, cambio de segmento y compactación van en serie; las lecturas nunca lo toman
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ScheduledExecutorService fsyncScheduler;
+    private volatile MappedSegment active;
+    private int nextSegmentId;
+    private long totalBytes;
+    private long deadBytes;
+
+    public MappedCourseRepository(
+            @Value("${courses.mmap.directory:data/courses}") Path directory,
+            @Value("${courses.mmap.segment-size:64MB}") DataSize segmentSize,
+            @Value("${courses.mmap.fsync:periodic}") MappedFsyncPolicy fsyncPolicy,
+            @Value("${courses.mmap.fsync-interval:1s}") Duration fsyncInterval,
+            @Value("${courses.mmap.compaction-threshold:0.5}") double compactionThreshold) {
+        if (segmentSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segment size must be below 2GB: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = (int) segmentSize.toBytes();
+        this.fsyncPolicy = fsyncPolicy;
+        this.compactionThreshold = compactionThreshold;
+
+        recover();
+
+        if (fsyncPolicy == MappedFsyncPolicy.PERIODIC) {
+            fsyncScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "courses-mmap-fsync");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalMillis = fsyncInterval.toMillis();
+            fsyncScheduler.scheduleWithFixedDelay(() -> active.force(), intervalMillis, intervalMillis,
+                    TimeUnit.MILLISECONDS);
+        } else {
+            fsyncScheduler = null;
+        }
+    }
+
+    @Override
+    public void save(Course course) {
+        byte[] record = CourseRecordFormat.encode(course);
+        writeLock.lock();
+        try {
+            // Insert-only, like the database adapter: under the single writer lock the check cannot race
+            // Solo inserción, como el adaptador de base de datos: bajo el lock del único escritor la comprobación no compite
+            if (index.containsKey(course.id())) {
+                throw new CourseAlreadyExists(course.id());
+            }
+            append(course.id(), record);
+            forceIfRequired();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void saveAll(List<Course> courses) {
+        // Encoding happens outside the lock; the whole batch pays a single fsync with ALWAYS
+        // La codificación ocurre fuera del lock; todo el lote paga un único fsync con ALWAYS
+        List<byte[]> records = courses.stream().map(CourseRecordFormat::encode).toList();
+        writeLock.lock();
+        try {
+            // Every id is checked before the first append: a rejected batch writes nothing
+            // Todos los ids se comprueban antes del primer append: un lote rechazado no escribe nada
+            Set<CourseId> batchIds = new HashSet<>();
+            for (Course course : courses) {
+                if (index.containsKey(course.id()) || !batchIds.add(course.id())) {
+                    throw new CourseAlreadyExists(course.id());
+                }
+            }
+            for (int i = 0; i < courses.size(); i++) {
+                append(courses.get(i).id(), records.get(i));
+            }
+            forceIfRequired();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Course> search(CourseId id) {
+        while (true) {
+            Long location = index.get(id);
+            if (location == null) {
+                return Optional.empty();
+            }
+            MappedSegment segment = segments.get(segmentOf(location));
+            if (segment != null) {
+                return Optional.of(CourseRecordFormat.decode(segment.buffer(), offsetOf(location)));
+            }
+            // A compaction removed the segment meanwhile: the index already points to the new copy
+            // Una compactación eliminó el segmento mientras tanto: el índice ya apunta a la copia nueva
+        }
+    }
+
+    @Override
+    public List<Course> searchAll(Collection<CourseId> ids) {
+        // Each lookup is an index probe plus a read from mapped memory: nothing to batch
+        // Cada búsqueda es un acceso al índice más una lectura de memoria mapeada: no hay nada que agrupar
+        List<Course> found = new ArrayList<>(ids.size());
+        for (CourseId id : ids) {
+            search(id).ifPresent(found::add);
+        }
+        return found;
+    }
+
+    @Override
+    public List<Course> searchAfter(CourseId after, int limit) {
+        NavigableSet<CourseId> ids = after == null ? orderedIds : orderedIds.tailSet(after, false);
+        List<Course> page = new ArrayList<>(Math.min(limit, index.size()));
+        Iterator<CourseId> iterator = ids.iterator();
+        while (page.size() < limit && iterator.hasNext()) {
+            search(iterator.next()).ifPresent(page::add);
+        }
+        return page;
+    }
+
+    // Rewrites the live records into fresh segments and deletes the old ones
+    // Reescribe los registros vivos en segmentos nuevos y borra los antiguos
+    public void compact() {
+        writeLock.lock();
+        try {
+            compactLocked();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    @PreDestroy
+    public void close() {
+        if (fsyncScheduler != null) {
+            fsyncScheduler.shutdown();
+        }
+        writeLock.lock();
+        try {
+            segments.values().forEach(MappedSegment::force);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void append(CourseId id, byte[] record) {
+        if (record.length > segmentSize) {
+            throw new IllegalArgumentException("Course record larger than a segment: " + record.length + " bytes");
+        }
+        ensureRoomFor(record.length);
+        MappedSegment segment = active;
+        int offset = segment.append(record);
+        totalBytes += record.length;
+        // Publishing in the index (after the bytes are written) is what makes the record visible to readers
+        // Publicar en el índice (tras escribir los bytes) es lo que hace visible el registro a los lectores
+        index.put(id, location(segment.id(), offset));
+        orderedIds.add(id);
+    }
+
+    private void ensureRoomFor(int recordSize) {
+        if (active.hasRoomFor(recordSize)) {
+            return;
+        }
+        // A full segment is made durable before moving on
+        // Un segmento lleno se hace durable antes de seguir
+        active.force();
+        if (deadBytes > totalBytes * compactionThreshold) {
+            compactLocked();
+        }
+        if (!active.hasRoomFor(recordSize)) {
+            active = newSegment();
+        }
+    }
+
+    private void compactLocked() {
+        List<MappedSegment> oldSegments = List.copyOf(segments.values());
+        MappedSegment target = newSegment();
+        long liveBytes = 0;
+        for (Map.Entry<CourseId, Long> entry : index.entrySet()) {
+            long location = entry.getValue();
+            MappedSegment source = segments.get(segmentOf(location));
+            int recordSize = source.recordSize(offsetOf(location));
+            if (!target.hasRoomFor(recordSize)) {
+                target.force();
+                target = newSegment();
+            }
+            int offset = target.copyFrom(source, offsetOf(location), recordSize);
+            entry.setValue(location(target.id(), offset));
+            liveBytes += recordSize;
+        }
+        // The copies are durable before the originals disappear (a crash here only leaves duplicates)
+        // Las copias son durables antes de que desaparezcan los originales (un crash aquí solo deja duplicados)
+        target.force();
+        active = target;
+        for (MappedSegment segment : oldSegments) {
+            segments.remove(segment.id());
+            segment.delete();
+        }
+        LOGGER.info("Compacted {} segments into {} ({} live bytes, {} dead bytes reclaimed)",
+                oldSegments.size(), segments.size(), liveBytes, totalBytes - liveBytes);
+        totalBytes = liveBytes;
+        deadBytes = 0;
+    }
+
+    private void recover() {
+        try {
+            Files.createDirectories(directory);
+            List<Path> files = new ArrayList<>();
+            try (Stream<Path> paths = Files.list(directory)) {
+                paths.filter(path -> SEGMENT_FILE.matcher(path.getFileName().toString()).matches())
+                        .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+                        .forEach(files::add);
+            }
+
+            // Segments are replayed in order: a later record for the same id wins (only a crash in the middle of a
+            // Los segmentos se reproducen en orden: un registro posterior del mismo id gana (solo un crash en mitad de una
+            // compaction leaves such duplicates, and they count as dead bytes)
+            // compactación deja esos duplicados, y cuentan como bytes muertos)
+            for (Path file : files) {
+                Matcher matcher = SEGMENT_FILE.matcher(file.getFileName().toString());
+                matcher.matches();
+                MappedSegment segment = MappedSegment.open(Integer.parseInt(matcher.group(1)), file, segmentSize);
+                segments.put(segment.id(), segment);
+                segment.recover(offset -> {
+                    CourseId id = CourseRecordFormat.readId(segment.buffer(), offset);
+                    Long previous = index.put(id, location(segment.id(), offset));
+                    if (previous != null) {
+                        deadBytes += recordSize(previous);
+                    } else {
+                        orderedIds.add(id);
+                    }
+                });
+                totalBytes += segment.writePosition();
+                nextSegmentId = segment.id() + 1;
+                active = segment;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open course segments in " + directory, e);
+        }
+        if (active == null) {
+            active = newSegment();
+        }
+        LOGGER.info("Recovered {} courses from {} segments in {}", index.size(), segments.size(), directory);
+    }
+
+    private MappedSegment newSegment() {
+        int id = nextSegmentId++;
+        MappedSegment segment = MappedSegment.open(id, directory.resolve(String.format("segment-%010d.dat", id)),
+                segmentSize);
+        segments.put(id, segment);
+        return segment;
+    }
+
+    private void forceIfRequired() {
+        if (fsyncPolicy == MappedFsyncPolicy.ALWAYS) {
+            active.force();
+        }
+    }
+
+    private int recordSize(long location) {
+        return segments.get(segmentOf(location)).recordSize(offsetOf(location));
+    }
+
+    private static long location(int segmentId, int offset) {
+        return (long) segmentId << 32 | (offset & 0xFFFFFFFFL);
+    }
+
+    private static int segmentOf(long location) {
+        return (int) (location >>> 32);
+    }
+
+    private static int offsetOf(long location) {
+        return (int) location;
+    }
+}
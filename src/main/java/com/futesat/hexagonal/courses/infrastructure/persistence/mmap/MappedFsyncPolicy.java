@@ -0,0 +1,15 @@
+package com.futesat.hexagonal.courses.infrastructure.persistence.mmap;
+
+// When written pages are forced to disk (durability vs write latency)
+// Cuándo se fuerzan a disco las páginas escritas (durabilidad vs latencia de escritura)
+public enum MappedFsyncPolicy {
+    // After every save: nothing acknowledged is lost, every write pays an fsync
+    // Tras cada save: no se pierde nada confirmado, cada escritura paga un fsync
+    ALWAYS,
+    // In the background every courses.mmap.fsync-interval: a crash loses at most that window
+    // En segundo plano cada courses.mmap.fsync-interval: un crash pierde como mucho esa ventana
+    PERIODIC,
+    // Left to the OS page cache (survives a JVM crash, not a power loss)
+    // Se deja a la page cache del SO (sobrevive a un crash de la JVM, no a un corte de luz)
+    OS
+}
@@ -0,0 +1,118 @@
+package com.futesat.hexagonal.courses.infrastructure.persistence.mmap;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntConsumer;
+
+// Append-only file of course records, mapped into memory.
+// Fichero de registros de cursos, solo de añadir, mapeado en memoria.
+// Reads use absolute gets (no shared position), so they are safe from any thread without locks.
+// Las lecturas usan gets absolutos (sin posición compartida), así que son seguras desde cualquier hilo sin locks.
+final class MappedSegment {
+
+    private final int id;
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    // Only modified by the single writer (under the repository lock)
+    // Solo lo modifica el único escritor (bajo el lock del repositorio)
+    private int writePosition;
+
+    private MappedSegment(int id, Path path, MappedByteBuffer buffer) {
+        this.id = id;
+        this.path = path;
+        this.buffer = buffer;
+    }
+
+    static MappedSegment open(int id, Path path, int size) {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // The mapping outlives the channel; new files are extended (zero-filled) to the segment size
+            // El mapeo sobrevive al canal; los ficheros nuevos se extienden (con ceros) al tamaño del segmento
+            long mappedSize = Math.max(channel.size(), size);
+            return new MappedSegment(id, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to map segment " + path, e);
+        }
+    }
+
+    // Crash recovery: walks the records until the end marker or the first invalid (torn) one
+    // Recuperación tras crash: recorre los registros hasta la marca de fin o el primero inválido (a medias)
+    void recover(IntConsumer onRecord) {
+        int position = 0;
+        while (position + CourseRecordFormat.HEADER_SIZE <= buffer.capacity()) {
+            int payloadLength = CourseRecordFormat.payloadLength(buffer, position);
+            if (payloadLength == 0) {
+                break;
+            }
+            if (!CourseRecordFormat.isValid(buffer, position, payloadLength)) {
+                // Wipe the torn tail so it can never be mistaken for data after new appends
+                // Borramos la cola a medias para que nunca se confunda con datos tras nuevos appends
+                zeroFrom(position);
+                break;
+            }
+            onRecord.accept(position);
+            position += CourseRecordFormat.HEADER_SIZE + payloadLength;
+        }
+        writePosition = position;
+    }
+
+    boolean hasRoomFor(int recordSize) {
+        return writePosition + recordSize <= buffer.capacity();
+    }
+
+    int append(byte[] record) {
+        int offset = writePosition;
+        buffer.put(offset, record);
+        writePosition += record.length;
+        return offset;
+    }
+
+    int copyFrom(MappedSegment source, int sourceOffset, int recordSize) {
+        int offset = writePosition;
+        buffer.put(offset, source.buffer, sourceOffset, recordSize);
+        writePosition += recordSize;
+        return offset;
+    }
+
+    int recordSize(int offset) {
+        return CourseRecordFormat.HEADER_SIZE + CourseRecordFormat.payloadLength(buffer, offset);
+    }
+
+    MappedByteBuffer buffer() {
+        return buffer;
+    }
+
+    int id() {
+        return id;
+    }
+
+    int writePosition() {
+        return writePosition;
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    void delete() {
+        // The mapping stays valid for readers still holding it until it is garbage collected
+        // El mapeo sigue siendo válido para lectores que aún lo tengan hasta que el GC lo libere
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to delete segment " + path, e);
+        }
+    }
+
+    private void zeroFrom(int position) {
+        for (int i = position; i < buffer.capacity(); i++) {
+            buffer.put(i, (byte) 0);
+        }
+        buffer.force();
+    }
+}
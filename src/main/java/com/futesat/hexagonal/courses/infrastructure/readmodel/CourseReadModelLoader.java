@@ -0,0 +1,37 @@
+package com.futesat.hexagonal.courses.infrastructure.readmodel;
+
+import com.futesat.hexagonal.courses.application.export.CourseCatalogueReader;
+import com.futesat.hexagonal.courses.application.find.CourseReadModelProjector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// Rebuilds the read model from the write side once the app is up (the subscriber keeps it current afterwards).
+// Reconstruye el modelo de lectura desde el lado de escritura al arrancar la app (luego el suscriptor lo mantiene al día).
+// Until it finishes, lookups of older courses are answered by the write model.
+// Hasta que termina, las búsquedas de cursos anteriores las responde el modelo de escritura.
+@Component
+@Profile("!test") // Tests start with an empty read model
+public class CourseReadModelLoader {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CourseReadModelLoader.class);
+
+    private final CourseReadModelProjector projector;
+    private final CourseCatalogueReader reader;
+
+    public CourseReadModelLoader(CourseReadModelProjector projector, CourseCatalogueReader reader) {
+        this.projector = projector;
+        this.reader = reader;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.nanoTime();
+        long courses = projector.rebuild(reader);
+        LOGGER.info("Course read model rebuilt with {} courses in {} ms", courses,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,56 @@
+package com.futesat.hexagonal.courses.infrastructure.readmodel;
+
+import com.futesat.hexagonal.courses.application.find.CourseReadModelProjector;
+import com.futesat.hexagonal.courses.domain.CourseCreatedEvent;
+import com.futesat.hexagonal.shared.domain.bus.event.DomainEventSubscriber;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// Projects every created course into the read model and measures how far behind the write side it runs.
+// Proyecta cada curso creado en el modelo de lectura y mide cuánto va por detrás del lado de escritura.
+// courses.read-model.lag = time from the event (occurredOn) to its view being queryable.
+// courses.read-model.lag = tiempo desde el evento (occurredOn) hasta que su vista se puede consultar.
+@Component
+public class CourseReadModelSubscriber implements DomainEventSubscriber<CourseCreatedEvent> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CourseReadModelSubscriber.class);
+
+    private final CourseReadModelProjector projector;
+    private final Timer lag;
+
+    public CourseReadModelSubscriber(CourseReadModelProjector projector, MeterRegistry meterRegistry) {
+        this.projector = projector;
+        this.lag = Timer.builder("courses.read-model.lag")
+                .description("Time from a course event to its view in the read model")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Class<CourseCreatedEvent> subscribedTo() {
+        return CourseCreatedEvent.class;
+    }
+
+    // After commit: a rolled back course must not become queryable
+    // Tras el commit: un curso deshecho por rollback no debe poder consultarse
+    @TransactionalEventListener(fallbackExecution = true)
+    @Override
+    public void on(CourseCreatedEvent event) {
+        try {
+            projector.on(event);
+        } catch (IllegalArgumentException e) {
+            // A derived view: a malformed event must not break the other subscribers
+            // Una vista derivada: un evento malformado no debe romper a los demás suscriptores
+            LOGGER.warn("Course {} not projected into the read model: {}", event.getAggregateId(), e.getMessage());
+            return;
+        }
+        lag.record(Duration.between(event.getOccurredOn(), LocalDateTime.now()));
+    }
+}
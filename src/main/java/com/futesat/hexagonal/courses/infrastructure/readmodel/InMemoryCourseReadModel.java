@@ -0,0 +1,50 @@
+package com.futesat.hexagonal.courses.infrastructure.readmodel;
+
+import com.futesat.hexagonal.courses.application.find.CourseReadModel;
+import com.futesat.hexagonal.courses.application.find.CourseResponse;
+import com.futesat.hexagonal.courses.domain.CourseId;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Course views in a ConcurrentHashMap: a lookup is a hash probe returning the response object as is.
+// Vistas de curso en un ConcurrentHashMap: una búsqueda es un acceso hash que devuelve el objeto de respuesta tal cual.
+// Bounded by courses.read-model.max-size: beyond it new views are not kept and the query side falls back to the write model.
+// Acotado por courses.read-model.max-size: por encima no se guardan vistas nuevas y la lectura recurre al modelo de escritura.
+@Component
+public class InMemoryCourseReadModel implements CourseReadModel {
+
+    private final ConcurrentHashMap<CourseId, CourseResponse> views = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    public InMemoryCourseReadModel(
+            @Value("${courses.read-model.max-size:1000000}") int maxSize,
+            MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+        Gauge.builder("courses.read-model.size", views, ConcurrentHashMap::size)
+                .description("Course views held by the read model")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Optional<CourseResponse> find(CourseId id) {
+        return Optional.ofNullable(views.get(id));
+    }
+
+    @Override
+    public void save(CourseId id, CourseResponse view) {
+        // Approximate bound (size() is a cheap estimate): a few views over the limit under contention are fine
+        // Límite aproximado (size() es una estimación barata): unas pocas vistas de más bajo contención no importan
+        if (views.size() < maxSize || views.containsKey(id)) {
+            views.put(id, view);
+        }
+    }
+
+    public int size() {
+        return views.size();
+    }
+}
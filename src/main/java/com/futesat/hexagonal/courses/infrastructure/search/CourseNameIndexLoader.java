@@ -0,0 +1,29 @@
+package com.futesat.hexagonal.courses.infrastructure.search;
+
+import com.futesat.hexagonal.courses.application.export.CourseCatalogueReader;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// Fills the typeahead index from the repository once the app is up (the subscriber keeps it current afterwards).
+// Llena el índice del typeahead desde el repositorio al arrancar la app (luego el suscriptor lo mantiene al día).
+// Until it finishes, suggestions only include the courses created since startup.
+// Hasta que termina, las sugerencias solo incluyen los cursos creados desde el arranque.
+@Component
+@Profile("!test") // Tests start with an empty index
+public class CourseNameIndexLoader {
+
+    private final InMemoryCourseNameIndex index;
+    private final CourseCatalogueReader reader;
+
+    public CourseNameIndexLoader(InMemoryCourseNameIndex index, CourseCatalogueReader reader) {
+        this.index = index;
+        this.reader = reader;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        index.rebuild(reader);
+    }
+}
@@ -0,0 +1,47 @@
+package com.futesat.hexagonal.courses.infrastructure.search;
+
+import com.futesat.hexagonal.courses.application.search.CourseNameIndex;
+import com.futesat.hexagonal.courses.domain.CourseCreatedEvent;
+import com.futesat.hexagonal.shared.domain.bus.event.DomainEventSubscriber;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+
+// Keeps the typeahead index up to date, one course at a time
+// Mantiene al día el índice del typeahead, curso a curso
+@Component
+public class CourseNameIndexSubscriber implements DomainEventSubscriber<CourseCreatedEvent> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CourseNameIndexSubscriber.class);
+
+    private final CourseNameIndex index;
+
+    public CourseNameIndexSubscriber(CourseNameIndex index) {
+        this.index = index;
+    }
+
+    @Override
+    public Class<CourseCreatedEvent> subscribedTo() {
+        return CourseCreatedEvent.class;
+    }
+
+    // After commit: a rolled back course must not show up in the suggestions
+    // Tras el commit: un curso deshecho por rollback no debe aparecer en las sugerencias
+    @TransactionalEventListener(fallbackExecution = true)
+    @Override
+    public void on(CourseCreatedEvent event) {
+        UUID id;
+        try {
+            id = UUID.fromString(event.getAggregateId());
+        } catch (IllegalArgumentException e) {
+            // The index is a derived view: a malformed event must not break the other subscribers
+            // El índice es una vista derivada: un evento malformado no debe romper a los demás suscriptores
+            LOGGER.warn("Course {} not indexed for suggestions: invalid id", event.getAggregateId());
+            return;
+        }
+        index.add(id, event.getName());
+    }
+}
@@ -0,0 +1,291 @@
+package com.futesat.hexagonal.courses.infrastructure.search;
+
+import com.futesat.hexagonal.courses.application.export.CourseCatalogueReader;
+import com.futesat.hexagonal.courses.application.search.CourseNameIndex;
+import com.futesat.hexagonal.courses.application.search.CourseNameSuggestion;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Prefix index over normalized course names (lowercase, no accents, single spaces).
+// Índice de prefijos sobre los nombres de curso normalizados (minúsculas, sin acentos, espacios simples).
+// The bulk lives in sorted parallel arrays (binary search, no node per course); new names go to a small
+// El grueso vive en arrays paralelos ordenados (búsqueda binaria, sin nodo por curso); los nombres nuevos van a un
+// concurrent skip list that is merged into fresh arrays once it grows past merge-threshold entries.
+// pequeño skip list concurrente que se fusiona en arrays nuevos cuando supera merge-threshold entradas.
+@Component
+public class InMemoryCourseNameIndex implements CourseNameIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(InMemoryCourseNameIndex.class);
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private final ConcurrentSkipListSet<Entry> recent = new ConcurrentSkipListSet<>();
+    // ConcurrentSkipListSet.size() walks the whole set, so the pending merge work is counted apart
+    // ConcurrentSkipListSet.size() recorre todo el set, así que el trabajo pendiente de fusionar se cuenta aparte
+    private final AtomicInteger recentSize = new AtomicInteger();
+    // Only merges and rebuilds take it: queries and adds never block
+    // Solo lo toman las fusiones y reconstrucciones: las consultas y las altas nunca se bloquean
+    private final ReentrantLock mergeLock = new ReentrantLock();
+    private final int mergeThreshold;
+
+    public InMemoryCourseNameIndex(@Value("${courses.search.merge-threshold:10000}") int mergeThreshold) {
+        this.mergeThreshold = mergeThreshold;
+    }
+
+    @Override
+    public void add(UUID id, String name) {
+        if (recent.add(Entry.of(id, name)) && recentSize.incrementAndGet() >= mergeThreshold && mergeLock.tryLock()) {
+            try {
+                mergeRecent();
+            } finally {
+                mergeLock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public List<CourseNameSuggestion> complete(String prefix, int limit) {
+        String key = normalize(prefix, true);
+        while (true) {
+            Snapshot current = snapshot;
+            List<CourseNameSuggestion> suggestions = complete(current, key, limit);
+            // A merge published new arrays while we read the recent names (some may have moved): read again
+            // Una fusión publicó arrays nuevos mientras leíamos los nombres recientes (alguno puede haberse movido): releemos
+            if (current == snapshot) {
+                return suggestions;
+            }
+        }
+    }
+
+    // Loads the whole catalogue (startup); names added meanwhile through add() are kept
+    // Carga todo el catálogo (arranque); los nombres añadidos mientras tanto con add() se conservan
+    public void rebuild(CourseCatalogueReader reader) {
+        long start = System.nanoTime();
+        List<Entry> entries = new ArrayList<>();
+        reader.readAll((id, name, duration) -> entries.add(Entry.of(id, name)));
+        entries.sort(null);
+        mergeLock.lock();
+        try {
+            snapshot = Snapshot.merge(snapshot, entries);
+            mergeRecent();
+        } finally {
+            mergeLock.unlock();
+        }
+        LOGGER.info("Course name index rebuilt with {} names in {} ms", snapshot.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public int size() {
+        return snapshot.size() + recentSize.get();
+    }
+
+    private void mergeRecent() {
+        List<Entry> pending = new ArrayList<>(recent);
+        if (pending.isEmpty()) {
+            return;
+        }
+        snapshot = Snapshot.merge(snapshot, pending);
+        // Published first, removed after: readers may briefly see a name twice (deduplicated), never zero times
+        // Primero se publica y luego se quita: los lectores pueden ver un nombre dos veces (se deduplica), nunca cero
+        recent.removeAll(pending);
+        recentSize.addAndGet(-pending.size());
+    }
+
+    private List<CourseNameSuggestion> complete(Snapshot current, String key, int limit) {
+        List<CourseNameSuggestion> suggestions = new ArrayList<>(limit);
+        int position = current.lowerBound(key);
+        Iterator<Entry> recentEntries = recent.tailSet(Entry.lowest(key)).iterator();
+        Entry next = nextMatch(recentEntries, key);
+        while (suggestions.size() < limit) {
+            boolean fromSnapshot = position < current.size() && current.keys[position].startsWith(key);
+            if (!fromSnapshot && next == null) {
+                break;
+            }
+            int order = !fromSnapshot ? 1 : next == null ? -1 : current.compare(position, next);
+            if (order <= 0) {
+                suggestions.add(current.suggestion(position++));
+                if (order == 0) {
+                    next = nextMatch(recentEntries, key);
+                }
+            } else {
+                suggestions.add(next.suggestion());
+                next = nextMatch(recentEntries, key);
+            }
+        }
+        return suggestions;
+    }
+
+    private static Entry nextMatch(Iterator<Entry> entries, String key) {
+        if (!entries.hasNext()) {
+            return null;
+        }
+        Entry entry = entries.next();
+        return entry.key.startsWith(key) ? entry : null;
+    }
+
+    // Lowercase, accents removed ("Diseño" -> "diseno") and runs of whitespace collapsed to a single space
+    // Minúsculas, sin acentos ("Diseño" -> "diseno") y secuencias de espacios reducidas a un único espacio
+    static String normalize(String text, boolean keepTrailingSpace) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder normalized = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                pendingSpace = !normalized.isEmpty();
+                continue;
+            }
+            if (pendingSpace) {
+                normalized.append(' ');
+                pendingSpace = false;
+            }
+            normalized.append(Character.toLowerCase(c));
+        }
+        // "java " must not match "javascript": a trailing space in the prefix is meaningful
+        // "java " no debe encajar con "javascript": un espacio final en el prefijo tiene significado
+        if (pendingSpace && keepTrailingSpace) {
+            normalized.append(' ');
+        }
+        return normalized.toString();
+    }
+
+    // Ordered by normalized name, then by id (unsigned) so equal names stay distinct
+    // Ordenado por nombre normalizado y luego por id (sin signo) para que los nombres iguales sigan siendo distintos
+    private record Entry(String key, String name, long mostSignificantBits, long leastSignificantBits)
+            implements Comparable<Entry> {
+
+        static Entry of(UUID id, String name) {
+            String key = normalize(name, false);
+            // Names that are already normalized share the same String
+            // Los nombres que ya están normalizados comparten el mismo String
+            return new Entry(key, key.equals(name) ? key : name,
+                    id.getMostSignificantBits(), id.getLeastSignificantBits());
+        }
+
+        static Entry lowest(String key) {
+            return new Entry(key, null, 0, 0);
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return compare(key, mostSignificantBits, leastSignificantBits,
+                    other.key, other.mostSignificantBits, other.leastSignificantBits);
+        }
+
+        CourseNameSuggestion suggestion() {
+            return new CourseNameSuggestion(new UUID(mostSignificantBits, leastSignificantBits).toString(), name);
+        }
+    }
+
+    private static int compare(String key, long msb, long lsb, String otherKey, long otherMsb, long otherLsb) {
+        int result = key.compareTo(otherKey);
+        if (result == 0) {
+            result = Long.compareUnsigned(msb, otherMsb);
+        }
+        return result != 0 ? result : Long.compareUnsigned(lsb, otherLsb);
+    }
+
+    // Immutable once published: three arrays instead of one object per course
+    // Inmutable una vez publicado: tres arrays en lugar de un objeto por curso
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(new String[0], new String[0], new long[0]);
+
+        final String[] keys;
+        final String[] names;
+        // ids[2i] = most significant bits, ids[2i + 1] = least significant bits
+        // ids[2i] = bits más significativos, ids[2i + 1] = bits menos significativos
+        final long[] ids;
+
+        private Snapshot(String[] keys, String[] names, long[] ids) {
+            this.keys = keys;
+            this.names = names;
+            this.ids = ids;
+        }
+
+        int size() {
+            return keys.length;
+        }
+
+        // First position whose key is >= the given one
+        // Primera posición cuya clave es >= la dada
+        int lowerBound(String key) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (keys[middle].compareTo(key) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        int compare(int position, Entry entry) {
+            return InMemoryCourseNameIndex.compare(keys[position], ids[2 * position], ids[2 * position + 1],
+                    entry.key, entry.mostSignificantBits, entry.leastSignificantBits);
+        }
+
+        CourseNameSuggestion suggestion(int position) {
+            return new CourseNameSuggestion(new UUID(ids[2 * position], ids[2 * position + 1]).toString(),
+                    names[position]);
+        }
+
+        // Linear merge of the current arrays with sorted new entries, dropping duplicates
+        // Fusión lineal de los arrays actuales con entradas nuevas ordenadas, descartando duplicados
+        static Snapshot merge(Snapshot base, List<Entry> sorted) {
+            int capacity = base.size() + sorted.size();
+            String[] keys = new String[capacity];
+            String[] names = new String[capacity];
+            long[] ids = new long[2 * capacity];
+            int size = 0;
+            int i = 0;
+            int j = 0;
+            while (i < base.size() || j < sorted.size()) {
+                int order = i == base.size() ? 1 : j == sorted.size() ? -1 : base.compare(i, sorted.get(j));
+                if (order <= 0) {
+                    keys[size] = base.keys[i];
+                    names[size] = base.names[i];
+                    ids[2 * size] = base.ids[2 * i];
+                    ids[2 * size + 1] = base.ids[2 * i + 1];
+                    i++;
+                    if (order == 0) {
+                        j++;
+                    }
+                } else {
+                    Entry entry = sorted.get(j++);
+                    if (size > 0 && keys[size - 1].equals(entry.key) && ids[2 * size - 2] == entry.mostSignificantBits
+                            && ids[2 * size - 1] == entry.leastSignificantBits) {
+                        continue;
+                    }
+                    keys[size] = entry.key;
+                    names[size] = entry.name;
+                    ids[2 * size] = entry.mostSignificantBits;
+                    ids[2 * size + 1] = entry.leastSignificantBits;
+                }
+                size++;
+            }
+            if (size == capacity) {
+                return new Snapshot(keys, names, ids);
+            }
+            return new Snapshot(Arrays.copyOf(keys, size), Arrays.copyOf(names, size),
+                    Arrays.copyOf(ids, 2 * size));
+        }
+    }
+}
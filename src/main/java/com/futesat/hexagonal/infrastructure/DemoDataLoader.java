@@ -2,6 +2,9 @@ package com.futesat.hexagonal.infrastructure;
 
 import com.futesat.hexagonal.courses.application.create.CreateCourseCommand;
 import com.futesat.hexagonal.courses.application.create.CreateCourseCommandHandler;
+import com.futesat.hexagonal.courses.domain.CourseAlreadyExists;
+import com.futesat.hexagonal.courses.domain.CourseId;
+import com.futesat.hexagonal.courses.domain.CourseRepository;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
@@ -11,25 +14,41 @@ import org.springframework.stereotype.Component;
 public class DemoDataLoader implements CommandLineRunner {
 
     private final CreateCourseCommandHandler createCourseCommandHandler;
+    private final CourseRepository courseRepository;
 
-    public DemoDataLoader(CreateCourseCommandHandler createCourseCommandHandler) {
+    public DemoDataLoader(CreateCourseCommandHandler createCourseCommandHandler, CourseRepository courseRepository) {
         this.createCourseCommandHandler = createCourseCommandHandler;
+        this.courseRepository = courseRepository;
     }
 
     @Override
     public void run(String... args) {
         // Curso 1: Hexagonal
-        createCourseCommandHandler.handle(new CreateCourseCommand(
+        load(new CreateCourseCommand(
                 "1a9b456b-e85b-4b2a-a92c-d9a2c6d4838f",
                 "Arquitectura Hexagonal Masterclass",
                 "10 horas"));
 
         // Curso 2: DDD
-        createCourseCommandHandler.handle(new CreateCourseCommand(
+        load(new CreateCourseCommand(
                 "2b9b456b-e85b-4b2a-a92c-d9a2c6d4838f",
                 "Domain-Driven Design Tactical Patterns",
                 "15 horas"));
 
         System.out.println("🚀 [DemoDataLoader] Cursos de demostración cargados en la base de datos.");
     }
+
+    // Idempotent: with a persistent database (postgres profile, mmap) the courses are already there after a restart
+    // Idempotente: con una base de datos persistente (perfil postgres, mmap) los cursos ya están tras un reinicio
+    private void load(CreateCourseCommand command) {
+        if (courseRepository.search(new CourseId(command.id())).isPresent()) {
+            return;
+        }
+        try {
+            createCourseCommandHandler.handle(command);
+        } catch (CourseAlreadyExists e) {
+            // Another instance booting against the same database stored it first
+            // Otra instancia arrancando contra la misma base de datos lo guardó antes
+        }
+    }
 }
@@ -0,0 +1,96 @@
+package com.futesat.hexagonal.infrastructure;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+// Class-data-sharing training run (startup.training.enabled=true, launched by the fast-startup build profile).
+// Ejecución de entrenamiento para class-data sharing (startup.training.enabled=true, la lanza el perfil fast-startup).
+// Once ready, the application sends itself the requests a fresh pod gets first and exits, so the archive written
+// Una vez lista, la aplicación se envía las peticiones que recibe primero un pod nuevo y termina, así el archivo escrito
+// by -XX:ArchiveClassesAtExit also holds the request path (Jackson, MVC, validation, JPA), not only startup.
+// por -XX:ArchiveClassesAtExit también contiene el camino de la petición (Jackson, MVC, validación, JPA), no solo el arranque.
+@Component
+public class StartupTrainingRun implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(StartupTrainingRun.class);
+
+    private final boolean enabled;
+
+    // Read at runtime instead of @ConditionalOnProperty: Spring AOT freezes conditions at build time
+    // Se lee en tiempo de ejecución en vez de con @ConditionalOnProperty: Spring AOT congela las condiciones al compilar
+    public StartupTrainingRun(@Value("${startup.training.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (!enabled) {
+            return;
+        }
+        ConfigurableApplicationContext context = event.getApplicationContext();
+        URI baseUri = URI.create("http://localhost:" + context.getEnvironment().getProperty("local.server.port"));
+        // Off the main thread, so SpringApplication.run() returns before the context is closed
+        // Fuera del hilo principal, para que SpringApplication.run() termine antes de cerrar el contexto
+        Thread training = new Thread(() -> {
+            int exitCode = 0;
+            try {
+                train(baseUri);
+                LOGGER.info("Startup training run completed");
+            } catch (IOException | RuntimeException e) {
+                LOGGER.error("Startup training run failed", e);
+                exitCode = 1;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                exitCode = 1;
+            }
+            int status = exitCode;
+            System.exit(SpringApplication.exit(context, () -> status));
+        }, "startup-training");
+        training.start();
+    }
+
+    private static void train(URI baseUri) throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        String id = UUID.randomUUID().toString();
+
+        send(client, HttpRequest.newBuilder(baseUri.resolve("/actuator/health")).GET(), 200);
+        send(client, HttpRequest.newBuilder(baseUri.resolve("/courses"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"id\":\"" + id + "\",\"name\":\"Startup Training\",\"duration\":\"1 hour\"}")), 201);
+        String etag = send(client, HttpRequest.newBuilder(baseUri.resolve("/courses/" + id)).GET(), 200)
+                .headers().firstValue("ETag").orElseThrow();
+        send(client, HttpRequest.newBuilder(baseUri.resolve("/courses/" + id)).header("If-None-Match", etag).GET(), 304);
+        send(client, HttpRequest.newBuilder(baseUri.resolve("/courses?ids=" + id)).GET(), 200);
+        // Rejected requests (unknown id, invalid id) load the error-handling classes too
+        // Las peticiones rechazadas (id desconocido, id no válido) cargan también las clases de manejo de errores
+        send(client, HttpRequest.newBuilder(baseUri.resolve("/courses/" + UUID.randomUUID())).GET(), 404);
+        send(client, HttpRequest.newBuilder(baseUri.resolve("/courses"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"id\":\"not-a-uuid\",\"name\":\"Startup Training\",\"duration\":\"1 hour\"}")), 400);
+    }
+
+    private static HttpResponse<String> send(HttpClient client, HttpRequest.Builder request, int expectedStatus)
+            throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException(response.request().method() + " " + response.request().uri()
+                    + " returned " + response.statusCode() + " instead of " + expectedStatus);
+        }
+        return response;
+    }
+}
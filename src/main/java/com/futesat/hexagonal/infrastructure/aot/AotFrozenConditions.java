@@ -0,0 +1,52 @@
+package com.futesat.hexagonal.infrastructure.aot;
+
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Spring AOT evaluates @ConditionalOnProperty, @ConditionalOnThreading and @Profile once, at build time: the
+// Spring AOT evalúa @ConditionalOnProperty, @ConditionalOnThreading y @Profile una sola vez, al compilar: el
+// fast-startup jar only contains the beans those conditions selected then, whatever the runtime properties say.
+// jar fast-startup solo contiene los beans que esas condiciones seleccionaron entonces, digan lo que digan las propiedades en ejecución.
+// Outcome of each condition of this application, recorded by AotFrozenConditionsProcessor and checked by
+// Resultado de cada condición de esta aplicación, lo registra AotFrozenConditionsProcessor y lo comprueba
+// AotFrozenConditionsVerifier. A new conditional bean must add its condition here.
+// AotFrozenConditionsVerifier. Un bean condicional nuevo debe añadir aquí su condición.
+public final class AotFrozenConditions {
+
+    static final String LOCATION = "META-INF/aot-frozen-conditions.properties";
+
+    // property=havingValue, or just property (set and not "false"), as in @ConditionalOnProperty
+    // propiedad=havingValue, o solo la propiedad (definida y distinta de "false"), como en @ConditionalOnProperty
+    private static final List<String> PROPERTY_CONDITIONS = List.of(
+            "courses.persistence=mmap",
+            "courses.import.file",
+            "event-bus.mode=outbox",
+            "event-bus.mode=ring-buffer",
+            "event-store.enabled=true",
+            "notifications.email.batch.enabled=true",
+            "spring.threads.virtual.enabled=true");
+    private static final List<String> PROFILE_CONDITIONS = List.of("test");
+
+    private AotFrozenConditions() {
+    }
+
+    static Map<String, Boolean> evaluate(Environment environment) {
+        Map<String, Boolean> outcomes = new LinkedHashMap<>();
+        for (String condition : PROPERTY_CONDITIONS) {
+            int separator = condition.indexOf('=');
+            String name = separator < 0 ? condition : condition.substring(0, separator);
+            String value = environment.getProperty(name);
+            outcomes.put(condition, separator < 0
+                    ? value != null && !"false".equalsIgnoreCase(value)
+                    : condition.substring(separator + 1).equalsIgnoreCase(value));
+        }
+        for (String profile : PROFILE_CONDITIONS) {
+            outcomes.put("profile " + profile, environment.acceptsProfiles(Profiles.of(profile)));
+        }
+        return outcomes;
+    }
+}
@@ -0,0 +1,26 @@
+package com.futesat.hexagonal.infrastructure.aot;
+
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.env.Environment;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// Runs during process-aot (registered in META-INF/spring/aot.factories): writes the build-time outcome of every
+// Se ejecuta durante process-aot (registrado en META-INF/spring/aot.factories): escribe el resultado al compilar de cada
+// AotFrozenConditions entry next to the generated classes, so the jar carries what it was built for
+// entrada de AotFrozenConditions junto a las clases generadas, así el jar lleva consigo para qué se compiló
+public class AotFrozenConditionsProcessor implements BeanFactoryInitializationAotProcessor {
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        Map<String, Boolean> outcomes = AotFrozenConditions.evaluate(beanFactory.getBean(Environment.class));
+        String content = outcomes.entrySet().stream()
+                .map(outcome -> outcome.getKey().replace("=", "\\=").replace(" ", "\\ ") + "=" + outcome.getValue())
+                .collect(Collectors.joining("\n", "", "\n"));
+        return (generationContext, beanFactoryInitializationCode) -> generationContext.getGeneratedFiles()
+                .addResourceFile(AotFrozenConditions.LOCATION, content);
+    }
+}
@@ -0,0 +1,59 @@
+package com.futesat.hexagonal.infrastructure.aot;
+
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+// Fails fast when the fast-startup jar runs with settings that select other beans than the ones it was built with:
+// Falla en el acto cuando el jar fast-startup corre con ajustes que seleccionan otros beans que aquellos con los que se compiló:
+// otherwise e.g. courses.persistence=mmap would only break on the first ObjectProvider.getObject() call.
+// si no, p. ej. courses.persistence=mmap solo fallaría en la primera llamada a ObjectProvider.getObject().
+// Registered in META-INF/spring.factories; runs last, once profiles and config files are loaded.
+// Registrado en META-INF/spring.factories; se ejecuta el último, con los perfiles y ficheros de configuración ya cargados.
+public class AotFrozenConditionsVerifier implements EnvironmentPostProcessor, Ordered {
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!AotDetector.useGeneratedArtifacts()) {
+            return;
+        }
+        ClassPathResource resource = new ClassPathResource(AotFrozenConditions.LOCATION, application.getClassLoader());
+        if (!resource.exists()) {
+            return;
+        }
+        Properties built;
+        try {
+            built = PropertiesLoaderUtils.loadProperties(resource);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read " + AotFrozenConditions.LOCATION, e);
+        }
+        List<String> mismatches = new ArrayList<>();
+        for (Map.Entry<String, Boolean> outcome : AotFrozenConditions.evaluate(environment).entrySet()) {
+            String builtOutcome = built.getProperty(outcome.getKey());
+            if (builtOutcome != null && Boolean.parseBoolean(builtOutcome) != outcome.getValue()) {
+                mismatches.add(outcome.getKey() + " (built: " + builtOutcome + ", now: " + outcome.getValue() + ")");
+            }
+        }
+        if (!mismatches.isEmpty()) {
+            throw new IllegalStateException("This Spring AOT build fixed these conditions at build time: " + mismatches
+                    + ". Run without -Dspring.aot.enabled=true, or rebuild with the same settings, e.g. "
+                    + "mvn package -Pfast-startup -Dspring-boot.aot.jvmArguments=\"-Dcourses.persistence=mmap\"");
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,6 @@
+package com.futesat.hexagonal.notifications.domain;
+
+// A message ready to be delivered.
+// Un mensaje listo para ser entregado.
+public record Email(String recipient, String subject, String body) {
+}
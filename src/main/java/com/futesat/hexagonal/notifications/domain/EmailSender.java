@@ -1,5 +1,11 @@
 package com.futesat.hexagonal.notifications.domain;
 
+import java.util.List;
+
 public interface EmailSender {
     void send(String recipient, String subject, String body);
+
+    // Delivers many emails at once (an adapter can reuse a single connection for all of them)
+    // Entrega muchos emails de una vez (un adaptador puede reutilizar una única conexión para todos)
+    void sendBatch(List<Email> emails);
 }
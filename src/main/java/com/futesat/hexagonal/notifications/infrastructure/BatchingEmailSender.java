@@ -0,0 +1,120 @@
+package com.futesat.hexagonal.notifications.infrastructure;
+
+import com.futesat.hexagonal.notifications.domain.Email;
+import com.futesat.hexagonal.notifications.domain.EmailSender;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Decorator that groups individual sends into batches bounded by size and by time.
+// Decorador que agrupa envíos individuales en lotes acotados por tamaño y por tiempo.
+// send() only enqueues; batches are handed to the delegate's sendBatch() on a small pool of "connections".
+// send() solo encola; los lotes se entregan al sendBatch() del delegado en un pequeño pool de "conexiones".
+public class BatchingEmailSender implements EmailSender, AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchingEmailSender.class);
+
+    private final EmailSender delegate;
+    private final int maxBatchSize;
+    private final Duration maxDelay;
+    private final ScheduledExecutorService connections;
+    // ReentrantLock instead of synchronized: does not pin virtual threads
+    // ReentrantLock en lugar de synchronized: no fija (pin) los hilos virtuales
+    private final ReentrantLock lock = new ReentrantLock();
+    private List<Email> pending;
+    private ScheduledFuture<?> scheduledFlush;
+
+    public BatchingEmailSender(EmailSender delegate, int maxBatchSize, Duration maxDelay, int connections) {
+        this.delegate = delegate;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelay = maxDelay;
+        this.pending = new ArrayList<>(maxBatchSize);
+        AtomicInteger counter = new AtomicInteger();
+        this.connections = Executors.newScheduledThreadPool(connections, runnable -> {
+            Thread thread = new Thread(runnable, "email-batch-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void send(String recipient, String subject, String body) {
+        List<Email> fullBatch = null;
+        lock.lock();
+        try {
+            pending.add(new Email(recipient, subject, body));
+            if (pending.size() >= maxBatchSize) {
+                fullBatch = drain();
+            } else if (pending.size() == 1) {
+                // First email of a new batch: it will wait at most maxDelay
+                // Primer email de un lote nuevo: esperará como mucho maxDelay
+                scheduledFlush = connections.schedule(this::flush, maxDelay.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (fullBatch != null) {
+            List<Email> batch = fullBatch;
+            connections.execute(() -> deliver(batch));
+        }
+    }
+
+    @Override
+    public void sendBatch(List<Email> emails) {
+        // Already a batch: goes straight to the delegate
+        // Ya es un lote: va directo al delegado
+        delegate.sendBatch(emails);
+    }
+
+    // Delivers whatever is pending right now
+    // Entrega lo que haya pendiente en este momento
+    public void flush() {
+        List<Email> batch;
+        lock.lock();
+        try {
+            batch = drain();
+        } finally {
+            lock.unlock();
+        }
+        if (!batch.isEmpty()) {
+            deliver(batch);
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        flush();
+        connections.shutdown();
+        connections.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    // Must be called holding the lock
+    // Debe llamarse con el lock adquirido
+    private List<Email> drain() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        List<Email> batch = pending;
+        pending = new ArrayList<>(maxBatchSize);
+        return batch;
+    }
+
+    private void deliver(List<Email> batch) {
+        try {
+            delegate.sendBatch(batch);
+        } catch (RuntimeException e) {
+            LOGGER.error("Unable to deliver a batch of {} emails", batch.size(), e);
+        }
+    }
+}
@@ -1,28 +1,63 @@
 package com.futesat.hexagonal.notifications.infrastructure;
 
+import com.futesat.hexagonal.notifications.domain.Email;
 import com.futesat.hexagonal.notifications.domain.EmailSender;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.List;
+
 @Service
 public class FakeEmailSender implements EmailSender {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(FakeEmailSender.class);
 
+    // Simulated SMTP costs: opening a connection (TCP + TLS + AUTH) vs sending one message over it
+    // Costes SMTP simulados: abrir una conexión (TCP + TLS + AUTH) vs enviar un mensaje por ella
+    private final Duration connectionLatency;
+    private final Duration messageLatency;
+
+    public FakeEmailSender(
+            @Value("${notifications.email.fake.connection-latency:1800ms}") Duration connectionLatency,
+            @Value("${notifications.email.fake.message-latency:200ms}") Duration messageLatency) {
+        this.connectionLatency = connectionLatency;
+        this.messageLatency = messageLatency;
+    }
+
     @Override
     public void send(String recipient, String subject, String body) {
+        // One connection per message (2 seconds by default, slow SMTP)
+        // Una conexión por mensaje (2 segundos por defecto, SMTP lento)
+        simulate(connectionLatency.plus(messageLatency));
+        log(new Email(recipient, subject, body));
+    }
+
+    @Override
+    public void sendBatch(List<Email> emails) {
+        // One connection for the whole batch, then only the per-message cost
+        // Una conexión para todo el lote, después solo el coste por mensaje
+        simulate(connectionLatency.plus(messageLatency.multipliedBy(emails.size())));
+        emails.forEach(this::log);
+        LOGGER.info("📦 Batch of {} emails delivered over one connection", emails.size());
+    }
+
+    private void simulate(Duration latency) {
         try {
-            Thread.sleep(2000); // Simulamos 2 segundos de latencia (SMTP lento)
+            Thread.sleep(latency);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
+    }
 
+    private void log(Email email) {
         LOGGER.info("========================================");
         LOGGER.info("📧 MOCK EMAIL ENVIADO");
-        LOGGER.info("   To: {}", recipient);
-        LOGGER.info("   Subject: {}", subject);
-        LOGGER.info("   Body: {}", body);
+        LOGGER.info("   To: {}", email.recipient());
+        LOGGER.info("   Subject: {}", email.subject());
+        LOGGER.info("   Body: {}", email.body());
         LOGGER.info("========================================");
     }
 }
@@ -2,14 +2,48 @@ package com.futesat.hexagonal.notifications.infrastructure;
 
 import com.futesat.hexagonal.notifications.application.SendWelcomeEmail;
 import com.futesat.hexagonal.notifications.domain.EmailSender;
+import com.futesat.hexagonal.shared.infrastructure.metrics.MeteredPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
 
 @Configuration
 public class NotificationsModuleDependencyConfig {
 
+    // The sender is measured as the use case sees it (port=EmailSender; with batching, the time to enqueue the email)
+    // El sender se mide tal y como lo ve el caso de uso (port=EmailSender; con lotes, el tiempo de encolar el email)
     @Bean
-    public SendWelcomeEmail sendWelcomeEmail(EmailSender emailSender) {
-        return new SendWelcomeEmail(emailSender);
+    public SendWelcomeEmail sendWelcomeEmail(
+            EmailSender emailSender,
+            MeterRegistry meterRegistry,
+            @Value("${ports.metrics.enabled:true}") boolean metricsEnabled) {
+        return new SendWelcomeEmail(metricsEnabled
+                ? MeteredPort.wrap(EmailSender.class, emailSender, meterRegistry)
+                : emailSender);
+    }
+
+    // Batches the sends of the real adapter: one connection per batch instead of one per email.
+    // Agrupa los envíos del adaptador real: una conexión por lote en lugar de una por email.
+    // The adapter behind it is measured as port=EmailSender.delivery: the real SMTP time of each batch
+    // El adaptador que hay detrás se mide como port=EmailSender.delivery: el tiempo SMTP real de cada lote
+    @Bean(destroyMethod = "close")
+    @Primary
+    @ConditionalOnProperty(name = "notifications.email.batch.enabled", havingValue = "true")
+    public BatchingEmailSender batchingEmailSender(
+            FakeEmailSender emailSender,
+            MeterRegistry meterRegistry,
+            @Value("${ports.metrics.enabled:true}") boolean metricsEnabled,
+            @Value("${notifications.email.batch.max-size:100}") int maxBatchSize,
+            @Value("${notifications.email.batch.max-delay:1s}") Duration maxDelay,
+            @Value("${notifications.email.batch.connections:2}") int connections) {
+        EmailSender delivery = metricsEnabled
+                ? MeteredPort.wrap(EmailSender.class, "EmailSender.delivery", emailSender, meterRegistry)
+                : emailSender;
+        return new BatchingEmailSender(delivery, maxBatchSize, maxDelay, connections);
     }
 }
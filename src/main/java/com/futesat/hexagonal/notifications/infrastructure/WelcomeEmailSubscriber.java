@@ -2,6 +2,7 @@ package com.futesat.hexagonal.notifications.infrastructure;
 
 import com.futesat.hexagonal.courses.domain.CourseCreatedEvent;
 import com.futesat.hexagonal.notifications.application.SendWelcomeEmail;
+import com.futesat.hexagonal.shared.domain.bus.event.DomainEventSubscriber;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.event.EventListener;
@@ -10,7 +11,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.scheduling.annotation.Async;
 
 @Component
-public class WelcomeEmailSubscriber {
+public class WelcomeEmailSubscriber implements DomainEventSubscriber<CourseCreatedEvent> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(WelcomeEmailSubscriber.class);
     private final SendWelcomeEmail sendWelcomeEmail;
@@ -19,8 +20,14 @@ public class WelcomeEmailSubscriber {
         this.sendWelcomeEmail = sendWelcomeEmail;
     }
 
+    @Override
+    public Class<CourseCreatedEvent> subscribedTo() {
+        return CourseCreatedEvent.class;
+    }
+
     @Async
     @EventListener
+    @Override
     public void on(CourseCreatedEvent event) {
         // Adaptador: Convierte el evento en una llamada al caso de uso
         sendWelcomeEmail.send(event.getName());
@@ -1,33 +1,81 @@
 package com.futesat.hexagonal.shared.domain;
 
 import java.io.Serializable;
-import java.util.Objects;
+import java.util.Arrays;
 import java.util.UUID;
 
 // Base class for Identifiers (Shared Kernel)
 // Clase base para Identificadores (Shared Kernel)
 // This avoids repeating UUID and null validations in every ID we create (CourseId, StudentId, UserId...)
 // Esto evita repetir validaciones de UUID y nulls en cada ID que creemos (CourseId, StudentId, UserId...)
-public abstract class Identifier implements Serializable {
-    private final String value;
+// The UUID is kept as two longs (16 bytes): equality and hashing compare numbers instead of 36-char strings.
+// El UUID se guarda como dos longs (16 bytes): igualdad y hash comparan números en lugar de strings de 36 caracteres.
+public abstract class Identifier implements Serializable, Comparable<Identifier> {
+
+    private static final int UUID_LENGTH = 36;
+    private static final byte[] HEX_VALUES = hexValues();
+
+    private final long mostSignificantBits;
+    private final long leastSignificantBits;
+    // String form, built only the first time it is requested
+    // Forma String, construida solo la primera vez que se pide
+    private transient String value;
 
     protected Identifier(String value) {
-        ensureValidUuid(value);
-        this.value = value;
+        // Strict canonical form (8-4-4-4-12 hex digits), parsed without exceptions nor allocations
+        // Forma canónica estricta (8-4-4-4-12 dígitos hex), parseada sin excepciones ni asignaciones
+        if (value == null || value.length() != UUID_LENGTH
+                || value.charAt(8) != '-' || value.charAt(13) != '-'
+                || value.charAt(18) != '-' || value.charAt(23) != '-') {
+            throw invalidUuid(value);
+        }
+        // 4 hex digits per step (independent lookups, a single sign check at the end)
+        // 4 dígitos hex por paso (búsquedas independientes, una única comprobación de signo al final)
+        long a = parse4Nibbles(value, 0);
+        long b = parse4Nibbles(value, 4);
+        long c = parse4Nibbles(value, 9);
+        long d = parse4Nibbles(value, 14);
+        long e = parse4Nibbles(value, 19);
+        long f = parse4Nibbles(value, 24);
+        long g = parse4Nibbles(value, 28);
+        long h = parse4Nibbles(value, 32);
+        if ((a | b | c | d | e | f | g | h) < 0) {
+            throw invalidUuid(value);
+        }
+        this.mostSignificantBits = a << 48 | b << 32 | c << 16 | d;
+        this.leastSignificantBits = e << 48 | f << 32 | g << 16 | h;
     }
 
-    // Private method to ensure integrity
-    // Método privado para asegurar integridad
-    private void ensureValidUuid(String value) {
-        try {
-            UUID.fromString(value);
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Invalid UUID string: " + value);
-        }
+    protected Identifier(UUID value) {
+        this(value.getMostSignificantBits(), value.getLeastSignificantBits());
+    }
+
+    protected Identifier(long mostSignificantBits, long leastSignificantBits) {
+        this.mostSignificantBits = mostSignificantBits;
+        this.leastSignificantBits = leastSignificantBits;
     }
 
     public String getValue() {
-        return value;
+        // Benign race: two threads may build the same (immutable) string
+        // Carrera benigna: dos hilos pueden construir el mismo string (inmutable)
+        String result = value;
+        if (result == null) {
+            result = toUuid().toString();
+            value = result;
+        }
+        return result;
+    }
+
+    public UUID toUuid() {
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    public long getMostSignificantBits() {
+        return mostSignificantBits;
+    }
+
+    public long getLeastSignificantBits() {
+        return leastSignificantBits;
     }
 
     @Override
@@ -37,11 +85,54 @@ public abstract class Identifier implements Serializable {
         if (o == null || getClass() != o.getClass())
             return false;
         Identifier that = (Identifier) o;
-        return Objects.equals(value, that.value);
+        return mostSignificantBits == that.mostSignificantBits
+                && leastSignificantBits == that.leastSignificantBits;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        // Same hash as java.util.UUID
+        // Mismo hash que java.util.UUID
+        return Long.hashCode(mostSignificantBits ^ leastSignificantBits);
+    }
+
+    // Unsigned order (byte by byte), the same one PostgreSQL and H2 use for uuid columns.
+    // Orden sin signo (byte a byte), el mismo que usan PostgreSQL y H2 para columnas uuid.
+    // Note that java.util.UUID.compareTo is signed and would disagree with the database.
+    // Ojo: java.util.UUID.compareTo es con signo y no coincidiría con la base de datos.
+    @Override
+    public int compareTo(Identifier other) {
+        int result = Long.compareUnsigned(mostSignificantBits, other.mostSignificantBits);
+        return result != 0 ? result : Long.compareUnsigned(leastSignificantBits, other.leastSignificantBits);
+    }
+
+    // Returns a negative number when any of the 4 characters is not a hex digit
+    // Devuelve un número negativo si alguno de los 4 caracteres no es un dígito hex
+    private static long parse4Nibbles(String value, int position) {
+        char c1 = value.charAt(position);
+        char c2 = value.charAt(position + 1);
+        char c3 = value.charAt(position + 2);
+        char c4 = value.charAt(position + 3);
+        if ((c1 | c2 | c3 | c4) >= HEX_VALUES.length) {
+            return -1;
+        }
+        return HEX_VALUES[c1] << 12 | HEX_VALUES[c2] << 8 | HEX_VALUES[c3] << 4 | HEX_VALUES[c4];
+    }
+
+    private static IllegalArgumentException invalidUuid(String value) {
+        return new IllegalArgumentException("Invalid UUID string: " + value);
+    }
+
+    private static byte[] hexValues() {
+        byte[] values = new byte[256];
+        Arrays.fill(values, (byte) -1);
+        for (int i = 0; i < 10; i++) {
+            values['0' + i] = (byte) i;
+        }
+        for (int i = 0; i < 6; i++) {
+            values['a' + i] = (byte) (10 + i);
+            values['A' + i] = (byte) (10 + i);
+        }
+        return values;
     }
 }
@@ -0,0 +1,6 @@
+package com.futesat.hexagonal.shared.domain.bus.command;
+
+// Marker for an intention to change the system (it returns nothing).
+// Marca de una intención de cambiar el sistema (no devuelve nada).
+public interface Command {
+}
@@ -0,0 +1,7 @@
+package com.futesat.hexagonal.shared.domain.bus.command;
+
+// Port to send a command to its handler.
+// Puerto para enviar un comando a su handler.
+public interface CommandBus {
+    void dispatch(Command command);
+}
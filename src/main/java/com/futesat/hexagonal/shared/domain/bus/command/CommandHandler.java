@@ -0,0 +1,11 @@
+package com.futesat.hexagonal.shared.domain.bus.command;
+
+// Port for the single use case that handles a command type.
+// Puerto para el único caso de uso que atiende un tipo de comando.
+// Declaring the type up front lets buses build their dispatch table once (no reflection per command).
+// Declarar el tipo de antemano permite a los buses construir su tabla de despacho una vez (sin reflexión por comando).
+public interface CommandHandler<C extends Command> {
+    Class<C> subscribedTo();
+
+    void handle(C command);
+}
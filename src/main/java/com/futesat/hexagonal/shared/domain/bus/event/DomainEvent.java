@@ -19,6 +19,14 @@ public abstract class DomainEvent implements Serializable {
         this.occurredOn = LocalDateTime.now();
     }
 
+    // Rebuilds an event that already happened (read back from storage or the wire)
+    // Reconstruye un evento que ya ocurrió (leído del almacenamiento o de la red)
+    protected DomainEvent(String aggregateId, String eventId, LocalDateTime occurredOn) {
+        this.aggregateId = aggregateId;
+        this.eventId = eventId;
+        this.occurredOn = occurredOn;
+    }
+
     public String getAggregateId() {
         return aggregateId;
     }
@@ -0,0 +1,11 @@
+package com.futesat.hexagonal.shared.domain.bus.event;
+
+// Port for anyone interested in an event type.
+// Puerto para cualquiera interesado en un tipo de evento.
+// Declaring the type up front lets buses build their dispatch table once (no reflection per event).
+// Declarar el tipo de antemano permite a los buses construir su tabla de despacho una vez (sin reflexión por evento).
+public interface DomainEventSubscriber<E extends DomainEvent> {
+    Class<E> subscribedTo();
+
+    void on(E event);
+}
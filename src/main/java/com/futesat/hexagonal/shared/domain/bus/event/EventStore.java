@@ -0,0 +1,22 @@
+package com.futesat.hexagonal.shared.domain.bus.event;
+
+import java.util.List;
+
+// Port to keep every domain event, in order, and read them back later.
+// Puerto para guardar todos los eventos de dominio, en orden, y volver a leerlos después.
+// Each stored event gets an offset (0, 1, 2...) that never changes: replays can resume from any of them.
+// Cada evento guardado recibe un offset (0, 1, 2...) que nunca cambia: las relecturas pueden continuar desde cualquiera.
+public interface EventStore {
+
+    void append(List<DomainEvent> events);
+
+    // Hands the stored events from fromOffset (inclusive) that match the filter to the handler, in order.
+    // Entrega al handler, en orden, los eventos guardados desde fromOffset (incluido) que cumplen el filtro.
+    // Returns the offset to resume from next time.
+    // Devuelve el offset desde el que continuar la próxima vez.
+    long replay(long fromOffset, EventStreamFilter filter, StoredEventHandler handler);
+
+    // Offset the next appended event will get (= events stored so far)
+    // Offset que recibirá el próximo evento añadido (= eventos guardados hasta ahora)
+    long nextOffset();
+}
@@ -0,0 +1,31 @@
+package com.futesat.hexagonal.shared.domain.bus.event;
+
+import java.util.Set;
+
+// Which stored events a replay wants: some event names (empty = all) and/or one aggregate (null = all).
+// Qué eventos guardados quiere una relectura: algunos nombres de evento (vacío = todos) y/o un agregado (null = todos).
+public record EventStreamFilter(Set<String> eventNames, String aggregateId) {
+
+    private static final EventStreamFilter ALL = new EventStreamFilter(Set.of(), null);
+
+    public EventStreamFilter {
+        eventNames = Set.copyOf(eventNames);
+    }
+
+    public static EventStreamFilter all() {
+        return ALL;
+    }
+
+    public static EventStreamFilter eventNames(String... eventNames) {
+        return new EventStreamFilter(Set.of(eventNames), null);
+    }
+
+    public static EventStreamFilter aggregate(String aggregateId) {
+        return new EventStreamFilter(Set.of(), aggregateId);
+    }
+
+    public boolean matches(String eventName, String aggregateId) {
+        return (eventNames.isEmpty() || eventNames.contains(eventName))
+                && (this.aggregateId == null || this.aggregateId.equals(aggregateId));
+    }
+}
@@ -0,0 +1,8 @@
+package com.futesat.hexagonal.shared.domain.bus.event;
+
+// Receives the events of a replay together with their offset in the store.
+// Recibe los eventos de una relectura junto con su offset en el almacén.
+@FunctionalInterface
+public interface StoredEventHandler {
+    void handle(long offset, DomainEvent event);
+}
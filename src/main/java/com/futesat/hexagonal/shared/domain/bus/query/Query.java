@@ -0,0 +1,6 @@
+package com.futesat.hexagonal.shared.domain.bus.query;
+
+// Marker for a question to the system; R is the type of the answer.
+// Marca de una pregunta al sistema; R es el tipo de la respuesta.
+public interface Query<R> {
+}
@@ -0,0 +1,7 @@
+package com.futesat.hexagonal.shared.domain.bus.query;
+
+// Port to ask a query to its handler.
+// Puerto para hacer una consulta a su handler.
+public interface QueryBus {
+    <R> R ask(Query<R> query);
+}
@@ -0,0 +1,9 @@
+package com.futesat.hexagonal.shared.domain.bus.query;
+
+// Port for the single use case that answers a query type.
+// Puerto para el único caso de uso que responde a un tipo de consulta.
+public interface QueryHandler<Q extends Query<R>, R> {
+    Class<Q> subscribedTo();
+
+    R handle(Q query);
+}
@@ -0,0 +1,29 @@
+package com.futesat.hexagonal.shared.infrastructure.bus;
+
+import java.util.List;
+
+// Cross-cutting step around every handler of the command and query buses (timing, retries, dedup...).
+// Paso transversal alrededor de cada handler de los buses de comandos y consultas (tiempos, reintentos, dedup...).
+// around() is called once per message type at startup: whatever it needs (meters, policies) is resolved
+// around() se llama una vez por tipo de mensaje al arrancar: lo que necesite (medidores, políticas) se resuelve
+// there, so the returned step does no lookups on the hot path.
+// ahí, así que el paso devuelto no hace búsquedas en el camino caliente.
+public interface BusMiddleware {
+
+    Step around(Class<?> messageType, Step next);
+
+    @FunctionalInterface
+    interface Step {
+        Object handle(Object message);
+    }
+
+    // Wraps the handler in the middlewares; the first one in the list is the outermost
+    // Envuelve el handler en los middlewares; el primero de la lista es el más externo
+    static Step chain(Class<?> messageType, Step handler, List<BusMiddleware> middlewares) {
+        Step step = handler;
+        for (int i = middlewares.size() - 1; i >= 0; i--) {
+            step = middlewares.get(i).around(messageType, step);
+        }
+        return step;
+    }
+}
@@ -0,0 +1,57 @@
+package com.futesat.hexagonal.shared.infrastructure.bus;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+// Times every command and query end to end (bus.handle, tagged by message type and outcome).
+// Mide cada comando y consulta de principio a fin (bus.handle, etiquetado por tipo de mensaje y resultado).
+// Two nanoTime() reads and a record into pre-registered timers (no Timer.Sample): no allocation, but the percentile
+// Dos lecturas de nanoTime() y un registro en timers ya creados (sin Timer.Sample): no asigna memoria, pero el registro
+// recording costs ~200ns per dispatch, so bus.metrics.enabled=false leaves the handler step untouched.
+// de percentiles cuesta ~200ns por despacho, así que bus.metrics.enabled=false deja intacto el paso del handler.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TimingBusMiddleware implements BusMiddleware {
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    public TimingBusMiddleware(MeterRegistry meterRegistry, @Value("${bus.metrics.enabled:true}") boolean enabled) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Step around(Class<?> messageType, Step next) {
+        if (!enabled) {
+            return next;
+        }
+        Timer succeeded = timer(messageType, "success");
+        Timer failed = timer(messageType, "error");
+        return message -> {
+            long start = System.nanoTime();
+            boolean success = false;
+            try {
+                Object result = next.handle(message);
+                success = true;
+                return result;
+            } finally {
+                (success ? succeeded : failed).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    private Timer timer(Class<?> messageType, String outcome) {
+        return Timer.builder("bus.handle")
+                .description("Time to handle a command or query, middlewares included")
+                .tags("message", messageType.getSimpleName(), "outcome", outcome)
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,57 @@
+package com.futesat.hexagonal.shared.infrastructure.bus.command;
+
+import com.futesat.hexagonal.shared.domain.bus.command.Command;
+import com.futesat.hexagonal.shared.domain.bus.command.CommandBus;
+import com.futesat.hexagonal.shared.domain.bus.command.CommandHandler;
+import com.futesat.hexagonal.shared.infrastructure.bus.BusMiddleware;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Synchronous CommandBus: the command runs on the caller thread, through the middlewares, in its only handler.
+// CommandBus síncrono: el comando se ejecuta en el hilo llamante, a través de los middlewares, en su único handler.
+// Handlers and middleware chains are resolved once here; dispatch is a map lookup plus the chain itself.
+// Handlers y cadenas de middlewares se resuelven una vez aquí; despachar es una búsqueda en un mapa más la cadena.
+@Service
+public class InMemoryCommandBus implements CommandBus {
+
+    private final Map<Class<?>, BusMiddleware.Step> pipelines;
+
+    public InMemoryCommandBus(List<CommandHandler<?>> handlers, List<BusMiddleware> middlewares) {
+        Map<Class<?>, BusMiddleware.Step> pipelines = new HashMap<>();
+        for (CommandHandler<?> handler : handlers) {
+            Class<?> commandType = handler.subscribedTo();
+            BusMiddleware.Step pipeline = BusMiddleware.chain(commandType, step(handler), middlewares);
+            if (pipelines.putIfAbsent(commandType, pipeline) != null) {
+                throw new IllegalStateException("More than one handler for " + commandType.getName());
+            }
+        }
+        this.pipelines = Map.copyOf(pipelines);
+    }
+
+    @Autowired
+    public InMemoryCommandBus(ObjectProvider<CommandHandler<?>> handlers, ObjectProvider<BusMiddleware> middlewares) {
+        this(handlers.orderedStream().toList(), middlewares.orderedStream().toList());
+    }
+
+    @Override
+    public void dispatch(Command command) {
+        BusMiddleware.Step pipeline = pipelines.get(command.getClass());
+        if (pipeline == null) {
+            throw new IllegalStateException("No handler registered for " + command.getClass().getName());
+        }
+        pipeline.handle(command);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <C extends Command> BusMiddleware.Step step(CommandHandler<C> handler) {
+        return command -> {
+            handler.handle((C) command);
+            return null;
+        };
+    }
+}
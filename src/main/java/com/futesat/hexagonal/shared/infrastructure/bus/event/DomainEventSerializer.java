@@ -0,0 +1,11 @@
+package com.futesat.hexagonal.shared.infrastructure.bus.event;
+
+import com.futesat.hexagonal.shared.domain.bus.event.DomainEvent;
+
+// Turns domain events into bytes (and back) to persist or ship them.
+// Convierte eventos de dominio en bytes (y viceversa) para persistirlos o enviarlos.
+public interface DomainEventSerializer {
+    byte[] serialize(DomainEvent event);
+
+    DomainEvent deserialize(byte[] bytes);
+}
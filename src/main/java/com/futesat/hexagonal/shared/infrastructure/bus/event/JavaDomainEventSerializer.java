@@ -0,0 +1,39 @@
+package com.futesat.hexagonal.shared.infrastructure.bus.event;
+
+import com.futesat.hexagonal.shared.domain.bus.event.DomainEvent;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+
+// Default serializer: DomainEvent already implements java.io.Serializable.
+// Serializador por defecto: DomainEvent ya implementa java.io.Serializable.
+@Component
+public class JavaDomainEventSerializer implements DomainEventSerializer {
+
+    @Override
+    public byte[] serialize(DomainEvent event) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(event);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to serialize event " + event.getEventId(), e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public DomainEvent deserialize(byte[] bytes) {
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (DomainEvent) input.readObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to deserialize event", e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Unknown event class", e);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.futesat.hexagonal.shared.infrastructure.bus.event.binary;
+
+import com.futesat.hexagonal.shared.domain.bus.event.DomainEvent;
+import com.futesat.hexagonal.shared.infrastructure.bus.event.DomainEventSerializer;
+import com.futesat.hexagonal.shared.infrastructure.bus.event.JavaDomainEventSerializer;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// Compact binary format for domain events, with one registered codec per event type (keyed by eventName()).
+// Formato binario compacto para eventos de dominio, con un codec registrado por tipo de evento (clave eventName()).
+// Layout: version (1 byte) | event name | event id (16 bytes) | occurredOn (epoch micros, 8 bytes)
+// Estructura: versión (1 byte) | nombre del evento | id del evento (16 bytes) | occurredOn (epoch micros, 8 bytes)
+//         | aggregate id | fields of the event type, in the order of its codec.
+//         | id del agregado | campos del tipo de evento, en el orden de su codec.
+// Events without a codec, and payloads written before this format existed, go through Java serialization.
+// Los eventos sin codec, y los payloads escritos antes de existir este formato, pasan por la serialización Java.
+@Component
+@Primary
+public class BinaryDomainEventSerializer implements DomainEventSerializer {
+
+    static final int FORMAT_VERSION = 1;
+    // First byte of every Java serialization stream (0xACED magic)
+    // Primer byte de cualquier stream de serialización Java (magic 0xACED)
+    private static final int JAVA_SERIALIZATION_MAGIC = 0xAC;
+    private static final int INITIAL_BUFFER_SIZE = 256;
+    // A thread keeps its buffer unless one event made it grow beyond this
+    // Un hilo conserva su buffer salvo que un evento lo haya hecho crecer por encima de esto
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private final Map<Class<?>, RegisteredCodec> codecsByType = new HashMap<>();
+    private final RegisteredCodec[] codecs;
+    private final JavaDomainEventSerializer fallback;
+    private final ThreadLocal<EventWriter> writers = ThreadLocal.withInitial(() -> new EventWriter(INITIAL_BUFFER_SIZE));
+
+    public BinaryDomainEventSerializer(List<DomainEventCodec<?>> codecs, JavaDomainEventSerializer fallback) {
+        Map<String, RegisteredCodec> codecsByName = new HashMap<>();
+        for (DomainEventCodec<?> codec : codecs) {
+            RegisteredCodec registered = new RegisteredCodec(codec);
+            if (codecsByName.putIfAbsent(codec.eventName(), registered) != null) {
+                throw new IllegalStateException("More than one codec for event " + codec.eventName());
+            }
+            codecsByType.put(codec.eventType(), registered);
+        }
+        this.codecs = codecsByName.values().toArray(RegisteredCodec[]::new);
+        this.fallback = fallback;
+    }
+
+    @Override
+    public byte[] serialize(DomainEvent event) {
+        RegisteredCodec codec = codecsByType.get(event.getClass());
+        if (codec == null) {
+            return fallback.serialize(event);
+        }
+        EventWriter writer = writers.get();
+        writer.reset();
+        writer.writeByte(FORMAT_VERSION);
+        writer.writeBytes(codec.name);
+        writer.writeUuid(UUID.fromString(event.getEventId()));
+        writer.writeLong(toEpochMicros(event.getOccurredOn()));
+        writer.writeString(event.aggregateId());
+        codec.write(event, writer);
+        byte[] bytes = writer.toByteArray();
+        if (writer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+            writers.remove();
+        }
+        return bytes;
+    }
+
+    @Override
+    public DomainEvent deserialize(byte[] bytes) {
+        if (bytes.length > 0 && (bytes[0] & 0xFF) == JAVA_SERIALIZATION_MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+        EventReader reader = new EventReader(bytes, 0);
+        int version = reader.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("Unsupported event format version " + version);
+        }
+        RegisteredCodec codec = codecFor(reader);
+        String eventId = reader.readUuid().toString();
+        LocalDateTime occurredOn = fromEpochMicros(reader.readLong());
+        String aggregateId = reader.readString();
+        return codec.codec.read(new DomainEventCodec.Header(aggregateId, eventId, occurredOn), reader);
+    }
+
+    // A handful of codecs: a linear scan over their name bytes beats building a String to look up a map
+    // Unos pocos codecs: recorrer los bytes de sus nombres sale mejor que construir un String para buscar en un mapa
+    private RegisteredCodec codecFor(EventReader reader) {
+        for (RegisteredCodec codec : codecs) {
+            if (reader.skipStringIfEquals(codec.name)) {
+                return codec;
+            }
+        }
+        throw new IllegalArgumentException("No codec registered for event " + reader.readString());
+    }
+
+    // LocalDateTime has no zone: it is stored as if it were UTC, so the same wall-clock value comes back
+    // LocalDateTime no tiene zona: se guarda como si fuera UTC, así que vuelve el mismo valor de reloj
+    static long toEpochMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static final class RegisteredCodec {
+
+        private final DomainEventCodec<DomainEvent> codec;
+        private final byte[] name;
+
+        @SuppressWarnings("unchecked")
+        RegisteredCodec(DomainEventCodec<?> codec) {
+            this.codec = (DomainEventCodec<DomainEvent>) codec;
+            this.name = codec.eventName().getBytes(StandardCharsets.UTF_8);
+        }
+
+        void write(DomainEvent event, EventWriter writer) {
+            codec.write(event, writer);
+        }
+    }
+}
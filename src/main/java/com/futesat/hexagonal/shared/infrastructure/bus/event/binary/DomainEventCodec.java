@@ -0,0 +1,25 @@
+package com.futesat.hexagonal.shared.infrastructure.bus.event.binary;
+
+import com.futesat.hexagonal.shared.domain.bus.event.DomainEvent;
+
+import java.time.LocalDateTime;
+
+// Schema of one event type in the binary format: only its own fields (the common header is written for it).
+// Esquema de un tipo de evento en el formato binario: solo sus propios campos (la cabecera común se escribe por él).
+// Fields are written and read in a fixed order, without names: adding one means a new event version.
+// Los campos se escriben y leen en un orden fijo, sin nombres: añadir uno implica una versión nueva del evento.
+public interface DomainEventCodec<E extends DomainEvent> {
+
+    // Same value as E.eventName(): the key stored with every encoded event
+    // Mismo valor que E.eventName(): la clave que se guarda con cada evento codificado
+    String eventName();
+
+    Class<E> eventType();
+
+    void write(E event, EventWriter writer);
+
+    E read(Header header, EventReader reader);
+
+    record Header(String aggregateId, String eventId, LocalDateTime occurredOn) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.futesat.hexagonal.shared.infrastructure.bus.event.binary;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+// Cursor over an encoded event (the counterpart of EventWriter).
+// Cursor sobre un evento codificado (la contraparte de EventWriter).
+public final class EventReader {
+
+    private final byte[] bytes;
+    private int position;
+
+    EventReader(byte[] bytes, int position) {
+        this.bytes = bytes;
+        this.position = position;
+    }
+
+    public String readString() {
+        int length = readVarInt() - 1;
+        if (length < 0) {
+            return null;
+        }
+        checkAvailable(length);
+        String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public long readLong() {
+        checkAvailable(Long.BYTES);
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = value << 8 | (bytes[position++] & 0xFF);
+        }
+        return value;
+    }
+
+    public UUID readUuid() {
+        return new UUID(readLong(), readLong());
+    }
+
+    int readByte() {
+        checkAvailable(1);
+        return bytes[position++] & 0xFF;
+    }
+
+    int readVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint at byte " + position);
+    }
+
+    // Consumes the next length-prefixed string only if it equals the given UTF-8 bytes (no String is created)
+    // Consume el siguiente texto con prefijo de longitud solo si es igual a los bytes UTF-8 dados (sin crear un String)
+    boolean skipStringIfEquals(byte[] expected) {
+        int start = position;
+        int length = readVarInt() - 1;
+        if (length == expected.length && position + length <= bytes.length
+                && Arrays.equals(bytes, position, position + length, expected, 0, length)) {
+            position += length;
+            return true;
+        }
+        position = start;
+        return false;
+    }
+
+    private void checkAvailable(int length) {
+        if (length < 0 || position + length > bytes.length) {
+            throw new IllegalArgumentException("Truncated event: needs " + length + " bytes at " + position
+                    + " of " + bytes.length);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.futesat.hexagonal.shared.infrastructure.bus.event.outbox;
+
+// What the relay does with an event once it has been delivered.
+// Qué hace el relay con un evento una vez entregado.
+public enum OutboxCleanupStrategy {
+    // Remove the row: the table only holds pending events
+    // Borrar la fila: la tabla solo contiene eventos pendientes
+    DELETE,
+    // Keep the row with publishedAt set: useful for auditing (the table grows)
+    // Conservar la fila con publishedAt informado: útil para auditoría (la tabla crece)
+    MARK
+}
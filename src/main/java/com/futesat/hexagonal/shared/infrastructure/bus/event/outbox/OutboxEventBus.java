@@ -0,0 +1,42 @@
+package com.futesat.hexagonal.shared.infrastructure.bus.event.outbox;
+
+import com.futesat.hexagonal.shared.domain.bus.event.DomainEvent;
+import com.futesat.hexagonal.shared.domain.bus.event.EventBus;
+import com.futesat.hexagonal.shared.infrastructure.bus.event.DomainEventSerializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// Transactional Outbox: publishing = storing the events in the SAME transaction as the aggregate.
+// Outbox Transaccional: publicar = guardar los eventos en la MISMA transacción que el agregado.
+// If the process dies after the commit, the events are still there; OutboxRelay delivers them later.
+// Si el proceso muere tras el commit, los eventos siguen ahí; OutboxRelay los entrega después.
+@Service
+@Primary
+@ConditionalOnProperty(name = "event-bus.mode", havingValue = "outbox")
+public class OutboxEventBus implements EventBus {
+
+    private final SpringDataOutboxEventRepository repository;
+    private final DomainEventSerializer serializer;
+
+    public OutboxEventBus(SpringDataOutboxEventRepository repository, DomainEventSerializer serializer) {
+        this.repository = repository;
+        this.serializer = serializer;
+    }
+
+    @Override
+    @Transactional // Joins the command handler transaction (REQUIRED)
+    public void publish(List<DomainEvent> events) {
+        repository.saveAll(events.stream()
+                .map(event -> new OutboxEventEntity(
+                        event.getEventId(),
+                        event.eventName(),
+                        event.aggregateId(),
+                        event.getOccurredOn(),
+                        serializer.serialize(event)))
+                .toList());
+    }
+}
@@ -0,0 +1,77 @@
+package com.futesat.hexagonal.shared.infrastructure.bus.event.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "domain_events_outbox", indexes = @Index(name = "idx_outbox_pending", columnList = "publishedAt, id"))
+public class OutboxEventEntity {
+
+    // Sequence (not IDENTITY) so Hibernate can still batch the INSERTs
+    // Secuencia (no IDENTITY) para que Hibernate pueda seguir agrupando los INSERTs en lotes
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_seq")
+    @SequenceGenerator(name = "outbox_seq", sequenceName = "domain_events_outbox_seq", allocationSize = 50)
+    private Long id;
+    private String eventId;
+    private String eventName;
+    private String aggregateId;
+    private LocalDateTime occurredOn;
+    @Column(length = 65_536)
+    private byte[] payload;
+    private LocalDateTime publishedAt;
+
+    // Empty constructor required by JPA
+    // Constructor vacío requerido por JPA
+    public OutboxEventEntity() {
+    }
+
+    public OutboxEventEntity(String eventId, String eventName, String aggregateId, LocalDateTime occurredOn,
+            byte[] payload) {
+        this.eventId = eventId;
+        this.eventName = eventName;
+        this.aggregateId = aggregateId;
+        this.occurredOn = occurredOn;
+        this.payload = payload;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public String getEventName() {
+        return eventName;
+    }
+
+    public String getAggregateId() {
+        return aggregateId;
+    }
+
+    public LocalDateTime getOccurredOn() {
+        return occurredOn;
+    }
+
+    public byte[] getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getPublishedAt() {
+        return publishedAt;
+    }
+
+    public void markAsPublished(LocalDateTime publishedAt) {
+        this.publishedAt = publishedAt;
+    }
+}
@@ -0,0 +1,113 @@
+package com.futesat.hexagonal.shared.infrastructure.bus.event.outbox;
+
+import com.futesat.hexagonal.shared.domain.bus.event.DomainEvent;
+import com.futesat.hexagonal.shared.infrastructure.bus.event.DomainEventSerializer;
+import com.futesat.hexagonal.shared.infrastructure.bus.event.spring.SpringApplicationEventBus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Background relay: drains the outbox in batches and delivers the events to the in-process subscribers.
+// Relay en segundo plano: vacía el outbox por lotes y entrega los eventos a los suscriptores del proceso.
+// Delivery is at-least-once: if a batch fails, its transaction rolls back and it is retried on the next poll.
+// La entrega es al-menos-una-vez: si un lote falla, su transacción hace rollback y se reintenta en el siguiente poll.
+@Component
+@Lazy(false) // Must exist from startup so @Scheduled runs (the app uses lazy initialization)
+@ConditionalOnProperty(name = "event-bus.mode", havingValue = "outbox")
+public class OutboxRelay {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final SpringDataOutboxEventRepository repository;
+    private final SpringApplicationEventBus dispatcher;
+    private final DomainEventSerializer serializer;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final OutboxCleanupStrategy cleanupStrategy;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter relayedEvents;
+
+    public OutboxRelay(
+            SpringDataOutboxEventRepository repository,
+            SpringApplicationEventBus dispatcher,
+            DomainEventSerializer serializer,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${event-bus.outbox.batch-size:100}") int batchSize,
+            @Value("${event-bus.outbox.cleanup:delete}") OutboxCleanupStrategy cleanupStrategy) {
+        this.repository = repository;
+        this.dispatcher = dispatcher;
+        this.serializer = serializer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.cleanupStrategy = cleanupStrategy;
+
+        // Lag = age of the oldest event still waiting in the outbox
+        // Lag = antigüedad del evento más antiguo que sigue esperando en el outbox
+        TimeGauge.builder("outbox.relay.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::doubleValue)
+                .description("Age of the oldest pending event in the outbox")
+                .register(meterRegistry);
+        this.relayedEvents = Counter.builder("outbox.relay.events")
+                .description("Events delivered by the outbox relay")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${event-bus.outbox.poll-interval-ms:500}")
+    public void relay() {
+        try {
+            // A full batch means there may be more waiting: keep draining until the outbox is empty
+            // Un lote completo significa que puede haber más esperando: seguimos vaciando hasta que esté vacío
+            int relayed;
+            do {
+                relayed = transactionTemplate.execute(status -> relayBatch());
+            } while (relayed == batchSize);
+        } catch (RuntimeException e) {
+            LOGGER.error("Outbox relay failed, the batch will be retried", e);
+        }
+        updateLag();
+    }
+
+    private int relayBatch() {
+        List<OutboxEventEntity> batch = repository.findByPublishedAtIsNullOrderByIdAsc(Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<DomainEvent> events = batch.stream()
+                .map(entity -> serializer.deserialize(entity.getPayload()))
+                .toList();
+        dispatcher.publish(events);
+
+        if (cleanupStrategy == OutboxCleanupStrategy.DELETE) {
+            repository.deleteAllInBatch(batch);
+        } else {
+            LocalDateTime now = LocalDateTime.now();
+            batch.forEach(entity -> entity.markAsPublished(now));
+        }
+        relayedEvents.increment(batch.size());
+        return batch.size();
+    }
+
+    private void updateLag() {
+        long lag = repository.findFirstByPublishedAtIsNullOrderByIdAsc()
+                .map(oldest -> Duration.between(oldest.getOccurredOn(), LocalDateTime.now()).toMillis())
+                .orElse(0L);
+        lagMillis.set(Math.max(lag, 0));
+    }
+}
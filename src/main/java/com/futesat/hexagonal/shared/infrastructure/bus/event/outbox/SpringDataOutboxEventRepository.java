@@ -0,0 +1,24 @@
+package com.futesat.hexagonal.shared.infrastructure.bus.event.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SpringDataOutboxEventRepository extends JpaRepository<OutboxEventEntity, Long> {
+
+    // Oldest pending events first. Rows are locked (SKIP LOCKED) so several relays never pick the same batch.
+    // Primero los eventos pendientes más antiguos. Las filas se bloquean (SKIP LOCKED) para que varios relays nunca cojan el mismo lote.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<OutboxEventEntity> findByPublishedAtIsNullOrderByIdAsc(Limit limit);
+
+    Optional<OutboxEventEntity> findFirstByPublishedAtIsNullOrderByIdAsc();
+}
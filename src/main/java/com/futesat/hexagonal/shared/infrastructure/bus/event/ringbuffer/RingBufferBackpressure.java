@@ -0,0 +1,15 @@
+package com.futesat.hexagonal.shared.infrastructure.bus.event.ringbuffer;
+
+// What publish() does when the ring buffer is full.
+// Qué hace publish() cuando el ring buffer está lleno.
+public enum RingBufferBackpressure {
+    // Wait until consumers free a slot (no event is lost, publisher slows down)
+    // Esperar a que los consumidores liberen un hueco (no se pierde ningún evento, el publicador se frena)
+    BLOCK,
+    // Discard the event and count it (publisher never waits)
+    // Descartar el evento y contarlo (el publicador nunca espera)
+    DROP,
+    // Dispatch the event on the publisher thread (natural throttling, no loss)
+    // Despachar el evento en el hilo del publicador (frenado natural, sin pérdidas)
+    CALLER_RUNS
+}
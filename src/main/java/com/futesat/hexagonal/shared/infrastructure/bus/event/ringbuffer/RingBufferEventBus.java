@@ -0,0 +1,192 @@
+package com.futesat.hexagonal.shared.infrastructure.bus.event.ringbuffer;
+
+import com.futesat.hexagonal.shared.domain.bus.event.DomainEvent;
+import com.futesat.hexagonal.shared.domain.bus.event.DomainEventSubscriber;
+import com.futesat.hexagonal.shared.domain.bus.event.EventBus;
+import com.lmax.disruptor.InsufficientCapacityException;
+import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.TimeoutException;
+import com.lmax.disruptor.WorkHandler;
+import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Asynchronous EventBus on a pre-allocated, bounded ring buffer (LMAX Disruptor).
+// EventBus asíncrono sobre un ring buffer acotado y pre-asignado (LMAX Disruptor).
+// publish() only claims a slot and stores a reference: subscribers run on a pool of consumer threads.
+// publish() solo reclama un hueco y guarda una referencia: los suscriptores corren en un pool de hilos consumidores.
+// Inside a transaction the events enter the ring only after commit, as with @TransactionalEventListener.
+// Dentro de una transacción los eventos entran al ring solo tras el commit, como con @TransactionalEventListener.
+@Service
+@Primary
+@ConditionalOnProperty(name = "event-bus.mode", havingValue = "ring-buffer")
+public class RingBufferEventBus implements EventBus {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RingBufferEventBus.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final Disruptor<EventSlot> disruptor;
+    private final RingBuffer<EventSlot> ringBuffer;
+    private final RingBufferBackpressure backpressure;
+    private final ClassValue<DomainEventSubscriber<DomainEvent>[]> subscribersByType;
+    private final Counter droppedEvents;
+
+    public RingBufferEventBus(
+            List<DomainEventSubscriber<?>> subscribers,
+            MeterRegistry meterRegistry,
+            @Value("${event-bus.ring-buffer.size:8192}") int bufferSize,
+            @Value("${event-bus.ring-buffer.consumers:4}") int consumers,
+            @Value("${event-bus.ring-buffer.wait-strategy:blocking}") RingBufferWaitStrategy waitStrategy,
+            @Value("${event-bus.ring-buffer.backpressure:block}") RingBufferBackpressure backpressure) {
+        this.backpressure = backpressure;
+        this.subscribersByType = dispatchTable(List.copyOf(subscribers));
+
+        // Slots are allocated once here and reused forever (bufferSize must be a power of 2)
+        // Los huecos se asignan una vez aquí y se reutilizan siempre (bufferSize debe ser potencia de 2)
+        this.disruptor = new Disruptor<>(EventSlot::new, bufferSize, consumerThreadFactory(), ProducerType.MULTI,
+                waitStrategy.create());
+        @SuppressWarnings("unchecked")
+        WorkHandler<EventSlot>[] workers = new WorkHandler[consumers];
+        for (int i = 0; i < consumers; i++) {
+            workers[i] = this::consume;
+        }
+        // Worker pool: each event is handled by exactly one consumer thread
+        // Pool de workers: cada evento lo procesa exactamente un hilo consumidor
+        disruptor.handleEventsWithWorkerPool(workers);
+        this.ringBuffer = disruptor.start();
+
+        this.droppedEvents = Counter.builder("event-bus.ring-buffer.dropped")
+                .description("Events discarded because the ring buffer was full")
+                .register(meterRegistry);
+        Gauge.builder("event-bus.ring-buffer.remaining-capacity", ringBuffer, RingBuffer::remainingCapacity)
+                .description("Free slots in the ring buffer")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(List<DomainEvent> events) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Consumers must not see the events of a transaction that may still roll back
+            // Los consumidores no deben ver los eventos de una transacción que aún puede hacer rollback
+            List<DomainEvent> pending = List.copyOf(events);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishNow(pending);
+                }
+            });
+            return;
+        }
+        publishNow(events);
+    }
+
+    private void publishNow(List<DomainEvent> events) {
+        for (int i = 0; i < events.size(); i++) {
+            publish(events.get(i));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Drain what is already in the buffer before stopping the consumers
+        // Vaciamos lo que ya está en el buffer antes de parar los consumidores
+        try {
+            disruptor.shutdown(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            LOGGER.warn("Ring buffer not drained after {}s, halting consumers", SHUTDOWN_TIMEOUT_SECONDS);
+            disruptor.halt();
+        }
+    }
+
+    private void publish(DomainEvent event) {
+        long sequence;
+        if (backpressure == RingBufferBackpressure.BLOCK) {
+            sequence = ringBuffer.next();
+        } else {
+            try {
+                sequence = ringBuffer.tryNext();
+            } catch (InsufficientCapacityException full) {
+                if (backpressure == RingBufferBackpressure.DROP) {
+                    droppedEvents.increment();
+                } else {
+                    dispatch(event);
+                }
+                return;
+            }
+        }
+
+        try {
+            ringBuffer.get(sequence).event = event;
+        } finally {
+            ringBuffer.publish(sequence);
+        }
+    }
+
+    private void consume(EventSlot slot) {
+        DomainEvent event = slot.event;
+        // Release the reference so the slot does not keep the event alive
+        // Soltamos la referencia para que el hueco no mantenga vivo el evento
+        slot.event = null;
+        dispatch(event);
+    }
+
+    private void dispatch(DomainEvent event) {
+        DomainEventSubscriber<DomainEvent>[] subscribers = subscribersByType.get(event.getClass());
+        for (DomainEventSubscriber<DomainEvent> subscriber : subscribers) {
+            try {
+                subscriber.on(event);
+            } catch (RuntimeException e) {
+                // A failing subscriber must not stop the others (nor kill the consumer thread)
+                // Un suscriptor que falla no debe parar a los demás (ni matar el hilo consumidor)
+                LOGGER.error("Subscriber {} failed on event {}", subscriber.getClass().getSimpleName(),
+                        event.getEventId(), e);
+            }
+        }
+    }
+
+    // Dispatch table resolved once per event class (ClassValue caches it): no reflective lookup per event
+    // Tabla de despacho resuelta una vez por clase de evento (ClassValue la cachea): sin búsqueda reflexiva por evento
+    @SuppressWarnings("unchecked")
+    private static ClassValue<DomainEventSubscriber<DomainEvent>[]> dispatchTable(
+            List<DomainEventSubscriber<?>> subscribers) {
+        return new ClassValue<>() {
+            @Override
+            protected DomainEventSubscriber<DomainEvent>[] computeValue(Class<?> eventType) {
+                return subscribers.stream()
+                        .filter(subscriber -> subscriber.subscribedTo().isAssignableFrom(eventType))
+                        .toArray(DomainEventSubscriber[]::new);
+            }
+        };
+    }
+
+    private static ThreadFactory consumerThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "event-bus-ring-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // Pre-allocated, mutable slot of the ring buffer
+    // Hueco mutable y pre-asignado del ring buffer
+    private static final class EventSlot {
+        private DomainEvent event;
+    }
+}
@@ -0,0 +1,28 @@
+package com.futesat.hexagonal.shared.infrastructure.bus.event.ringbuffer;
+
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+
+import java.util.function.Supplier;
+
+// How idle consumers wait for new events: from cheapest CPU (BLOCKING) to lowest latency (BUSY_SPIN).
+// Cómo esperan los consumidores ociosos: de menor CPU (BLOCKING) a menor latencia (BUSY_SPIN).
+public enum RingBufferWaitStrategy {
+    BLOCKING(BlockingWaitStrategy::new),
+    SLEEPING(SleepingWaitStrategy::new),
+    YIELDING(YieldingWaitStrategy::new),
+    BUSY_SPIN(BusySpinWaitStrategy::new);
+
+    private final Supplier<WaitStrategy> factory;
+
+    RingBufferWaitStrategy(Supplier<WaitStrategy> factory) {
+        this.factory = factory;
+    }
+
+    WaitStrategy create() {
+        return factory.get();
+    }
+}
@@ -0,0 +1,133 @@
+package com.futesat.hexagonal.shared.infrastructure.bus.event.store;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+
+// Binary layout of an event record inside a segment:
+// Formato binario de un registro de evento dentro de un segmento:
+//   header:  int payloadLength | int crc32c(payload)
+//   payload: long offset | short nameLength | name (UTF-8) | short aggregateIdLength (-1 = null) | aggregateId (UTF-8)
+//            | event (DomainEventSerializer bytes, up to the end of the payload)
+// Name and aggregate id are kept outside the serialized event so replays can filter without deserializing.
+// Nombre e id de agregado se guardan fuera del evento serializado para que las relecturas filtren sin deserializar.
+// A payloadLength of 0 marks the end of the written data (segments are zero-filled).
+// Un payloadLength de 0 marca el final de los datos escritos (los segmentos se rellenan con ceros).
+final class EventRecordFormat {
+
+    static final int HEADER_SIZE = Integer.BYTES * 2;
+    private static final int OFFSET = HEADER_SIZE;
+    private static final int NAME = OFFSET + Long.BYTES;
+    static final int MIN_PAYLOAD_SIZE = Long.BYTES + Short.BYTES * 2;
+    private static final short NULL_STRING = -1;
+
+    private EventRecordFormat() {
+    }
+
+    static int recordSize(byte[] name, byte[] aggregateId, byte[] event) {
+        return HEADER_SIZE + MIN_PAYLOAD_SIZE + name.length + (aggregateId == null ? 0 : aggregateId.length)
+                + event.length;
+    }
+
+    // Writes the record straight into the segment; the length goes last, once the payload and checksum are there
+    // Escribe el registro directamente en el segmento; la longitud va al final, cuando ya están payload y checksum
+    static void write(ByteBuffer segment, int position, long offset, byte[] name, byte[] aggregateId, byte[] event) {
+        int payloadLength = recordSize(name, aggregateId, event) - HEADER_SIZE;
+        int cursor = position + OFFSET;
+        segment.putLong(cursor, offset);
+        cursor += Long.BYTES;
+        segment.putShort(cursor, (short) name.length);
+        segment.put(cursor + Short.BYTES, name);
+        cursor += Short.BYTES + name.length;
+        if (aggregateId == null) {
+            segment.putShort(cursor, NULL_STRING);
+            cursor += Short.BYTES;
+        } else {
+            segment.putShort(cursor, (short) aggregateId.length);
+            segment.put(cursor + Short.BYTES, aggregateId);
+            cursor += Short.BYTES + aggregateId.length;
+        }
+        segment.put(cursor, event);
+
+        CRC32C crc = new CRC32C();
+        crc.update(segment.slice(position + HEADER_SIZE, payloadLength));
+        segment.putInt(position + Integer.BYTES, (int) crc.getValue());
+        segment.putInt(position, payloadLength);
+    }
+
+    static int payloadLength(ByteBuffer segment, int position) {
+        return segment.getInt(position);
+    }
+
+    static int recordSize(ByteBuffer segment, int position) {
+        return HEADER_SIZE + payloadLength(segment, position);
+    }
+
+    static long offset(ByteBuffer segment, int position) {
+        return segment.getLong(position + OFFSET);
+    }
+
+    static int namePosition(int position) {
+        return position + NAME;
+    }
+
+    // Position of the aggregate id length field
+    // Posición del campo de longitud del id de agregado
+    static int aggregateIdPosition(ByteBuffer segment, int position) {
+        return position + NAME + Short.BYTES + segment.getShort(position + NAME);
+    }
+
+    static int eventPosition(ByteBuffer segment, int position) {
+        int aggregateId = aggregateIdPosition(segment, position);
+        int length = segment.getShort(aggregateId);
+        return aggregateId + Short.BYTES + (length == NULL_STRING ? 0 : length);
+    }
+
+    // Compares a length-prefixed string of the record with the expected bytes (null matches a null field)
+    // Compara un texto con prefijo de longitud del registro con los bytes esperados (null encaja con un campo null)
+    static boolean stringEquals(ByteBuffer segment, int lengthPosition, byte[] expected) {
+        int length = segment.getShort(lengthPosition);
+        if (expected == null || length == NULL_STRING) {
+            return expected == null && length == NULL_STRING;
+        }
+        if (length != expected.length) {
+            return false;
+        }
+        int start = lengthPosition + Short.BYTES;
+        for (int i = 0; i < length; i++) {
+            if (segment.get(start + i) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static byte[] event(ByteBuffer segment, int position) {
+        int start = eventPosition(segment, position);
+        byte[] event = new byte[position + recordSize(segment, position) - start];
+        segment.get(start, event);
+        return event;
+    }
+
+    // A record is valid if it fits in the segment and its payload matches the checksum (no torn write)
+    // Un registro es válido si cabe en el segmento y su payload coincide con el checksum (sin escritura a medias)
+    static boolean isValid(ByteBuffer segment, int position, int payloadLength) {
+        if (payloadLength < MIN_PAYLOAD_SIZE || position + HEADER_SIZE + payloadLength > segment.capacity()) {
+            return false;
+        }
+        CRC32C crc = new CRC32C();
+        crc.update(segment.slice(position + HEADER_SIZE, payloadLength));
+        return (int) crc.getValue() == segment.getInt(position + Integer.BYTES);
+    }
+
+    static byte[] utf8(String value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Value too long for an event record: " + bytes.length + " bytes");
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,87 @@
+package com.futesat.hexagonal.shared.infrastructure.bus.event.store;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// One size-bounded, append-only file of event records, mapped into memory, holding offsets [firstOffset, ...).
+// Un fichero de registros de eventos, acotado en tamaño y solo de añadir, mapeado en memoria, con offsets [firstOffset, ...).
+// Readers only use absolute gets on records below the store's published nextOffset: no locks on replay.
+// Los lectores solo usan gets absolutos sobre registros por debajo del nextOffset publicado: sin locks al releer.
+final class EventSegment {
+
+    private final long firstOffset;
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    // Only modified by the single writer (under the store lock)
+    // Solo lo modifica el único escritor (bajo el lock del almacén)
+    private int writePosition;
+
+    private EventSegment(long firstOffset, Path path, MappedByteBuffer buffer) {
+        this.firstOffset = firstOffset;
+        this.path = path;
+        this.buffer = buffer;
+    }
+
+    static EventSegment open(long firstOffset, Path path, int size) {
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long mappedSize = Math.max(channel.size(), size);
+            return new EventSegment(firstOffset, path, channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to map event segment " + path, e);
+        }
+    }
+
+    boolean hasRoomFor(int recordSize) {
+        return writePosition + recordSize <= buffer.capacity();
+    }
+
+    long firstOffset() {
+        return firstOffset;
+    }
+
+    MappedByteBuffer buffer() {
+        return buffer;
+    }
+
+    Path path() {
+        return path;
+    }
+
+    int writePosition() {
+        return writePosition;
+    }
+
+    void advance(int recordSize) {
+        writePosition += recordSize;
+    }
+
+    // Recovery: the valid records end at position; a torn tail after it is wiped so it is never read as data
+    // Recuperación: los registros válidos acaban en position; una cola a medias tras ella se borra para no leerla como datos
+    void recoveredUpTo(int position, boolean tornTail) {
+        writePosition = position;
+        if (tornTail) {
+            for (int i = position; i < buffer.capacity(); i++) {
+                buffer.put(i, (byte) 0);
+            }
+            buffer.force();
+        }
+    }
+
+    // Undo of a failed append: wipes what was written from position on so a restart does not read it as data
+    // Deshace un append fallido: borra lo escrito desde position para que un reinicio no lo lea como datos
+    void truncate(int position) {
+        for (int i = position; i < writePosition; i++) {
+            buffer.put(i, (byte) 0);
+        }
+        writePosition = position;
+    }
+
+    void force() {
+        buffer.force();
+    }
+}
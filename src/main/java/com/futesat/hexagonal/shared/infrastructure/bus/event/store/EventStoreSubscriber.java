@@ -0,0 +1,36 @@
+package com.futesat.hexagonal.shared.infrastructure.bus.event.store;
+
+import com.futesat.hexagonal.shared.domain.bus.event.DomainEvent;
+import com.futesat.hexagonal.shared.domain.bus.event.DomainEventSubscriber;
+import com.futesat.hexagonal.shared.domain.bus.event.EventStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+// Keeps every dispatched domain event in the EventStore, whatever the bus (Spring events, outbox relay or ring buffer).
+// Guarda en el EventStore cada evento de dominio despachado, sea cual sea el bus (eventos Spring, relay del outbox o ring buffer).
+@Component
+@ConditionalOnProperty(name = "event-store.enabled", havingValue = "true")
+public class EventStoreSubscriber implements DomainEventSubscriber<DomainEvent> {
+
+    private final EventStore eventStore;
+
+    public EventStoreSubscriber(EventStore eventStore) {
+        this.eventStore = eventStore;
+    }
+
+    @Override
+    public Class<DomainEvent> subscribedTo() {
+        return DomainEvent.class;
+    }
+
+    // After commit: events of a rolled back transaction never happened
+    // Tras el commit: los eventos de una transacción deshecha nunca ocurrieron
+    @TransactionalEventListener(fallbackExecution = true)
+    @Override
+    public void on(DomainEvent event) {
+        eventStore.append(List.of(event));
+    }
+}
@@ -0,0 +1,306 @@
+package com.futesat.hexagonal.shared.infrastructure.bus.event.store;
+
+import com.futesat.hexagonal.shared.domain.bus.event.DomainEvent;
+import com.futesat.hexagonal.shared.domain.bus.event.EventStore;
+import com.futesat.hexagonal.shared.domain.bus.event.EventStreamFilter;
+import com.futesat.hexagonal.shared.domain.bus.event.StoredEventHandler;
+import com.futesat.hexagonal.shared.infrastructure.bus.event.DomainEventSerializer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// EventStore on memory-mapped, append-only segment files that roll over at event-store.segment-size.
+// EventStore sobre ficheros de segmentos mapeados en memoria, solo de añadir, que rotan al llegar a event-store.segment-size.
+// A sparse index (one position every event-store.index-interval offsets) lets a replay start anywhere after
+// Un índice disperso (una posición cada event-store.index-interval offsets) permite empezar una relectura en cualquier
+// scanning at most that many records; from there it is a sequential read of the mapped files.
+// punto recorriendo como mucho esos registros; a partir de ahí es una lectura secuencial de los ficheros mapeados.
+@Repository
+@ConditionalOnProperty(name = "event-store.enabled", havingValue = "true")
+public class FileEventStore implements EventStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileEventStore.class);
+    private static final Pattern SEGMENT_FILE = Pattern.compile("events-(\\d{20})\\.log");
+
+    private final DomainEventSerializer serializer;
+    private final Path directory;
+    private final int segmentSize;
+    private final int indexInterval;
+    private final boolean fsyncOnAppend;
+    // Segments by their first offset; the last one is the active segment
+    // Segmentos por su primer offset; el último es el segmento activo
+    private final ConcurrentSkipListMap<Long, EventSegment> segments = new ConcurrentSkipListMap<>();
+    // Offset -> position inside the segment that holds it (every indexInterval offsets + first of each segment)
+    // Offset -> posición dentro del segmento que lo contiene (cada indexInterval offsets + el primero de cada segmento)
+    private final ConcurrentSkipListMap<Long, Integer> sparseIndex = new ConcurrentSkipListMap<>();
+    private final Map<String, byte[]> eventNames = new ConcurrentHashMap<>();
+    // Single writer: appends and rolling are serialized; replays never take it
+    // Un único escritor: appends y rotación van en serie; las relecturas nunca lo toman
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private EventSegment active;
+    // Written after the records it covers: readers never look past it, so they only see complete records
+    // Se escribe después de los registros que cubre: los lectores nunca miran más allá, así que solo ven registros completos
+    private volatile long nextOffset;
+
+    public FileEventStore(
+            DomainEventSerializer serializer,
+            @Value("${event-store.directory:data/events}") Path directory,
+            @Value("${event-store.segment-size:64MB}") DataSize segmentSize,
+            @Value("${event-store.index-interval:4096}") int indexInterval,
+            @Value("${event-store.fsync-on-append:false}") boolean fsyncOnAppend) {
+        if (segmentSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segment size must be below 2GB: " + segmentSize);
+        }
+        this.serializer = serializer;
+        this.directory = directory;
+        this.segmentSize = (int) segmentSize.toBytes();
+        this.indexInterval = indexInterval;
+        this.fsyncOnAppend = fsyncOnAppend;
+        recover();
+    }
+
+    @Override
+    public void append(List<DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        // Serialization (the expensive part), encoding and the size checks happen outside the lock:
+        // La serialización (la parte cara), la codificación y las comprobaciones de tamaño ocurren fuera del lock:
+        // an event that cannot be stored rejects the whole batch before any byte is written
+        // un evento que no se puede guardar rechaza el lote entero antes de escribir ningún byte
+        int count = events.size();
+        byte[][] names = new byte[count][];
+        byte[][] aggregateIds = new byte[count][];
+        byte[][] payloads = new byte[count][];
+        int[] recordSizes = new int[count];
+        for (int i = 0; i < count; i++) {
+            DomainEvent event = events.get(i);
+            names[i] = eventName(event.eventName());
+            aggregateIds[i] = EventRecordFormat.utf8(event.aggregateId());
+            payloads[i] = serializer.serialize(event);
+            recordSizes[i] = EventRecordFormat.recordSize(names[i], aggregateIds[i], payloads[i]);
+            if (recordSizes[i] > segmentSize) {
+                throw new IllegalArgumentException("Event record larger than a segment: " + recordSizes[i] + " bytes");
+            }
+        }
+        writeLock.lock();
+        try {
+            long offset = nextOffset;
+            EventSegment firstSegment = active;
+            int firstPosition = firstSegment.writePosition();
+            try {
+                for (int i = 0; i < count; i++) {
+                    write(offset++, names[i], aggregateIds[i], payloads[i], recordSizes[i]);
+                }
+                if (fsyncOnAppend) {
+                    active.force();
+                }
+            } catch (RuntimeException e) {
+                undo(firstSegment, firstPosition);
+                throw e;
+            }
+            nextOffset = offset;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public long replay(long fromOffset, EventStreamFilter filter, StoredEventHandler handler) {
+        long end = nextOffset;
+        long offset = Math.max(fromOffset, 0);
+        if (offset >= end) {
+            return end;
+        }
+        byte[][] names = filter.eventNames().isEmpty() ? null
+                : filter.eventNames().stream().map(EventRecordFormat::utf8).toArray(byte[][]::new);
+        byte[] aggregateId = EventRecordFormat.utf8(filter.aggregateId());
+
+        Map.Entry<Long, Integer> start = sparseIndex.floorEntry(offset);
+        long current = start.getKey();
+        EventSegment segment = segments.floorEntry(current).getValue();
+        MappedByteBuffer buffer = segment.buffer();
+        int position = start.getValue();
+        Map.Entry<Long, EventSegment> following = segments.higherEntry(segment.firstOffset());
+        while (current < end) {
+            if (following != null && current == following.getKey()) {
+                segment = following.getValue();
+                buffer = segment.buffer();
+                position = 0;
+                following = segments.higherEntry(segment.firstOffset());
+            }
+            if (current >= offset && matches(buffer, position, names, aggregateId)) {
+                handler.handle(current, serializer.deserialize(EventRecordFormat.event(buffer, position)));
+            }
+            position += EventRecordFormat.recordSize(buffer, position);
+            current++;
+        }
+        return end;
+    }
+
+    @Override
+    public long nextOffset() {
+        return nextOffset;
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    @PreDestroy
+    public void close() {
+        writeLock.lock();
+        try {
+            segments.values().forEach(EventSegment::force);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void write(long offset, byte[] name, byte[] aggregateId, byte[] event, int recordSize) {
+        if (!active.hasRoomFor(recordSize)) {
+            // A full segment is made durable before moving on
+            // Un segmento lleno se hace durable antes de seguir
+            active.force();
+            active = newSegment(offset);
+        }
+        int position = active.writePosition();
+        EventRecordFormat.write(active.buffer(), position, offset, name, aggregateId, event);
+        active.advance(recordSize);
+        index(offset, active, position);
+    }
+
+    // A batch that failed half-way (I/O error) is wiped: readers never saw it, as nextOffset did not move,
+    // Un lote que falló a medias (error de E/S) se borra: los lectores nunca lo vieron, ya que nextOffset no avanzó,
+    // and a restart must not recover its records either
+    // y un reinicio tampoco debe recuperar sus registros
+    private void undo(EventSegment firstSegment, int firstPosition) {
+        sparseIndex.tailMap(nextOffset, true).clear();
+        Map<Long, EventSegment> rolled = segments.tailMap(firstSegment.firstOffset(), false);
+        for (EventSegment segment : rolled.values()) {
+            segment.truncate(0);
+            try {
+                Files.deleteIfExists(segment.path());
+            } catch (IOException e) {
+                LOGGER.warn("Unable to delete event segment {} of a failed append", segment.path(), e);
+            }
+        }
+        rolled.clear();
+        firstSegment.truncate(firstPosition);
+        active = firstSegment;
+    }
+
+    private void index(long offset, EventSegment segment, int position) {
+        if (offset % indexInterval == 0 || offset == segment.firstOffset()) {
+            sparseIndex.put(offset, position);
+        }
+    }
+
+    private static boolean matches(MappedByteBuffer buffer, int position, byte[][] names, byte[] aggregateId) {
+        if (names != null) {
+            boolean nameMatches = false;
+            for (byte[] name : names) {
+                if (EventRecordFormat.stringEquals(buffer, EventRecordFormat.namePosition(position), name)) {
+                    nameMatches = true;
+                    break;
+                }
+            }
+            if (!nameMatches) {
+                return false;
+            }
+        }
+        return aggregateId == null || EventRecordFormat.stringEquals(buffer,
+                EventRecordFormat.aggregateIdPosition(buffer, position), aggregateId);
+    }
+
+    private byte[] eventName(String name) {
+        return eventNames.computeIfAbsent(name, EventRecordFormat::utf8);
+    }
+
+    private void recover() {
+        try {
+            Files.createDirectories(directory);
+            List<Path> files = new ArrayList<>();
+            try (Stream<Path> paths = Files.list(directory)) {
+                paths.filter(path -> SEGMENT_FILE.matcher(path.getFileName().toString()).matches())
+                        .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+                        .forEach(files::add);
+            }
+            long offset = 0;
+            for (Path file : files) {
+                Matcher matcher = SEGMENT_FILE.matcher(file.getFileName().toString());
+                matcher.matches();
+                long firstOffset = Long.parseLong(matcher.group(1));
+                if (firstOffset != offset) {
+                    // A gap means a lost segment: what comes after cannot be trusted to be in order
+                    // Un hueco significa un segmento perdido: no podemos fiarnos del orden de lo que venga después
+                    LOGGER.warn("Event segment {} does not follow offset {}: ignoring it and the rest", file, offset);
+                    break;
+                }
+                EventSegment segment = EventSegment.open(firstOffset, file, segmentSize);
+                segments.put(firstOffset, segment);
+                offset = recover(segment);
+                active = segment;
+            }
+            nextOffset = offset;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to open event segments in " + directory, e);
+        }
+        if (active == null) {
+            active = newSegment(0);
+        }
+        LOGGER.info("Recovered {} events from {} segments in {}", nextOffset, segments.size(), directory);
+    }
+
+    // Walks the records of a segment (checksum + consecutive offsets) and rebuilds its part of the sparse index
+    // Recorre los registros de un segmento (checksum + offsets consecutivos) y reconstruye su parte del índice disperso
+    private long recover(EventSegment segment) {
+        MappedByteBuffer buffer = segment.buffer();
+        long offset = segment.firstOffset();
+        int position = 0;
+        boolean tornTail = false;
+        while (position + EventRecordFormat.HEADER_SIZE <= buffer.capacity()) {
+            int payloadLength = EventRecordFormat.payloadLength(buffer, position);
+            if (payloadLength == 0) {
+                break;
+            }
+            if (!EventRecordFormat.isValid(buffer, position, payloadLength)
+                    || EventRecordFormat.offset(buffer, position) != offset) {
+                tornTail = true;
+                break;
+            }
+            index(offset, segment, position);
+            position += EventRecordFormat.HEADER_SIZE + payloadLength;
+            offset++;
+        }
+        segment.recoveredUpTo(position, tornTail);
+        return offset;
+    }
+
+    private EventSegment newSegment(long firstOffset) {
+        EventSegment segment = EventSegment.open(firstOffset,
+                directory.resolve(String.format("events-%020d.log", firstOffset)), segmentSize);
+        segments.put(firstOffset, segment);
+        return segment;
+    }
+}
@@ -0,0 +1,53 @@
+package com.futesat.hexagonal.shared.infrastructure.bus.query;
+
+import com.futesat.hexagonal.shared.domain.bus.query.Query;
+import com.futesat.hexagonal.shared.domain.bus.query.QueryBus;
+import com.futesat.hexagonal.shared.domain.bus.query.QueryHandler;
+import com.futesat.hexagonal.shared.infrastructure.bus.BusMiddleware;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Synchronous QueryBus: same precompiled dispatch table as InMemoryCommandBus, returning the handler's answer.
+// QueryBus síncrono: la misma tabla de despacho precompilada que InMemoryCommandBus, devolviendo la respuesta del handler.
+@Service
+public class InMemoryQueryBus implements QueryBus {
+
+    private final Map<Class<?>, BusMiddleware.Step> pipelines;
+
+    public InMemoryQueryBus(List<QueryHandler<?, ?>> handlers, List<BusMiddleware> middlewares) {
+        Map<Class<?>, BusMiddleware.Step> pipelines = new HashMap<>();
+        for (QueryHandler<?, ?> handler : handlers) {
+            Class<?> queryType = handler.subscribedTo();
+            BusMiddleware.Step pipeline = BusMiddleware.chain(queryType, step(handler), middlewares);
+            if (pipelines.putIfAbsent(queryType, pipeline) != null) {
+                throw new IllegalStateException("More than one handler for " + queryType.getName());
+            }
+        }
+        this.pipelines = Map.copyOf(pipelines);
+    }
+
+    @Autowired
+    public InMemoryQueryBus(ObjectProvider<QueryHandler<?, ?>> handlers, ObjectProvider<BusMiddleware> middlewares) {
+        this(handlers.orderedStream().toList(), middlewares.orderedStream().toList());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R ask(Query<R> query) {
+        BusMiddleware.Step pipeline = pipelines.get(query.getClass());
+        if (pipeline == null) {
+            throw new IllegalStateException("No handler registered for " + query.getClass().getName());
+        }
+        return (R) pipeline.handle(query);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <Q extends Query<R>, R> BusMiddleware.Step step(QueryHandler<Q, R> handler) {
+        return query -> handler.handle((Q) query);
+    }
+}
@@ -0,0 +1,112 @@
+package com.futesat.hexagonal.shared.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Wraps any port (an interface of the hexagon) in a decorator that measures every operation from the outside.
+// Envuelve cualquier puerto (una interfaz del hexágono) en un decorador que mide cada operación desde fuera.
+// Meters are tagged port=<interface>, operation=<method>:
+// Los medidores se etiquetan port=<interfaz>, operation=<método>:
+//   port.calls (timer with p50/p99/p999 and histogram), port.errors (counter, tagged by exception too)
+//   port.calls (timer con p50/p99/p999 e histograma), port.errors (contador, etiquetado también por excepción)
+//   and port.in.flight (long task timer: calls running right now and for how long).
+//   y port.in.flight (long task timer: llamadas en curso ahora mismo y desde cuándo).
+public final class MeteredPort {
+
+    private MeteredPort() {
+    }
+
+    public static <T> T wrap(Class<T> port, T target, MeterRegistry meterRegistry) {
+        return wrap(port, port.getSimpleName(), target, meterRegistry);
+    }
+
+    // portName tells apart two wraps of the same interface (e.g. a decorator and the adapter behind it)
+    // portName distingue dos envoltorios de la misma interfaz (p. ej. un decorador y el adaptador detrás de él)
+    @SuppressWarnings("unchecked")
+    public static <T> T wrap(Class<T> port, String portName, T target, MeterRegistry meterRegistry) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setInterfaces(port);
+        // A closeable target stays closeable through the proxy, so Spring still releases it on shutdown
+        // Un destino cerrable sigue siéndolo a través del proxy, así que Spring lo sigue liberando al apagarse
+        if (target instanceof AutoCloseable) {
+            proxyFactory.addInterface(AutoCloseable.class);
+        }
+        proxyFactory.addAdvice(new MeteringInterceptor(port, portName, meterRegistry));
+        return (T) proxyFactory.getProxy(port.getClassLoader());
+    }
+
+    private static final class MeteringInterceptor implements MethodInterceptor {
+
+        private final String port;
+        private final MeterRegistry meterRegistry;
+        // Meters resolved once per operation: the registry is not looked up on every call
+        // Medidores resueltos una vez por operación: no se consulta el registro en cada llamada
+        private final Map<Method, OperationMeters> meters = new HashMap<>();
+
+        MeteringInterceptor(Class<?> port, String portName, MeterRegistry meterRegistry) {
+            this.port = portName;
+            this.meterRegistry = meterRegistry;
+            for (Method method : port.getMethods()) {
+                if (!Modifier.isStatic(method.getModifiers())) {
+                    meters.put(method, new OperationMeters(this.port, method.getName(), meterRegistry));
+                }
+            }
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            OperationMeters operation = meters.get(invocation.getMethod());
+            if (operation == null) {
+                // equals, hashCode, toString...
+                return invocation.proceed();
+            }
+            LongTaskTimer.Sample inFlight = operation.inFlight.start();
+            long start = System.nanoTime();
+            try {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                Counter.builder("port.errors")
+                        .description("Operations of a port that ended with an exception")
+                        .tags("port", port, "operation", operation.name, "exception", e.getClass().getSimpleName())
+                        .register(meterRegistry)
+                        .increment();
+                throw e;
+            } finally {
+                operation.calls.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                inFlight.stop();
+            }
+        }
+    }
+
+    private static final class OperationMeters {
+
+        private final String name;
+        private final Timer calls;
+        private final LongTaskTimer inFlight;
+
+        OperationMeters(String port, String operation, MeterRegistry meterRegistry) {
+            this.name = operation;
+            this.calls = Timer.builder("port.calls")
+                    .description("Latency of the operations of a port (including failed ones)")
+                    .tags("port", port, "operation", operation)
+                    .publishPercentiles(0.5, 0.99, 0.999)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.inFlight = LongTaskTimer.builder("port.in.flight")
+                    .description("Operations of a port currently running")
+                    .tags("port", port, "operation", operation)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.futesat.hexagonal.shared.infrastructure.persistence;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.interceptor.NameMatchTransactionAttributeSource;
+import org.springframework.transaction.interceptor.RuleBasedTransactionAttribute;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+
+// Wraps a pure application service (POJO without annotations) in a transaction from the outside.
+// Envuelve un servicio de aplicación puro (POJO sin anotaciones) en una transacción desde fuera.
+// This way the handler stays framework-agnostic and infrastructure decides the transactional boundary.
+// Así el handler sigue siendo agnóstico del framework y la infraestructura decide el límite transaccional.
+// Only handle() runs in a transaction: other calls, such as subscribedTo() while the bus builds its dispatch table,
+// Solo handle() corre en una transacción: otras llamadas, como subscribedTo() mientras el bus monta su tabla de despacho,
+// must not borrow a pooled connection.
+// no deben tomar prestada una conexión del pool.
+public final class TransactionalProxy {
+
+    private static final String TRANSACTIONAL_METHOD = "handle";
+
+    private TransactionalProxy() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T wrap(T target, TransactionManager transactionManager) {
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        NameMatchTransactionAttributeSource attributeSource = new NameMatchTransactionAttributeSource();
+        attributeSource.addTransactionalMethod(TRANSACTIONAL_METHOD, new RuleBasedTransactionAttribute());
+        proxyFactory.addAdvice(new TransactionInterceptor(transactionManager, attributeSource));
+        return (T) proxyFactory.getProxy();
+    }
+}
@@ -1,5 +1,7 @@
 package com.futesat.hexagonal;
 
+import com.tngtech.archunit.core.importer.ImportOption;
+import com.tngtech.archunit.core.importer.Location;
 import com.tngtech.archunit.junit.AnalyzeClasses;
 import com.tngtech.archunit.junit.ArchTest;
 import com.tngtech.archunit.lang.ArchRule;
@@ -7,9 +9,23 @@ import com.tngtech.archunit.lang.ArchRule;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
 
-@AnalyzeClasses(packages = "com.futesat.hexagonal")
+import java.util.regex.Pattern;
+
+@AnalyzeClasses(packages = "com.futesat.hexagonal", importOptions = HexagonalArchitectureTest.DoNotIncludeAotGenerated.class)
 public class HexagonalArchitectureTest {
 
+        // Classes generated by Spring AOT (fast-startup profile) land in target/classes next to ours
+        // Las clases generadas por Spring AOT (perfil fast-startup) acaban en target/classes junto a las nuestras
+        public static class DoNotIncludeAotGenerated implements ImportOption {
+
+                private static final Pattern AOT_GENERATED = Pattern.compile(".*(__|\\$\\$SpringCGLIB\\$\\$)[^/]*\\.class$");
+
+                @Override
+                public boolean includes(Location location) {
+                        return !location.matches(AOT_GENERATED);
+                }
+        }
+
         @ArchTest
         public static final ArchRule domain_should_not_depend_on_application_or_infrastructure = noClasses()
                         .that().resideInAPackage("..domain..")
@@ -0,0 +1,141 @@
+package com.futesat.hexagonal.courses.application.bulkimport;
+
+import com.futesat.hexagonal.courses.application.create.CreateCoursesCommandHandler;
+import com.futesat.hexagonal.courses.domain.Course;
+import com.futesat.hexagonal.courses.domain.CourseId;
+import com.futesat.hexagonal.courses.domain.CourseRepository;
+import com.futesat.hexagonal.shared.domain.bus.event.EventBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class ImportCoursesCommandHandlerTest {
+
+    private static final String EXISTING_ID = "5a02e5b0-394c-4235-8656-78225586618e";
+
+    private CourseRepository repository;
+    private EventBus eventBus;
+    private RecordingListener listener;
+
+    @BeforeEach
+    void setUp() {
+        repository = Mockito.mock(CourseRepository.class);
+        eventBus = Mockito.mock(EventBus.class);
+        listener = new RecordingListener();
+    }
+
+    @Test
+    void should_import_every_valid_row_in_chunks_and_report_the_rest_by_line() {
+        // GIVEN 10 valid rows plus a malformed one, an invalid id and a short name
+        List<String> records = new ArrayList<>(IntStream.range(0, 10)
+                .mapToObj(i -> UUID.randomUUID() + ";Course number " + i + ";1 hour")
+                .toList());
+        records.add("only-one-field");
+        records.add("invalid-uuid;Clean Code;5 hours");
+        records.add("");
+        records.add(UUID.randomUUID() + ";Hi;1 hour");
+        ImportCoursesCommandHandler handler = new ImportCoursesCommandHandler(
+                new CreateCoursesCommandHandler(repository, eventBus), 4, 2);
+
+        // WHEN
+        CourseImportProgress summary = handler.handle(new ListSource(records), listener);
+
+        // THEN
+        assertEquals(new CourseImportProgress(13, 10, 3), summary);
+        assertEquals(List.of(11L, 12L, 14L), listener.rejectedLines());
+        // 4 chunks of up to 4 records: one saveAll and one event publication per chunk with valid rows
+        // 4 bloques de hasta 4 registros: un saveAll y una publicación de eventos por bloque con filas válidas
+        verify(repository, times(3)).saveAll(any());
+        verify(eventBus, times(3)).publish(any());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void should_retry_a_failed_chunk_row_by_row_to_isolate_the_culprits() {
+        // GIVEN a repository that rejects any batch containing an id that already exists
+        doThrow(new IllegalStateException("duplicate key"))
+                .when(repository).saveAll(argThat(courses -> courses.stream()
+                        .map(Course::id).anyMatch(new CourseId(EXISTING_ID)::equals)));
+        List<String> records = List.of(
+                UUID.randomUUID() + ";Course one;1 hour",
+                EXISTING_ID + ";Course two;1 hour",
+                UUID.randomUUID() + ";Course three;1 hour");
+        ImportCoursesCommandHandler handler = new ImportCoursesCommandHandler(
+                new CreateCoursesCommandHandler(repository, eventBus), 10, 1);
+
+        // WHEN
+        CourseImportProgress summary = handler.handle(new ListSource(records), listener);
+
+        // THEN
+        assertEquals(new CourseImportProgress(3, 2, 1), summary);
+        assertEquals(List.of(2L), listener.rejectedLines());
+        assertEquals("Could not be stored: IllegalStateException", listener.reasons.get(0));
+        verify(eventBus, times(2)).publish(argThat(events -> events.size() == 1));
+    }
+
+    // Records "id;name;duration" held in memory
+    // Registros "id;name;duration" en memoria
+    private static final class ListSource implements CourseImportSource {
+
+        private final List<String> records;
+        private int next;
+
+        ListSource(List<String> records) {
+            this.records = records;
+        }
+
+        @Override
+        public CourseImportChunk nextChunk(int maxRecords) {
+            int from = next;
+            next = Math.min(records.size(), next + maxRecords);
+            return new CourseImportChunk(from + 1, records.subList(from, next));
+        }
+
+        @Override
+        public CourseImportRow parse(String record) {
+            if (record.isEmpty()) {
+                return null;
+            }
+            String[] fields = record.split(";");
+            if (fields.length != 3) {
+                throw new IllegalArgumentException("Expected 3 fields");
+            }
+            return new CourseImportRow(fields[0], fields[1], fields[2]);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class RecordingListener implements CourseImportListener {
+
+        private final List<Long> lines = Collections.synchronizedList(new ArrayList<>());
+        private final List<String> reasons = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void rejected(long line, String id, String reason) {
+            lines.add(line);
+            reasons.add(reason);
+        }
+
+        @Override
+        public void progress(CourseImportProgress progress) {
+        }
+
+        List<Long> rejectedLines() {
+            return lines.stream().sorted().toList();
+        }
+    }
+}
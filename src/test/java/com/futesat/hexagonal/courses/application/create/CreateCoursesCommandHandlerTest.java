@@ -0,0 +1,80 @@
+package com.futesat.hexagonal.courses.application.create;
+
+import com.futesat.hexagonal.courses.domain.Course;
+import com.futesat.hexagonal.courses.domain.CourseRepository;
+import com.futesat.hexagonal.shared.domain.bus.event.EventBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CreateCoursesCommandHandlerTest {
+
+    private CourseRepository repository;
+    private EventBus eventBus;
+    private CreateCoursesCommandHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        repository = Mockito.mock(CourseRepository.class);
+        eventBus = Mockito.mock(EventBus.class);
+        handler = new CreateCoursesCommandHandler(repository, eventBus);
+    }
+
+    @Test
+    void should_save_valid_courses_in_one_batch_and_report_invalid_ones() {
+        // GIVEN
+        CreateCoursesCommand command = new CreateCoursesCommand(List.of(
+                new CreateCourseCommand("5a02e5b0-394c-4235-8656-78225586618e", "DDD in Java", "10 hours"),
+                new CreateCourseCommand("invalid-uuid", "Clean Code", "5 hours"),
+                new CreateCourseCommand("6a02e5b0-394c-4235-8656-78225586618e", "Hi", "1 hour"),
+                new CreateCourseCommand("5a02e5b0-394c-4235-8656-78225586618e", "DDD in Java again", "10 hours"),
+                new CreateCourseCommand("7a02e5b0-394c-4235-8656-78225586618e", "Hexagonal Architecture", "2 hours")));
+
+        // WHEN
+        List<CourseCreationResult> results = handler.handle(command);
+
+        // THEN
+        assertEquals(List.of(true, false, false, false, true),
+                results.stream().map(CourseCreationResult::created).toList());
+        verify(repository, times(1)).saveAll(argThat(courses -> courses.size() == 2));
+        verify(repository, never()).save(any());
+        // One publication with all the events of the batch
+        // Una sola publicación con todos los eventos del lote
+        verify(eventBus, times(1)).publish(argThat(events -> events.size() == 2));
+    }
+
+    @Test
+    void should_report_already_stored_ids_without_aborting_the_batch() {
+        // GIVEN
+        String storedId = "5a02e5b0-394c-4235-8656-78225586618e";
+        when(repository.searchAll(any())).thenReturn(List.of(
+                Course.from(storedId, "DDD in Java", "10 hours")));
+
+        // WHEN
+        List<CourseCreationResult> results = handler.handle(new CreateCoursesCommand(List.of(
+                new CreateCourseCommand(storedId, "DDD in Java", "10 hours"),
+                new CreateCourseCommand("7a02e5b0-394c-4235-8656-78225586618e", "Hexagonal Architecture", "2 hours"))));
+
+        // THEN
+        assertEquals(List.of(false, true), results.stream().map(CourseCreationResult::created).toList());
+        assertEquals("Course already exists", results.get(0).error());
+        verify(repository, times(1)).saveAll(argThat(courses -> courses.size() == 1));
+        verify(eventBus, times(1)).publish(argThat(events -> events.size() == 1));
+    }
+
+    @Test
+    void should_not_touch_repository_when_every_item_is_invalid() {
+        // WHEN
+        List<CourseCreationResult> results = handler.handle(new CreateCoursesCommand(List.of(
+                new CreateCourseCommand("invalid-uuid", "Clean Code", "5 hours"))));
+
+        // THEN
+        assertFalse(results.get(0).created());
+        verifyNoInteractions(repository, eventBus);
+    }
+}
@@ -15,17 +15,34 @@ import static org.mockito.Mockito.*;
 
 class FindCourseQueryHandlerTest {
 
+    private CourseReadModel readModel;
     private CourseRepository repository;
     private FindCourseQueryHandler handler;
 
     @BeforeEach
     void setUp() {
+        readModel = Mockito.mock(CourseReadModel.class);
         repository = Mockito.mock(CourseRepository.class);
-        handler = new FindCourseQueryHandler(repository);
+        handler = new FindCourseQueryHandler(readModel, repository);
     }
 
     @Test
-    void should_find_an_existing_course() {
+    void should_serve_a_projected_course_from_the_read_model() {
+        // GIVEN
+        String idSource = "5a02e5b0-394c-4235-8656-78225586618e";
+        CourseResponse view = new CourseResponse(idSource, "Refactoring Legacy Code", "15 hours");
+        when(readModel.find(new CourseId(idSource))).thenReturn(Optional.of(view));
+
+        // WHEN
+        CourseResponse response = handler.handle(new FindCourseQuery(idSource));
+
+        // THEN the write model is not touched
+        assertEquals(view, response);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void should_find_an_existing_course_not_projected_yet() {
         // GIVEN
         String idSource = "5a02e5b0-394c-4235-8656-78225586618e";
         String nameSource = "Refactoring Legacy Code";
@@ -35,7 +52,7 @@ class FindCourseQueryHandlerTest {
         when(repository.search(new CourseId(idSource))).thenReturn(Optional.of(existingCourse));
 
         // WHEN
-        CourseResponse response = handler.handle(idSource);
+        CourseResponse response = handler.handle(new FindCourseQuery(idSource));
 
         // THEN
         assertNotNull(response);
@@ -51,6 +68,6 @@ class FindCourseQueryHandlerTest {
         when(repository.search(new CourseId(idSource))).thenReturn(Optional.empty());
 
         // WHEN & THEN
-        assertThrows(CourseNotFound.class, () -> handler.handle(idSource));
+        assertThrows(CourseNotFound.class, () -> handler.handle(new FindCourseQuery(idSource)));
     }
 }
@@ -0,0 +1,70 @@
+package com.futesat.hexagonal.courses.application.find;
+
+import com.futesat.hexagonal.courses.domain.Course;
+import com.futesat.hexagonal.courses.domain.CourseId;
+import com.futesat.hexagonal.courses.domain.CourseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class FindCoursesQueryHandlerTest {
+
+    private static final String PROJECTED = "5a02e5b0-394c-4235-8656-78225586618e";
+    private static final String STORED = "6a02e5b0-394c-4235-8656-78225586618e";
+    private static final String MISSING = "7a02e5b0-394c-4235-8656-78225586618e";
+
+    private CourseReadModel readModel;
+    private CourseRepository repository;
+    private FindCoursesQueryHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        readModel = Mockito.mock(CourseReadModel.class);
+        repository = Mockito.mock(CourseRepository.class);
+        handler = new FindCoursesQueryHandler(readModel, repository);
+    }
+
+    @Test
+    void should_report_every_id_in_order_with_a_single_repository_lookup() {
+        // GIVEN
+        when(readModel.find(new CourseId(PROJECTED)))
+                .thenReturn(Optional.of(new CourseResponse(PROJECTED, "Read Model Course", "1 hour")));
+        when(repository.searchAll(any())).thenReturn(List.of(Course.from(STORED, "Write Model Course", "2 hours")));
+
+        // WHEN
+        CoursesLookupResponse response = handler.handle(
+                new FindCoursesQuery(List.of(MISSING, PROJECTED, "not-a-uuid", STORED)));
+
+        // THEN
+        assertEquals(2, response.found());
+        assertEquals(2, response.missing());
+        assertEquals(List.of(MISSING, PROJECTED, "not-a-uuid", STORED),
+                response.items().stream().map(CourseLookupResult::id).toList());
+        assertFalse(response.items().get(0).found());
+        assertEquals("Read Model Course", response.items().get(1).course().name());
+        assertFalse(response.items().get(2).found());
+        assertNotNull(response.items().get(2).error());
+        assertEquals("Write Model Course", response.items().get(3).course().name());
+
+        // Only the ids the read model does not have reach the repository, all at once
+        // Solo los ids que no tiene el modelo de lectura llegan al repositorio, todos a la vez
+        verify(repository).searchAll(Set.of(new CourseId(MISSING), new CourseId(STORED)));
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    void should_reject_too_many_ids() {
+        List<String> ids = Collections.nCopies(FindCoursesQueryHandler.MAX_IDS + 1, PROJECTED);
+
+        assertThrows(IllegalArgumentException.class, () -> handler.handle(new FindCoursesQuery(ids)));
+    }
+}
@@ -0,0 +1,67 @@
+package com.futesat.hexagonal.courses.application.list;
+
+import com.futesat.hexagonal.courses.domain.Course;
+import com.futesat.hexagonal.courses.domain.CourseId;
+import com.futesat.hexagonal.courses.domain.CourseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ListCoursesQueryHandlerTest {
+
+    private static final String FIRST = "1a02e5b0-394c-4235-8656-78225586618e";
+    private static final String SECOND = "2a02e5b0-394c-4235-8656-78225586618e";
+    private static final String THIRD = "3a02e5b0-394c-4235-8656-78225586618e";
+
+    private CourseRepository repository;
+    private ListCoursesQueryHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        repository = Mockito.mock(CourseRepository.class);
+        handler = new ListCoursesQueryHandler(repository);
+    }
+
+    @Test
+    void should_return_a_page_and_the_id_to_continue_from_when_there_are_more() {
+        // GIVEN one row more than requested
+        when(repository.searchAfter(null, 3)).thenReturn(List.of(course(FIRST), course(SECOND), course(THIRD)));
+
+        // WHEN
+        CoursesResponse response = handler.handle(new ListCoursesQuery(null, 2));
+
+        // THEN
+        assertEquals(List.of(FIRST, SECOND), response.courses().stream().map(c -> c.id()).toList());
+        assertEquals(SECOND, response.nextAfter());
+    }
+
+    @Test
+    void should_not_return_a_next_id_on_the_last_page() {
+        // GIVEN
+        when(repository.searchAfter(new CourseId(SECOND), 3)).thenReturn(List.of(course(THIRD)));
+
+        // WHEN
+        CoursesResponse response = handler.handle(new ListCoursesQuery(SECOND, 2));
+
+        // THEN
+        assertEquals(1, response.courses().size());
+        assertNull(response.nextAfter());
+    }
+
+    @Test
+    void should_reject_a_limit_out_of_range() {
+        assertThrows(IllegalArgumentException.class, () -> handler.handle(new ListCoursesQuery(null, 0)));
+        assertThrows(IllegalArgumentException.class,
+                () -> handler.handle(new ListCoursesQuery(null, ListCoursesQueryHandler.MAX_LIMIT + 1)));
+        verifyNoInteractions(repository);
+    }
+
+    private static Course course(String id) {
+        return Course.from(id, "Keyset Pagination", "1 hour");
+    }
+}
@@ -0,0 +1,42 @@
+package com.futesat.hexagonal.courses.application.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SearchCoursesByNameQueryHandlerTest {
+
+    private CourseNameIndex index;
+    private SearchCoursesByNameQueryHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        index = Mockito.mock(CourseNameIndex.class);
+        handler = new SearchCoursesByNameQueryHandler(index);
+    }
+
+    @Test
+    void should_return_the_completions_of_the_index() {
+        // GIVEN
+        List<CourseNameSuggestion> suggestions = List.of(
+                new CourseNameSuggestion("1a9b456b-e85b-4b2a-a92c-d9a2c6d4838f", "Arquitectura Hexagonal"));
+        when(index.complete("arq", 5)).thenReturn(suggestions);
+
+        // WHEN / THEN
+        assertEquals(suggestions, handler.handle(new SearchCoursesByNameQuery("arq", 5)));
+    }
+
+    @Test
+    void should_reject_a_blank_prefix_or_a_limit_out_of_range() {
+        assertThrows(IllegalArgumentException.class, () -> handler.handle(new SearchCoursesByNameQuery(" ", 5)));
+        assertThrows(IllegalArgumentException.class, () -> handler.handle(new SearchCoursesByNameQuery("arq", 0)));
+        assertThrows(IllegalArgumentException.class,
+                () -> handler.handle(new SearchCoursesByNameQuery("arq", SearchCoursesByNameQueryHandler.MAX_LIMIT + 1)));
+        verifyNoInteractions(index);
+    }
+}
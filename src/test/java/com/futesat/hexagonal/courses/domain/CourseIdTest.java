@@ -2,7 +2,10 @@ package com.futesat.hexagonal.courses.domain;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class CourseIdTest {
@@ -25,4 +28,28 @@ class CourseIdTest {
         // antes
         assertThrows(IllegalArgumentException.class, () -> new CourseId(null));
     }
+
+    @Test
+    void should_reject_non_canonical_uuids_accepted_by_uuid_from_string() {
+        assertThrows(IllegalArgumentException.class, () -> new CourseId("1-1-1-1-1"));
+        assertThrows(IllegalArgumentException.class, () -> new CourseId("a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a1g"));
+        assertThrows(IllegalArgumentException.class, () -> new CourseId("a0eebc99x9c0b-4ef8-bb6d-6bb9bd380a11"));
+    }
+
+    @Test
+    void should_be_equal_regardless_of_case_and_origin() {
+        String value = "a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11";
+        CourseId fromString = new CourseId(value);
+
+        assertEquals(fromString, new CourseId(value.toUpperCase()));
+        assertEquals(fromString, CourseId.fromUuid(UUID.fromString(value)));
+        assertEquals(fromString.hashCode(), CourseId.fromUuid(UUID.fromString(value)).hashCode());
+        assertEquals(UUID.fromString(value), fromString.toUuid());
+    }
+
+    @Test
+    void should_return_the_canonical_string_form() {
+        assertEquals("a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11",
+                new CourseId("A0EEBC99-9C0B-4EF8-BB6D-6BB9BD380A11").getValue());
+    }
 }
@@ -0,0 +1,83 @@
+package com.futesat.hexagonal.courses.infrastructure.api;
+
+import com.futesat.hexagonal.courses.application.export.ExportCoursesQuery;
+import com.futesat.hexagonal.infrastructure.config.SecurityConfig;
+import com.futesat.hexagonal.shared.domain.bus.query.QueryBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CourseExportController.class)
+@Import(SecurityConfig.class)
+@ActiveProfiles("test")
+class CourseExportControllerTest {
+
+        private static final String EXPECTED_BODY = """
+                        {"id":"1a9b456b-e85b-4b2a-a92c-d9a2c6d4838f","name":"Arquitectura Hexagonal","duration":"10 horas"}
+                        {"id":"2b9b456b-e85b-4b2a-a92c-d9a2c6d4838f","name":"Domain-Driven \\"Design\\"","duration":null}
+                        """;
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @MockBean
+        private QueryBus queryBus;
+
+        @BeforeEach
+        void setUp() {
+                when(queryBus.ask(any(ExportCoursesQuery.class))).thenAnswer(invocation -> {
+                        ExportCoursesQuery query = invocation.getArgument(0);
+                        query.rows().handle(UUID.fromString("1a9b456b-e85b-4b2a-a92c-d9a2c6d4838f"),
+                                        "Arquitectura Hexagonal", "10 horas");
+                        query.rows().handle(UUID.fromString("2b9b456b-e85b-4b2a-a92c-d9a2c6d4838f"),
+                                        "Domain-Driven \"Design\"", null);
+                        return 2L;
+                });
+        }
+
+        @Test
+        void should_stream_one_json_object_per_line() throws Exception {
+                MvcResult result = mockMvc.perform(get("/courses/export"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson;charset=UTF-8"))
+                                .andReturn();
+
+                assertEquals(EXPECTED_BODY, result.getResponse().getContentAsString(StandardCharsets.UTF_8));
+        }
+
+        @Test
+        void should_gzip_the_stream_when_the_client_accepts_it() throws Exception {
+                MvcResult result = mockMvc.perform(get("/courses/export").header(HttpHeaders.ACCEPT_ENCODING, "gzip, br"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                                .andReturn();
+
+                assertEquals(EXPECTED_BODY, gunzip(result.getResponse().getContentAsByteArray()));
+        }
+
+        private static String gunzip(byte[] bytes) throws IOException {
+                try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+                        return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                }
+        }
+}
@@ -0,0 +1,60 @@
+package com.futesat.hexagonal.courses.infrastructure.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.futesat.hexagonal.courses.application.create.CreateCourseCommand;
+import com.futesat.hexagonal.courses.application.create.CreateCourseCommandHandler;
+import com.futesat.hexagonal.courses.infrastructure.api.CoursePostController.CourseRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The whole stack down to H2: the batch handler runs in its real transaction with the JDBC batch insert
+// Toda la pila hasta H2: el handler de lotes corre en su transacción real con la inserción por lotes JDBC
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CoursePostControllerIntegrationTest {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Autowired
+        private CreateCourseCommandHandler createCourseCommandHandler;
+
+        @SuppressWarnings("null")
+        @Test
+        void should_report_an_already_stored_id_and_create_the_rest_of_the_batch() throws Exception {
+                // GIVEN
+                String storedId = UUID.randomUUID().toString();
+                String newId = UUID.randomUUID().toString();
+                createCourseCommandHandler.handle(new CreateCourseCommand(storedId, "Already Stored Course", "1 hour"));
+                List<CourseRequest> requests = List.of(
+                                new CourseRequest(storedId, "Already Stored Course", "1 hour"),
+                                new CourseRequest(newId, "Brand New Course", "2 hours"));
+
+                // WHEN / THEN
+                mockMvc.perform(post("/courses/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(requests)))
+                                .andExpect(status().isMultiStatus())
+                                .andExpect(jsonPath("$.created").value(1))
+                                .andExpect(jsonPath("$.failed").value(1))
+                                .andExpect(jsonPath("$.items[0].created").value(false))
+                                .andExpect(jsonPath("$.items[0].error").value("Course already exists"))
+                                .andExpect(jsonPath("$.items[1].created").value(true));
+        }
+}
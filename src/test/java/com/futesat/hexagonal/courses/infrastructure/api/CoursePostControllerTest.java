@@ -2,28 +2,49 @@ package com.futesat.hexagonal.courses.infrastructure.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.futesat.hexagonal.courses.application.create.CreateCourseCommand;
-import com.futesat.hexagonal.courses.application.create.CreateCourseCommandHandler;
-import com.futesat.hexagonal.courses.application.find.FindCourseQueryHandler;
+import com.futesat.hexagonal.courses.application.create.CourseCreationResult;
+import com.futesat.hexagonal.courses.application.create.CreateCoursesCommand;
+import com.futesat.hexagonal.courses.application.create.CreateCoursesCommandHandler;
+import com.futesat.hexagonal.courses.application.find.CourseResponse;
+import com.futesat.hexagonal.courses.application.find.FindCourseQuery;
 import com.futesat.hexagonal.courses.infrastructure.api.CoursePostController.CourseRequest;
+import com.futesat.hexagonal.shared.domain.bus.command.CommandBus;
+import com.futesat.hexagonal.shared.domain.bus.query.QueryBus;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.futesat.hexagonal.infrastructure.config.SecurityConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
 
 // We test only the Web Layer (Controller) without starting the whole app
 // Probamos solo la capa Web (Controller) sin levantar toda la app
+// The real CourseRepresentationCache is used; the slice has no metrics, so it gets a simple registry
+// Se usa la CourseRepresentationCache real; el slice no tiene métricas, así que recibe un registro simple
 @WebMvcTest(CoursePostController.class)
-@Import(SecurityConfig.class)
+@Import({ SecurityConfig.class, SimpleMeterRegistry.class })
+@ActiveProfiles("test")
 public class CoursePostControllerTest {
 
         @Autowired
@@ -32,13 +53,16 @@ public class CoursePostControllerTest {
         @Autowired
         private ObjectMapper objectMapper;
 
-        // We mock the Handler because here we only test HTTP -> Application layer
-        // Simulamos el Handler porque aquí solo probamos la capa HTTP -> Aplicación
+        // We mock the buses and the Handler because here we only test HTTP -> Application layer
+        // Simulamos los buses y el Handler porque aquí solo probamos la capa HTTP -> Aplicación
+        @MockBean
+        private CommandBus commandBus;
+
         @MockBean
-        private CreateCourseCommandHandler createCourseCommandHandler;
+        private QueryBus queryBus;
 
         @MockBean
-        private FindCourseQueryHandler findCourseQueryHandler;
+        private CreateCoursesCommandHandler createCoursesCommandHandler;
 
         @SuppressWarnings("null")
         @Test
@@ -55,7 +79,7 @@ public class CoursePostControllerTest {
 
                 // Verify that the controller called the use case correctly
                 // Verificamos que el controlador llamó al caso de uso correctamente
-                verify(createCourseCommandHandler).handle(any(CreateCourseCommand.class));
+                verify(commandBus).dispatch(any(CreateCourseCommand.class));
         }
 
         @SuppressWarnings("null")
@@ -71,4 +95,50 @@ public class CoursePostControllerTest {
                                 .content(objectMapper.writeValueAsString(request)))
                                 .andExpect(status().isBadRequest());
         }
+
+        @SuppressWarnings("null")
+        @Test
+        void should_report_each_item_when_posting_a_batch() throws Exception {
+                List<CourseRequest> requests = List.of(
+                                new CourseRequest("a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11", "Spring Boot Hexagonal", "5 hours"),
+                                new CourseRequest("b0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11", "Hi", "5 hours"));
+                when(createCoursesCommandHandler.handle(any(CreateCoursesCommand.class)))
+                                .thenReturn(List.of(CourseCreationResult.created("a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11")));
+
+                mockMvc.perform(post("/courses/batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(requests)))
+                                .andExpect(status().isMultiStatus())
+                                .andExpect(jsonPath("$.created").value(1))
+                                .andExpect(jsonPath("$.failed").value(1))
+                                .andExpect(jsonPath("$.items[0].created").value(true))
+                                .andExpect(jsonPath("$.items[1].created").value(false));
+
+                // Only the item that passed Bean Validation reaches the use case
+                // Solo el elemento que pasó la Bean Validation llega al caso de uso
+                verify(createCoursesCommandHandler).handle(argThat(command -> command.courses().size() == 1));
+        }
+
+        @Test
+        void should_answer_not_modified_from_the_cached_representation() throws Exception {
+                String id = "c0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11";
+                when(queryBus.ask(any(FindCourseQuery.class)))
+                                .thenReturn(new CourseResponse(id, "Conditional Requests", "2 hours"));
+
+                MvcResult first = mockMvc.perform(get("/courses/" + id))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60, public"))
+                                .andExpect(jsonPath("$.name").value("Conditional Requests"))
+                                .andReturn();
+                String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+                mockMvc.perform(get("/courses/" + id).header(HttpHeaders.IF_NONE_MATCH, etag))
+                                .andExpect(status().isNotModified())
+                                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                                .andExpect(content().string(""));
+
+                // The second request was answered from the cached bytes: the query ran once
+                // La segunda petición se respondió con los bytes cacheados: la consulta se ejecutó una vez
+                verify(queryBus, times(1)).ask(any(FindCourseQuery.class));
+        }
 }
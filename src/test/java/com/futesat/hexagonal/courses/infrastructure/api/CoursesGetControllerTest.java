@@ -0,0 +1,89 @@
+package com.futesat.hexagonal.courses.infrastructure.api;
+
+import com.futesat.hexagonal.courses.application.find.CourseLookupResult;
+import com.futesat.hexagonal.courses.application.find.CourseResponse;
+import com.futesat.hexagonal.courses.application.find.CoursesLookupResponse;
+import com.futesat.hexagonal.courses.application.find.FindCoursesQuery;
+import com.futesat.hexagonal.courses.application.list.CoursesResponse;
+import com.futesat.hexagonal.courses.application.list.ListCoursesQuery;
+import com.futesat.hexagonal.infrastructure.config.SecurityConfig;
+import com.futesat.hexagonal.shared.domain.bus.query.QueryBus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CoursesGetController.class)
+@Import(SecurityConfig.class)
+@ActiveProfiles("test")
+class CoursesGetControllerTest {
+
+        private static final String LAST_ID = "5a02e5b0-394c-4235-8656-78225586618e";
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @MockBean
+        private QueryBus queryBus;
+
+        @Test
+        void should_return_an_opaque_cursor_that_continues_after_the_last_course() throws Exception {
+                when(queryBus.ask(new ListCoursesQuery(null, 1))).thenReturn(new CoursesResponse(
+                                List.of(new CourseResponse(LAST_ID, "Keyset Pagination", "1 hour")), LAST_ID));
+                String cursor = CoursesGetController.encodeCursor(LAST_ID);
+
+                mockMvc.perform(get("/courses").param("limit", "1"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.courses[0].id").value(LAST_ID))
+                                .andExpect(jsonPath("$.nextCursor").value(cursor));
+
+                when(queryBus.ask(new ListCoursesQuery(LAST_ID, 1))).thenReturn(new CoursesResponse(List.of(), null));
+                mockMvc.perform(get("/courses").param("after", cursor).param("limit", "1"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+                verify(queryBus).ask(new ListCoursesQuery(LAST_ID, 1));
+        }
+
+        @Test
+        void should_return_bad_request_for_a_malformed_cursor() throws Exception {
+                mockMvc.perform(get("/courses").param("after", "not a cursor!"))
+                                .andExpect(status().isBadRequest());
+        }
+
+        @Test
+        void should_look_up_many_ids_through_get_and_post() throws Exception {
+                String missingId = "6a02e5b0-394c-4235-8656-78225586618e";
+                FindCoursesQuery query = new FindCoursesQuery(List.of(LAST_ID, missingId));
+                when(queryBus.ask(query)).thenReturn(new CoursesLookupResponse(1, 1, List.of(
+                                CourseLookupResult.found(LAST_ID, new CourseResponse(LAST_ID, "Multi Get", "1 hour")),
+                                CourseLookupResult.failed(missingId, "Course not found"))));
+
+                mockMvc.perform(get("/courses").param("ids", LAST_ID + "," + missingId))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.found").value(1))
+                                .andExpect(jsonPath("$.items[0].course.name").value("Multi Get"))
+                                .andExpect(jsonPath("$.items[1].found").value(false));
+
+                mockMvc.perform(post("/courses/lookup")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("[\"" + LAST_ID + "\",\"" + missingId + "\"]"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.missing").value(1));
+
+                verify(queryBus, times(2)).ask(query);
+        }
+}
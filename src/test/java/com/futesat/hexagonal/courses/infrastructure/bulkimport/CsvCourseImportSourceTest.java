@@ -0,0 +1,71 @@
+package com.futesat.hexagonal.courses.infrastructure.bulkimport;
+
+import com.futesat.hexagonal.courses.application.bulkimport.CourseImportChunk;
+import com.futesat.hexagonal.courses.application.bulkimport.CourseImportRow;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvCourseImportSourceTest {
+
+    private static final Validator VALIDATOR = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void should_skip_the_header_and_number_chunks_by_file_line() throws IOException {
+        // GIVEN
+        Path file = Files.writeString(directory.resolve("courses.csv"), """
+                id,name,duration
+                5a02e5b0-394c-4235-8656-78225586618e,DDD in Java,10 hours
+                6a02e5b0-394c-4235-8656-78225586618e,"Hexagonal, ""ports"" and adapters",2 hours
+                7a02e5b0-394c-4235-8656-78225586618e,Clean Code,5 hours
+                """);
+
+        try (FileCourseImportSource source = FileCourseImportSource.open(file, VALIDATOR)) {
+            // WHEN
+            CourseImportChunk first = source.nextChunk(2);
+            CourseImportChunk second = source.nextChunk(2);
+            CourseImportChunk end = source.nextChunk(2);
+
+            // THEN
+            assertEquals(2, first.firstLine());
+            assertEquals(4, second.firstLine());
+            assertEquals(1, second.records().size());
+            assertTrue(end.records().isEmpty());
+            assertEquals(new CourseImportRow("6a02e5b0-394c-4235-8656-78225586618e",
+                    "Hexagonal, \"ports\" and adapters", "2 hours"), source.parse(first.records().get(1)));
+        }
+    }
+
+    @Test
+    void should_reject_malformed_records() throws IOException {
+        Path file = Files.writeString(directory.resolve("courses.csv"), "");
+        try (FileCourseImportSource source = FileCourseImportSource.open(file, VALIDATOR)) {
+            assertNull(source.parse("  "));
+            assertThrows(IllegalArgumentException.class, () -> source.parse("id,name"));
+            assertThrows(IllegalArgumentException.class, () -> source.parse("id,name,duration,extra"));
+            assertThrows(IllegalArgumentException.class, () -> source.parse("id,\"unterminated,duration"));
+            assertEquals(List.of(), source.nextChunk(10).records());
+        }
+    }
+
+    @Test
+    void should_reject_rows_that_break_the_rules_of_the_api() throws IOException {
+        Path file = Files.writeString(directory.resolve("courses.csv"), "");
+        try (FileCourseImportSource source = FileCourseImportSource.open(file, VALIDATOR)) {
+            IllegalArgumentException blankDuration = assertThrows(IllegalArgumentException.class,
+                    () -> source.parse("5a02e5b0-394c-4235-8656-78225586618e,DDD in Java, "));
+            assertEquals("duration: La duración es obligatoria", blankDuration.getMessage());
+        }
+    }
+}
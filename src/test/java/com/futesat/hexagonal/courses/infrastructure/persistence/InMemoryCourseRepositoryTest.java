@@ -0,0 +1,117 @@
+package com.futesat.hexagonal.courses.infrastructure.persistence;
+
+import com.futesat.hexagonal.courses.domain.Course;
+import com.futesat.hexagonal.courses.domain.CourseAlreadyExists;
+import com.futesat.hexagonal.courses.domain.CourseId;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryCourseRepositoryTest {
+
+    @Test
+    void should_find_saved_courses_and_reject_existing_ids() {
+        // GIVEN
+        InMemoryCourseRepository repository = new InMemoryCourseRepository(10);
+        String id = "5a02e5b0-394c-4235-8656-78225586618e";
+
+        // WHEN
+        repository.save(Course.from(id, "First name", "1 hour"));
+
+        // THEN
+        assertThrows(CourseAlreadyExists.class, () -> repository.save(Course.from(id, "Second name", "2 hours")));
+        assertEquals("First name", repository.search(new CourseId(id)).orElseThrow().name().getValue());
+        assertEquals(1, repository.size());
+    }
+
+    @Test
+    void should_reject_a_batch_with_an_existing_id_without_saving_any_of_it() {
+        // GIVEN
+        InMemoryCourseRepository repository = new InMemoryCourseRepository(10);
+        Course stored = randomCourse();
+        repository.save(stored);
+        List<Course> batch = List.of(randomCourse(), Course.from(stored.id().getValue(), "Another name", "1 hour"));
+
+        // WHEN
+        assertThrows(CourseAlreadyExists.class, () -> repository.saveAll(batch));
+
+        // THEN
+        assertEquals(1, repository.size());
+        assertTrue(repository.search(batch.get(0).id()).isEmpty());
+        assertEquals(List.of(stored.id()), repository.searchAfter(null, 10).stream().map(Course::id).toList());
+        assertEquals("Concurrency in Java", repository.search(stored.id()).orElseThrow().name().getValue());
+    }
+
+    @Test
+    void should_reject_a_batch_that_does_not_fit_without_saving_any_of_it() {
+        // GIVEN
+        InMemoryCourseRepository repository = new InMemoryCourseRepository(3);
+        repository.save(randomCourse());
+
+        // WHEN
+        List<Course> batch = List.of(randomCourse(), randomCourse(), randomCourse());
+
+        // THEN
+        assertThrows(IllegalStateException.class, () -> repository.saveAll(batch));
+        assertEquals(1, repository.size());
+        assertTrue(repository.search(batch.get(0).id()).isEmpty());
+    }
+
+    @Test
+    void should_keep_an_exact_count_under_concurrent_writes() throws Exception {
+        // GIVEN
+        InMemoryCourseRepository repository = new InMemoryCourseRepository(10_000);
+        List<Course> courses = IntStream.range(0, 2_000).mapToObj(i -> randomCourse()).toList();
+
+        AtomicInteger conflicts = new AtomicInteger();
+
+        // WHEN every course is saved twice, from 8 threads at once
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 2 * courses.size(); i++) {
+                Course course = courses.get(i % courses.size());
+                executor.execute(() -> {
+                    try {
+                        repository.save(course);
+                    } catch (CourseAlreadyExists e) {
+                        conflicts.incrementAndGet();
+                    }
+                });
+            }
+        }
+
+        // THEN exactly one of the two saves of each course wins
+        assertEquals(courses.size(), conflicts.get());
+        assertEquals(courses.size(), repository.size());
+        assertEquals(courses.size(), repository.snapshot().size());
+    }
+
+    @Test
+    void should_page_by_id_in_unsigned_order() {
+        // GIVEN
+        InMemoryCourseRepository repository = new InMemoryCourseRepository(10);
+        String low = "0a02e5b0-394c-4235-8656-78225586618e";
+        String middle = "7a02e5b0-394c-4235-8656-78225586618e";
+        String high = "fa02e5b0-394c-4235-8656-78225586618e";
+        repository.saveAll(List.of(Course.from(high, "High id", "1 hour"), Course.from(low, "Low id", "1 hour")));
+        repository.save(Course.from(middle, "Middle id", "1 hour"));
+
+        // WHEN
+        List<Course> firstPage = repository.searchAfter(null, 2);
+        List<Course> secondPage = repository.searchAfter(firstPage.get(1).id(), 2);
+
+        // THEN
+        assertEquals(List.of(new CourseId(low), new CourseId(middle)), firstPage.stream().map(Course::id).toList());
+        assertEquals(List.of(new CourseId(high)), secondPage.stream().map(Course::id).toList());
+    }
+
+    private static Course randomCourse() {
+        return Course.from(UUID.randomUUID().toString(), "Concurrency in Java", "10 hours");
+    }
+}
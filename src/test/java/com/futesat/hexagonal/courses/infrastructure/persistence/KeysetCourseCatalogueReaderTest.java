@@ -0,0 +1,32 @@
+package com.futesat.hexagonal.courses.infrastructure.persistence;
+
+import com.futesat.hexagonal.courses.domain.Course;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCourseCatalogueReaderTest {
+
+    @Test
+    void should_read_every_course_page_by_page() {
+        // GIVEN a catalogue that is an exact multiple of the page size (the last page is empty)
+        InMemoryCourseRepository repository = new InMemoryCourseRepository(100);
+        repository.saveAll(IntStream.range(0, 20)
+                .mapToObj(i -> Course.from(UUID.randomUUID().toString(), "Course " + i, "1 hour"))
+                .toList());
+        KeysetCourseCatalogueReader reader = new KeysetCourseCatalogueReader(repository, 5);
+
+        // WHEN
+        List<UUID> ids = new ArrayList<>();
+        long rows = reader.readAll((id, name, duration) -> ids.add(id));
+
+        // THEN
+        assertEquals(20, rows);
+        assertEquals(20, ids.stream().distinct().count());
+    }
+}
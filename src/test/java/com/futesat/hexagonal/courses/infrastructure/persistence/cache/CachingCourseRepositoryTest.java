@@ -0,0 +1,98 @@
+package com.futesat.hexagonal.courses.infrastructure.persistence.cache;
+
+import com.futesat.hexagonal.courses.domain.Course;
+import com.futesat.hexagonal.courses.domain.CourseId;
+import com.futesat.hexagonal.courses.domain.CourseRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CachingCourseRepositoryTest {
+
+    private static final String ID = "5a02e5b0-394c-4235-8656-78225586618e";
+    private static final String OTHER_ID = "6a02e5b0-394c-4235-8656-78225586618e";
+
+    private CourseRepository delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private CachingCourseRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = Mockito.mock(CourseRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        repository = new CachingCourseRepository(delegate, 100, Duration.ofMinutes(1), meterRegistry);
+    }
+
+    @Test
+    void should_serve_repeated_lookups_from_cache() {
+        // GIVEN
+        Course course = Course.from(ID, "Hexagonal Architecture", "10 hours");
+        when(delegate.search(new CourseId(ID))).thenReturn(Optional.of(course));
+
+        // WHEN
+        repository.search(new CourseId(ID));
+        Optional<Course> cached = repository.search(new CourseId(ID));
+
+        // THEN
+        assertEquals(Optional.of(course), cached);
+        verify(delegate, times(1)).search(new CourseId(ID));
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "courses").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void should_not_cache_missing_courses() {
+        // GIVEN
+        when(delegate.search(new CourseId(ID))).thenReturn(Optional.empty());
+
+        // WHEN
+        repository.search(new CourseId(ID));
+        Optional<Course> result = repository.search(new CourseId(ID));
+
+        // THEN
+        assertTrue(result.isEmpty());
+        verify(delegate, times(2)).search(new CourseId(ID));
+    }
+
+    @Test
+    void should_write_through_and_invalidate_on_save() {
+        // GIVEN
+        Course course = Course.from(ID, "Hexagonal Architecture", "10 hours");
+        when(delegate.search(new CourseId(ID))).thenReturn(Optional.of(course));
+        repository.search(new CourseId(ID));
+
+        // WHEN
+        repository.save(course);
+        repository.search(new CourseId(ID));
+
+        // THEN
+        verify(delegate).save(course);
+        verify(delegate, times(2)).search(new CourseId(ID));
+    }
+
+    @Test
+    void should_send_only_the_misses_of_a_multi_get_to_the_delegate() {
+        // GIVEN one course already cached
+        Course cached = Course.from(ID, "Hexagonal Architecture", "10 hours");
+        Course other = Course.from(OTHER_ID, "Clean Architecture", "8 hours");
+        when(delegate.search(new CourseId(ID))).thenReturn(Optional.of(cached));
+        repository.search(new CourseId(ID));
+        when(delegate.searchAll(List.of(new CourseId(OTHER_ID)))).thenReturn(List.of(other));
+
+        // WHEN
+        List<Course> found = repository.searchAll(List.of(new CourseId(ID), new CourseId(OTHER_ID)));
+
+        // THEN
+        assertEquals(2, found.size());
+        assertTrue(found.containsAll(List.of(cached, other)));
+        verify(delegate).searchAll(List.of(new CourseId(OTHER_ID)));
+    }
+}
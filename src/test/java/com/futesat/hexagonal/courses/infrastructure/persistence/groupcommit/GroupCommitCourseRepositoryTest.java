@@ -0,0 +1,159 @@
+package com.futesat.hexagonal.courses.infrastructure.persistence.groupcommit;
+
+import com.futesat.hexagonal.courses.domain.Course;
+import com.futesat.hexagonal.courses.domain.CourseAlreadyExists;
+import com.futesat.hexagonal.courses.domain.CourseId;
+import com.futesat.hexagonal.courses.domain.CourseRepository;
+import com.futesat.hexagonal.courses.infrastructure.persistence.InMemoryCourseRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GroupCommitCourseRepositoryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InMemoryCourseRepository store = new InMemoryCourseRepository(1_000);
+    private final AtomicInteger groups = new AtomicInteger();
+    private GroupCommitCourseRepository repository;
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    @Test
+    void should_store_queued_saves_in_groups_and_complete_them_once_durable() {
+        // GIVEN a delay long enough for 50 saves to land in the same groups
+        repository = new GroupCommitCourseRepository(countingGroups(store), 20, Duration.ofMillis(200), 100,
+                meterRegistry);
+        List<Course> courses = IntStream.range(0, 50)
+                .mapToObj(i -> Course.from(UUID.randomUUID().toString(), "Group Commit", "1 hour"))
+                .toList();
+
+        // WHEN
+        List<CompletableFuture<Void>> completions = courses.stream().map(repository::saveAsync).toList();
+        CompletableFuture.allOf(completions.toArray(CompletableFuture[]::new)).orTimeout(5, TimeUnit.SECONDS).join();
+
+        // THEN every course is stored, in far fewer transactions than saves (groups of at most 20)
+        courses.forEach(course -> assertTrue(store.search(course.id()).isPresent()));
+        assertTrue(groups.get() >= 3 && groups.get() < 50, "groups: " + groups.get());
+        assertEquals(50, meterRegistry.get("courses.group-commit.group.size").summary().totalAmount());
+        assertEquals(groups.get(), meterRegistry.get("courses.group-commit.flush").timer().count());
+        assertEquals(0, meterRegistry.get("courses.group-commit.queue.depth").gauge().value());
+    }
+
+    @Test
+    void should_fail_only_the_save_that_broke_its_group() {
+        // GIVEN a store that rejects an id it already has, like the database adapter
+        String takenId = UUID.randomUUID().toString();
+        store.save(Course.from(takenId, "Already Stored", "1 hour"));
+        repository = new GroupCommitCourseRepository(rejectingTakenIds(store), 20, Duration.ofMillis(200), 100,
+                meterRegistry);
+        Course fresh = Course.from(UUID.randomUUID().toString(), "Fresh Course", "1 hour");
+
+        // WHEN both land in the same group
+        CompletableFuture<Void> duplicated = repository.saveAsync(Course.from(takenId, "Duplicated", "1 hour"));
+        CompletableFuture<Void> stored = repository.saveAsync(fresh);
+
+        // THEN
+        stored.orTimeout(5, TimeUnit.SECONDS).join();
+        CompletionException error = assertThrows(CompletionException.class,
+                () -> duplicated.orTimeout(5, TimeUnit.SECONDS).join());
+        assertInstanceOf(CourseAlreadyExists.class, error.getCause());
+        assertTrue(store.search(fresh.id()).isPresent());
+        assertEquals("Already Stored", store.search(new CourseId(takenId)).orElseThrow().name().getValue());
+    }
+
+    @Test
+    void should_store_what_is_still_queued_when_closed() {
+        // GIVEN a group still waiting for its delay
+        repository = new GroupCommitCourseRepository(store, 100, Duration.ofSeconds(30), 100, meterRegistry);
+        Course course = Course.from(UUID.randomUUID().toString(), "Closing Time", "1 hour");
+        CompletableFuture<Void> completion = repository.saveAsync(course);
+
+        // WHEN
+        repository.close();
+
+        // THEN
+        assertTrue(completion.isDone());
+        assertTrue(store.search(course.id()).isPresent());
+        assertThrows(IllegalStateException.class, () -> repository.saveAsync(course));
+    }
+
+    private CourseRepository countingGroups(CourseRepository delegate) {
+        return new ForwardingCourseRepository(delegate) {
+            @Override
+            public void saveAll(List<Course> courses) {
+                groups.incrementAndGet();
+                super.saveAll(courses);
+            }
+        };
+    }
+
+    private CourseRepository rejectingTakenIds(CourseRepository delegate) {
+        return new ForwardingCourseRepository(delegate) {
+            @Override
+            public void save(Course course) {
+                if (search(course.id()).isPresent()) {
+                    throw new CourseAlreadyExists(course.id());
+                }
+                super.save(course);
+            }
+
+            @Override
+            public void saveAll(List<Course> courses) {
+                if (courses.stream().anyMatch(course -> search(course.id()).isPresent())) {
+                    throw new IllegalStateException("Duplicated key in batch");
+                }
+                super.saveAll(courses);
+            }
+        };
+    }
+
+    private static class ForwardingCourseRepository implements CourseRepository {
+
+        private final CourseRepository delegate;
+
+        ForwardingCourseRepository(CourseRepository delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void save(Course course) {
+            delegate.save(course);
+        }
+
+        @Override
+        public void saveAll(List<Course> courses) {
+            delegate.saveAll(courses);
+        }
+
+        @Override
+        public Optional<Course> search(CourseId id) {
+            return delegate.search(id);
+        }
+
+        @Override
+        public List<Course> searchAll(Collection<CourseId> ids) {
+            return delegate.searchAll(ids);
+        }
+
+        @Override
+        public List<Course> searchAfter(CourseId after, int limit) {
+            return delegate.searchAfter(after, limit);
+        }
+    }
+}
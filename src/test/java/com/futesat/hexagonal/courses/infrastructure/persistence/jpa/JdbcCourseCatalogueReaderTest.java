@@ -0,0 +1,46 @@
+package com.futesat.hexagonal.courses.infrastructure.persistence.jpa;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "courses.export.fetch-size=7")
+@Import(JdbcCourseCatalogueReader.class)
+@ActiveProfiles("test")
+class JdbcCourseCatalogueReaderTest {
+
+    @Autowired
+    private JdbcCourseCatalogueReader reader;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void should_read_every_row_in_id_order_across_fetches() {
+        // GIVEN more rows than a single fetch
+        jdbcTemplate.update("INSERT INTO courses (id, name, duration) "
+                + "SELECT RANDOM_UUID(), 'Course ' || X, '1 hour' FROM SYSTEM_RANGE(1, 50)");
+
+        // WHEN
+        List<UUID> ids = new ArrayList<>();
+        long rows = reader.readAll((id, name, duration) -> {
+            assertTrue(name.startsWith("Course "));
+            assertEquals("1 hour", duration);
+            ids.add(id);
+        });
+
+        // THEN
+        assertEquals(50, rows);
+        assertEquals(50, ids.size());
+        assertEquals(jdbcTemplate.queryForList("SELECT id FROM courses ORDER BY id", UUID.class), ids);
+    }
+}
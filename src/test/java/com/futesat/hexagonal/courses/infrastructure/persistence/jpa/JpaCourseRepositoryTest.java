@@ -0,0 +1,140 @@
+package com.futesat.hexagonal.courses.infrastructure.persistence.jpa;
+
+import com.futesat.hexagonal.courses.domain.Course;
+import com.futesat.hexagonal.courses.domain.CourseAlreadyExists;
+import com.futesat.hexagonal.courses.domain.CourseId;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs against H2: the keyset order of the database must match Identifier.compareTo
+// Corre contra H2: el orden keyset de la base de datos debe coincidir con Identifier.compareTo
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "courses.jpa.in-chunk-size=4" })
+@Import(JpaCourseRepository.class)
+@ActiveProfiles("test")
+class JpaCourseRepositoryTest {
+
+    @Autowired
+    private JpaCourseRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void should_create_a_course_with_a_single_insert() {
+        // GIVEN
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // WHEN
+        repository.save(Course.from(UUID.randomUUID().toString(), "Insert Only", "1 hour"));
+
+        // THEN one INSERT, no SELECT before it
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+    }
+
+    @Test
+    void should_search_many_ids_with_one_in_query_per_chunk() {
+        // GIVEN 10 stored courses, asked for together with 2 unknown ids (3 chunks of 4)
+        List<Course> courses = IntStream.range(0, 10)
+                .mapToObj(i -> Course.from(UUID.randomUUID().toString(), "Multi Get", "1 hour"))
+                .toList();
+        repository.saveAll(courses);
+        List<CourseId> ids = new ArrayList<>(courses.stream().map(Course::id).toList());
+        ids.add(new CourseId(UUID.randomUUID().toString()));
+        ids.add(new CourseId(UUID.randomUUID().toString()));
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // WHEN
+        List<Course> found = repository.searchAll(ids);
+
+        // THEN
+        assertEquals(courses.stream().map(Course::id).collect(Collectors.toSet()),
+                found.stream().map(Course::id).collect(Collectors.toSet()));
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertTrue(repository.searchAll(List.of(ids.get(10))).isEmpty());
+    }
+
+    @Test
+    void should_reject_an_existing_id_instead_of_overwriting_it() {
+        // GIVEN
+        String id = UUID.randomUUID().toString();
+        repository.save(Course.from(id, "Original name", "1 hour"));
+        entityManager.clear();
+
+        // WHEN
+        assertThrows(CourseAlreadyExists.class, () -> repository.save(Course.from(id, "Another name", "2 hours")));
+
+        // THEN
+        entityManager.clear();
+        assertEquals("Original name", repository.search(new CourseId(id)).orElseThrow().name().getValue());
+    }
+
+    @Test
+    void should_not_report_other_constraint_violations_as_an_existing_course() {
+        // GIVEN a name longer than its 255-character column
+        Course course = Course.from(UUID.randomUUID().toString(), "x".repeat(300), "1 hour");
+
+        // WHEN / THEN the violation is rethrown as it is, not turned into a 409
+        assertThrows(DataIntegrityViolationException.class, () -> repository.save(course));
+    }
+
+    @Test
+    void should_reject_a_batch_with_an_existing_id() {
+        // GIVEN
+        Course stored = Course.from(UUID.randomUUID().toString(), "Already stored", "1 hour");
+        repository.save(stored);
+
+        // WHEN / THEN
+        assertThrows(CourseAlreadyExists.class, () -> repository.saveAll(List.of(
+                Course.from(UUID.randomUUID().toString(), "Brand new", "1 hour"),
+                Course.from(stored.id().getValue(), "Another name", "2 hours"))));
+    }
+
+    @Test
+    void should_walk_all_courses_page_by_page_in_id_order() {
+        // GIVEN ids on both sides of the sign bit
+        List<Course> courses = IntStream.range(0, 25)
+                .mapToObj(i -> Course.from(UUID.randomUUID().toString(), "Keyset Pagination", "1 hour"))
+                .toList();
+        repository.saveAll(courses);
+
+        // WHEN
+        List<CourseId> walked = new ArrayList<>();
+        CourseId after = null;
+        List<Course> page;
+        do {
+            page = repository.searchAfter(after, 10);
+            page.forEach(course -> walked.add(course.id()));
+            after = page.isEmpty() ? null : page.get(page.size() - 1).id();
+        } while (page.size() == 10);
+
+        // THEN
+        List<CourseId> expected = courses.stream().map(Course::id).sorted(Comparator.naturalOrder()).toList();
+        assertEquals(expected, walked);
+    }
+}
@@ -0,0 +1,125 @@
+package com.futesat.hexagonal.courses.infrastructure.persistence.mmap;
+
+import com.futesat.hexagonal.courses.domain.Course;
+import com.futesat.hexagonal.courses.domain.CourseAlreadyExists;
+import com.futesat.hexagonal.courses.domain.CourseId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedCourseRepositoryTest {
+
+    private static final String ID = "5a02e5b0-394c-4235-8656-78225586618e";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void should_find_saved_courses_after_a_restart() {
+        // GIVEN
+        MappedCourseRepository repository = open(DataSize.ofMegabytes(1));
+        repository.save(Course.from(ID, "Memory Mapped Files", null));
+        List<Course> batch = List.of(randomCourse(), randomCourse());
+        repository.saveAll(batch);
+        repository.close();
+
+        // WHEN
+        MappedCourseRepository reopened = open(DataSize.ofMegabytes(1));
+
+        // THEN the index is rebuilt by scanning
+        Course course = reopened.search(new CourseId(ID)).orElseThrow();
+        assertEquals("Memory Mapped Files", course.name().getValue());
+        assertNull(course.duration());
+        batch.forEach(saved -> assertTrue(reopened.search(saved.id()).isPresent()));
+        assertTrue(reopened.search(new CourseId(UUID.randomUUID().toString())).isEmpty());
+    }
+
+    @Test
+    void should_reject_existing_ids_without_writing_anything() {
+        // GIVEN
+        MappedCourseRepository repository = open(DataSize.ofMegabytes(1));
+        repository.save(Course.from(ID, "Memory Mapped Files", "3 hours"));
+        Course fresh = randomCourse();
+
+        // WHEN
+        assertThrows(CourseAlreadyExists.class, () -> repository.save(Course.from(ID, "Another name", "1 hour")));
+        assertThrows(CourseAlreadyExists.class,
+                () -> repository.saveAll(List.of(fresh, Course.from(ID, "Another name", "1 hour"))));
+        repository.close();
+
+        // THEN not even after a restart does the rejected data show up
+        MappedCourseRepository reopened = open(DataSize.ofMegabytes(1));
+        assertEquals("Memory Mapped Files", reopened.search(new CourseId(ID)).orElseThrow().name().getValue());
+        assertTrue(reopened.search(fresh.id()).isEmpty());
+    }
+
+    @Test
+    void should_discard_a_torn_record_at_the_tail_on_recovery() throws IOException {
+        // GIVEN a crash in the middle of writing the second record
+        MappedCourseRepository repository = open(DataSize.ofMegabytes(1));
+        Course survivor = randomCourse();
+        Course torn = randomCourse();
+        repository.save(survivor);
+        repository.save(torn);
+        repository.close();
+        int tornOffset = CourseRecordFormat.encode(survivor).length;
+        corrupt(directory.resolve("segment-0000000000.dat"), tornOffset + CourseRecordFormat.HEADER_SIZE + 3);
+
+        // WHEN
+        MappedCourseRepository reopened = open(DataSize.ofMegabytes(1));
+        Course next = randomCourse();
+        reopened.save(next);
+        reopened.close();
+
+        // THEN
+        MappedCourseRepository afterSecondRestart = open(DataSize.ofMegabytes(1));
+        assertTrue(afterSecondRestart.search(survivor.id()).isPresent());
+        assertTrue(afterSecondRestart.search(torn.id()).isEmpty());
+        assertTrue(afterSecondRestart.search(next.id()).isPresent());
+    }
+
+    @Test
+    void should_pack_every_live_course_into_fresh_segments_when_compacting() {
+        // GIVEN small segments spread over many files
+        MappedCourseRepository repository = open(DataSize.ofKilobytes(4));
+        List<Course> courses = IntStream.range(0, 200).mapToObj(i -> randomCourse()).toList();
+        courses.forEach(repository::save);
+        int segmentsBefore = repository.segmentCount();
+
+        // WHEN
+        repository.compact();
+
+        // THEN
+        assertTrue(repository.segmentCount() <= segmentsBefore);
+        courses.forEach(course -> assertTrue(repository.search(course.id()).isPresent()));
+        repository.close();
+        MappedCourseRepository reopened = open(DataSize.ofKilobytes(4));
+        courses.forEach(course -> assertTrue(reopened.search(course.id()).isPresent()));
+    }
+
+    private MappedCourseRepository open(DataSize segmentSize) {
+        return new MappedCourseRepository(directory, segmentSize, MappedFsyncPolicy.ALWAYS, Duration.ofSeconds(1), 0.5);
+    }
+
+    private static Course randomCourse() {
+        return Course.from(UUID.randomUUID().toString(), "Crash Recovery", "2 hours");
+    }
+
+    private static void corrupt(Path segment, int position) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 0x7f, 0x7f, 0x7f, 0x7f }), position);
+        }
+    }
+}
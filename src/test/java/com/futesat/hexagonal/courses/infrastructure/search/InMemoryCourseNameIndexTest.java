@@ -0,0 +1,67 @@
+package com.futesat.hexagonal.courses.infrastructure.search;
+
+import com.futesat.hexagonal.courses.application.search.CourseNameSuggestion;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryCourseNameIndexTest {
+
+    @Test
+    void should_complete_ignoring_case_accents_and_extra_spaces() {
+        // GIVEN
+        InMemoryCourseNameIndex index = new InMemoryCourseNameIndex(100);
+        index.add(UUID.randomUUID(), "Diseño  de APIs");
+        index.add(UUID.randomUUID(), "Java Concurrency");
+        index.add(UUID.randomUUID(), "JavaScript Basics");
+
+        // WHEN / THEN
+        assertEquals(List.of("Diseño  de APIs"), names(index.complete("DISENO de", 10)));
+        assertEquals(List.of("Java Concurrency", "JavaScript Basics"), names(index.complete("java", 10)));
+        assertEquals(List.of("Java Concurrency"), names(index.complete("java ", 10)));
+        assertEquals(List.of(), names(index.complete("kotlin", 10)));
+    }
+
+    @Test
+    void should_return_the_first_names_in_order_across_merged_and_recent_entries() {
+        // GIVEN a threshold of 3: the first names end up in the sorted arrays, the last ones are still recent
+        InMemoryCourseNameIndex index = new InMemoryCourseNameIndex(3);
+        List.of("Spring Data", "Spring Boot", "Spring Security", "Spring Batch", "Scala", "Spring AI")
+                .forEach(name -> index.add(UUID.randomUUID(), name));
+
+        // WHEN
+        List<String> suggestions = names(index.complete("spring", 4));
+
+        // THEN
+        assertEquals(List.of("Spring AI", "Spring Batch", "Spring Boot", "Spring Data"), suggestions);
+        assertEquals(6, index.size());
+    }
+
+    @Test
+    void should_not_duplicate_courses_added_before_and_during_a_rebuild() {
+        // GIVEN a course indexed from its event and also read by the startup rebuild
+        InMemoryCourseNameIndex index = new InMemoryCourseNameIndex(100);
+        UUID id = UUID.randomUUID();
+        index.add(id, "Hexagonal Architecture");
+
+        // WHEN
+        index.rebuild(handler -> {
+            handler.handle(id, "Hexagonal Architecture", "10 hours");
+            handler.handle(UUID.randomUUID(), "Hexagonal Testing", "2 hours");
+            return 2;
+        });
+        index.add(id, "Hexagonal Architecture");
+
+        // THEN
+        List<CourseNameSuggestion> suggestions = index.complete("hexa", 10);
+        assertEquals(List.of("Hexagonal Architecture", "Hexagonal Testing"), names(suggestions));
+        assertEquals(id.toString(), suggestions.get(0).id());
+    }
+
+    private static List<String> names(List<CourseNameSuggestion> suggestions) {
+        return suggestions.stream().map(CourseNameSuggestion::name).toList();
+    }
+}
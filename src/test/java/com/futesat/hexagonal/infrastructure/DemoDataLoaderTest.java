@@ -0,0 +1,51 @@
+package com.futesat.hexagonal.infrastructure;
+
+import com.futesat.hexagonal.courses.application.create.CreateCourseCommand;
+import com.futesat.hexagonal.courses.application.create.CreateCourseCommandHandler;
+import com.futesat.hexagonal.courses.domain.CourseAlreadyExists;
+import com.futesat.hexagonal.courses.domain.CourseId;
+import com.futesat.hexagonal.courses.domain.CourseRepository;
+import com.futesat.hexagonal.courses.infrastructure.persistence.InMemoryCourseRepository;
+import com.futesat.hexagonal.shared.domain.bus.event.EventBus;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class DemoDataLoaderTest {
+
+    @Test
+    void should_load_the_demo_courses_once_when_run_again_against_the_same_data() {
+        // GIVEN the same store across two boots
+        InMemoryCourseRepository repository = new InMemoryCourseRepository(10);
+        EventBus eventBus = Mockito.mock(EventBus.class);
+        CreateCourseCommandHandler handler = new CreateCourseCommandHandler(repository, eventBus);
+
+        // WHEN
+        new DemoDataLoader(handler, repository).run();
+        assertDoesNotThrow(() -> new DemoDataLoader(handler, repository).run());
+
+        // THEN
+        assertEquals(2, repository.size());
+        assertTrue(repository.search(new CourseId("1a9b456b-e85b-4b2a-a92c-d9a2c6d4838f")).isPresent());
+        verify(eventBus, times(2)).publish(any());
+    }
+
+    @Test
+    void should_ignore_a_demo_course_stored_meanwhile_by_another_instance() {
+        // GIVEN the lookup misses, but the insert finds the id taken
+        CourseRepository repository = Mockito.mock(CourseRepository.class);
+        when(repository.search(any())).thenReturn(Optional.empty());
+        CreateCourseCommandHandler handler = Mockito.mock(CreateCourseCommandHandler.class);
+        doThrow(new CourseAlreadyExists(new CourseId("1a9b456b-e85b-4b2a-a92c-d9a2c6d4838f")))
+                .when(handler).handle(any(CreateCourseCommand.class));
+
+        // WHEN / THEN
+        assertDoesNotThrow(() -> new DemoDataLoader(handler, repository).run());
+        verify(handler, times(2)).handle(any(CreateCourseCommand.class));
+    }
+}
@@ -0,0 +1,72 @@
+package com.futesat.hexagonal.infrastructure.aot;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.SpringApplication;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AotFrozenConditionsVerifierTest {
+
+    @TempDir
+    Path classpath;
+
+    private URLClassLoader classLoader;
+    private SpringApplication application;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // GIVEN a jar built with the defaults (no mmap, no outbox...)
+        Path conditions = classpath.resolve(AotFrozenConditions.LOCATION);
+        Files.createDirectories(conditions.getParent());
+        Files.writeString(conditions, "courses.persistence\\=mmap=false\nprofile\\ test=false\n");
+        classLoader = new URLClassLoader(new URL[] { classpath.toUri().toURL() }, null);
+        application = new SpringApplication();
+        application.setResourceLoader(new DefaultResourceLoader(classLoader));
+        System.setProperty("spring.aot.enabled", "true");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        System.clearProperty("spring.aot.enabled");
+        classLoader.close();
+    }
+
+    @Test
+    void should_fail_fast_when_a_runtime_setting_selects_other_beans_than_the_build() {
+        MockEnvironment environment = new MockEnvironment().withProperty("courses.persistence", "mmap");
+
+        assertThatThrownBy(() -> new AotFrozenConditionsVerifier().postProcessEnvironment(environment, application))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("courses.persistence=mmap (built: false, now: true)");
+    }
+
+    @Test
+    void should_accept_settings_that_keep_the_build_time_outcomes() {
+        // in-memory is not a condition of any bean: it is read at runtime
+        MockEnvironment environment = new MockEnvironment().withProperty("courses.persistence", "in-memory");
+
+        assertThatCode(() -> new AotFrozenConditionsVerifier().postProcessEnvironment(environment, application))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void should_not_check_anything_when_the_generated_artifacts_are_not_used() {
+        System.clearProperty("spring.aot.enabled");
+        MockEnvironment environment = new MockEnvironment().withProperty("courses.persistence", "mmap");
+
+        assertThatCode(() -> new AotFrozenConditionsVerifier().postProcessEnvironment(environment, application))
+                .doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,100 @@
+package com.futesat.hexagonal.notifications.infrastructure;
+
+import com.futesat.hexagonal.notifications.domain.Email;
+import com.futesat.hexagonal.notifications.domain.EmailSender;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchingEmailSenderTest {
+
+    @Test
+    void should_deliver_a_batch_as_soon_as_it_is_full() throws Exception {
+        // GIVEN
+        RecordingEmailSender delegate = new RecordingEmailSender();
+        BatchingEmailSender sender = new BatchingEmailSender(delegate, 10, Duration.ofHours(1), 1);
+
+        // WHEN
+        sendWelcomeEmails(sender, 25);
+
+        // THEN two full batches go out right away, the remaining 5 only when closing
+        await().atMost(Duration.ofSeconds(2)).until(() -> delegate.batches.size() == 2);
+        sender.close();
+        assertEquals(List.of(10, 10, 5), delegate.batchSizes());
+    }
+
+    @Test
+    void should_deliver_an_incomplete_batch_after_the_max_delay() {
+        // GIVEN
+        RecordingEmailSender delegate = new RecordingEmailSender();
+        BatchingEmailSender sender = new BatchingEmailSender(delegate, 100, Duration.ofMillis(50), 1);
+
+        // WHEN
+        sendWelcomeEmails(sender, 3);
+
+        // THEN
+        await().atMost(Duration.ofSeconds(2)).until(() -> delegate.batches.size() == 1);
+        assertEquals(List.of(3), delegate.batchSizes());
+    }
+
+    @Test
+    void should_deliver_faster_in_batches_than_one_by_one() {
+        // GIVEN an SMTP where opening the connection dominates the cost
+        FakeEmailSender smtp = new FakeEmailSender(Duration.ofMillis(50), Duration.ofMillis(2));
+        List<Email> emails = List.of(
+                new Email("a@futesat.com", "Welcome", "Course 1"),
+                new Email("b@futesat.com", "Welcome", "Course 2"),
+                new Email("c@futesat.com", "Welcome", "Course 3"),
+                new Email("d@futesat.com", "Welcome", "Course 4"),
+                new Email("e@futesat.com", "Welcome", "Course 5"),
+                new Email("f@futesat.com", "Welcome", "Course 6"),
+                new Email("g@futesat.com", "Welcome", "Course 7"),
+                new Email("h@futesat.com", "Welcome", "Course 8"),
+                new Email("i@futesat.com", "Welcome", "Course 9"),
+                new Email("j@futesat.com", "Welcome", "Course 10"));
+
+        // WHEN
+        long oneByOne = measure(() -> emails.forEach(e -> smtp.send(e.recipient(), e.subject(), e.body())));
+        long batched = measure(() -> smtp.sendBatch(emails));
+
+        // THEN 10 x (50 + 2) ms vs 50 + 10 x 2 ms
+        assertTrue(oneByOne >= 520, "one by one took " + oneByOne + " ms");
+        assertTrue(batched * 3 < oneByOne, "batched took " + batched + " ms, one by one " + oneByOne + " ms");
+    }
+
+    private static void sendWelcomeEmails(EmailSender sender, int count) {
+        for (int i = 0; i < count; i++) {
+            sender.send("student" + i + "@futesat.com", "Welcome", "Course " + i);
+        }
+    }
+
+    private static long measure(Runnable action) {
+        long start = System.nanoTime();
+        action.run();
+        return Duration.ofNanos(System.nanoTime() - start).toMillis();
+    }
+
+    private static final class RecordingEmailSender implements EmailSender {
+
+        private final List<List<Email>> batches = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(String recipient, String subject, String body) {
+            batches.add(List.of(new Email(recipient, subject, body)));
+        }
+
+        @Override
+        public void sendBatch(List<Email> emails) {
+            batches.add(List.copyOf(emails));
+        }
+
+        private List<Integer> batchSizes() {
+            return batches.stream().map(List::size).toList();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.futesat.hexagonal.notifications.infrastructure;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class NotificationsModuleDependencyConfigTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void should_measure_the_real_delivery_behind_the_batching_sender() throws Exception {
+        // GIVEN an SMTP that takes 100ms per batch
+        FakeEmailSender smtp = new FakeEmailSender(Duration.ofMillis(100), Duration.ZERO);
+        BatchingEmailSender sender = new NotificationsModuleDependencyConfig()
+                .batchingEmailSender(smtp, meterRegistry, true, 2, Duration.ofHours(1), 1);
+
+        // WHEN
+        sender.send("a@futesat.com", "Welcome", "Course 1");
+        sender.send("b@futesat.com", "Welcome", "Course 2");
+
+        // THEN the delivery of the batch is timed, not just the enqueue
+        Timer delivery = meterRegistry.get("port.calls")
+                .tags("port", "EmailSender.delivery", "operation", "sendBatch").timer();
+        await().atMost(Duration.ofSeconds(2)).until(() -> delivery.count() == 1);
+        assertThat(delivery.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(100);
+        sender.close();
+    }
+}
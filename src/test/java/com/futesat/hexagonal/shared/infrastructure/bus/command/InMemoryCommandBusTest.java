@@ -0,0 +1,83 @@
+package com.futesat.hexagonal.shared.infrastructure.bus.command;
+
+import com.futesat.hexagonal.shared.domain.bus.command.Command;
+import com.futesat.hexagonal.shared.domain.bus.command.CommandBus;
+import com.futesat.hexagonal.shared.domain.bus.command.CommandHandler;
+import com.futesat.hexagonal.shared.infrastructure.bus.BusMiddleware;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryCommandBusTest {
+
+    private final List<String> trace = new ArrayList<>();
+
+    @Test
+    void should_run_the_handler_inside_the_middlewares_in_order() {
+        // GIVEN
+        CommandBus bus = new InMemoryCommandBus(List.of(new RenameHandler()),
+                List.of(tracing("outer"), tracing("inner")));
+
+        // WHEN
+        bus.dispatch(new Rename("new name"));
+
+        // THEN
+        assertThat(trace).containsExactly("outer:Rename", "inner:Rename", "handled:new name");
+    }
+
+    @Test
+    void should_build_each_middleware_once_per_command_type() {
+        // GIVEN
+        int[] built = {0};
+        BusMiddleware counting = (type, next) -> {
+            built[0]++;
+            return next;
+        };
+        CommandBus bus = new InMemoryCommandBus(List.of(new RenameHandler()), List.of(counting));
+
+        // WHEN
+        bus.dispatch(new Rename("a"));
+        bus.dispatch(new Rename("b"));
+
+        // THEN
+        assertThat(built[0]).isEqualTo(1);
+    }
+
+    @Test
+    void should_fail_fast_on_duplicated_or_missing_handlers() {
+        assertThatThrownBy(() -> new InMemoryCommandBus(List.of(new RenameHandler(), new RenameHandler()), List.of()))
+                .isInstanceOf(IllegalStateException.class);
+
+        CommandBus bus = new InMemoryCommandBus(List.of(), List.of());
+        assertThatThrownBy(() -> bus.dispatch(new Rename("x")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("No handler registered");
+    }
+
+    private BusMiddleware tracing(String name) {
+        return (type, next) -> message -> {
+            trace.add(name + ":" + type.getSimpleName());
+            return next.handle(message);
+        };
+    }
+
+    private record Rename(String name) implements Command {
+    }
+
+    private final class RenameHandler implements CommandHandler<Rename> {
+
+        @Override
+        public Class<Rename> subscribedTo() {
+            return Rename.class;
+        }
+
+        @Override
+        public void handle(Rename command) {
+            trace.add("handled:" + command.name());
+        }
+    }
+}
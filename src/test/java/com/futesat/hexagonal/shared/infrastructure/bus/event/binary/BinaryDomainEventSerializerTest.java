@@ -0,0 +1,79 @@
+package com.futesat.hexagonal.shared.infrastructure.bus.event.binary;
+
+import com.futesat.hexagonal.courses.domain.CourseCreatedEvent;
+import com.futesat.hexagonal.courses.infrastructure.bus.CourseCreatedEventCodec;
+import com.futesat.hexagonal.shared.domain.bus.event.DomainEvent;
+import com.futesat.hexagonal.shared.infrastructure.bus.event.JavaDomainEventSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BinaryDomainEventSerializerTest {
+
+    private final JavaDomainEventSerializer javaSerializer = new JavaDomainEventSerializer();
+    private final BinaryDomainEventSerializer serializer = new BinaryDomainEventSerializer(
+            List.of(new CourseCreatedEventCodec()), javaSerializer);
+
+    @Test
+    void should_round_trip_every_field_in_a_fraction_of_the_java_size() {
+        // GIVEN
+        LocalDateTime occurredOn = LocalDateTime.of(2024, 2, 29, 23, 59, 58, 123_456_000);
+        CourseCreatedEvent event = new CourseCreatedEvent("5a02e5b0-394c-4235-8656-78225586618e", "Diseño de APIs",
+                "10 hours", UUID.randomUUID().toString(), occurredOn);
+
+        // WHEN
+        byte[] bytes = serializer.serialize(event);
+        DomainEvent decoded = serializer.deserialize(bytes);
+
+        // THEN
+        assertThat(decoded).isInstanceOf(CourseCreatedEvent.class);
+        CourseCreatedEvent course = (CourseCreatedEvent) decoded;
+        assertThat(course.getEventId()).isEqualTo(event.getEventId());
+        assertThat(course.getOccurredOn()).isEqualTo(occurredOn);
+        assertThat(course.aggregateId()).isEqualTo(event.aggregateId());
+        assertThat(course.getName()).isEqualTo("Diseño de APIs");
+        assertThat(course.getDuration()).isEqualTo("10 hours");
+        assertThat(bytes.length).isLessThan(javaSerializer.serialize(event).length / 4);
+    }
+
+    @Test
+    void should_keep_microsecond_timestamps_and_null_fields() {
+        // GIVEN
+        CourseCreatedEvent event = new CourseCreatedEvent("id-123", "Intro to Hexagonal", null);
+
+        // WHEN
+        CourseCreatedEvent decoded = (CourseCreatedEvent) serializer.deserialize(serializer.serialize(event));
+
+        // THEN
+        assertThat(decoded.getDuration()).isNull();
+        assertThat(decoded.getOccurredOn()).isEqualTo(event.getOccurredOn().withNano(
+                event.getOccurredOn().getNano() / 1_000 * 1_000));
+    }
+
+    @Test
+    void should_still_read_payloads_written_with_java_serialization() {
+        // GIVEN an outbox row stored before the binary format existed
+        CourseCreatedEvent event = new CourseCreatedEvent("id-123", "Intro to Hexagonal", "10 hours");
+        byte[] legacy = javaSerializer.serialize(event);
+
+        // WHEN
+        DomainEvent decoded = serializer.deserialize(legacy);
+
+        // THEN
+        assertThat(decoded.getEventId()).isEqualTo(event.getEventId());
+    }
+
+    @Test
+    void should_reject_truncated_payloads() {
+        byte[] bytes = serializer.serialize(new CourseCreatedEvent("id-123", "Intro to Hexagonal", "10 hours"));
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 3);
+
+        assertThatThrownBy(() -> serializer.deserialize(truncated)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,63 @@
+package com.futesat.hexagonal.shared.infrastructure.bus.event.outbox;
+
+import com.futesat.hexagonal.courses.application.create.CreateCourseCommand;
+import com.futesat.hexagonal.courses.application.create.CreateCourseCommandHandler;
+import com.futesat.hexagonal.notifications.domain.EmailSender;
+import com.futesat.hexagonal.shared.domain.bus.event.EventBus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+// Own H2 database and a context closed after the class: otherwise OutboxRelay keeps polling the shared testdb
+// Base de datos H2 propia y un contexto cerrado tras la clase: si no, OutboxRelay sigue consultando el testdb compartido
+// while later contexts create-drop its schema
+// mientras otros contextos posteriores hacen create-drop de su esquema
+@SpringBootTest(properties = {
+        "event-bus.mode=outbox",
+        "event-bus.outbox.poll-interval-ms=100",
+        "spring.datasource.url=jdbc:h2:mem:outbox-test"
+})
+@ActiveProfiles("test")
+@DirtiesContext
+class OutboxEventBusIntegrationTest {
+
+    @Autowired
+    private CreateCourseCommandHandler handler;
+
+    @Autowired
+    private EventBus eventBus;
+
+    @Autowired
+    private SpringDataOutboxEventRepository outbox;
+
+    @MockBean
+    private EmailSender emailSender;
+
+    @Test
+    void should_store_events_in_the_outbox_and_relay_them_to_subscribers() {
+        // GIVEN
+        String courseName = "Transactional Outbox Pattern";
+        assertInstanceOf(OutboxEventBus.class, eventBus);
+
+        // WHEN
+        handler.handle(new CreateCourseCommand("5a02e5b0-394c-4235-8656-78225586618e", courseName, "3 hours"));
+
+        // THEN
+        // The relay delivers the stored event to WelcomeEmailSubscriber and cleans the outbox
+        // El relay entrega el evento guardado a WelcomeEmailSubscriber y limpia el outbox
+        verify(emailSender, timeout(3000)).send(anyString(), anyString(), contains(courseName));
+        await().atMost(Duration.ofSeconds(3)).until(() -> outbox.count() == 0);
+    }
+}
@@ -0,0 +1,164 @@
+package com.futesat.hexagonal.shared.infrastructure.bus.event.ringbuffer;
+
+import com.futesat.hexagonal.courses.domain.CourseCreatedEvent;
+import com.futesat.hexagonal.shared.domain.bus.event.DomainEvent;
+import com.futesat.hexagonal.shared.domain.bus.event.DomainEventSubscriber;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingBufferEventBusTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RingBufferEventBus bus;
+
+    @AfterEach
+    void tearDown() {
+        bus.shutdown();
+    }
+
+    @Test
+    void should_dispatch_events_to_subscribers_of_the_type_and_its_supertypes() throws Exception {
+        // GIVEN
+        CountDownLatch delivered = new CountDownLatch(2);
+        List<DomainEvent> received = new CopyOnWriteArrayList<>();
+        bus = busWith(RingBufferBackpressure.BLOCK, 8,
+                subscriber(CourseCreatedEvent.class, event -> {
+                    received.add(event);
+                    delivered.countDown();
+                }),
+                subscriber(DomainEvent.class, event -> {
+                    received.add(event);
+                    delivered.countDown();
+                }));
+        CourseCreatedEvent event = new CourseCreatedEvent("id-123", "Ring Buffer Basics", "1 hour");
+
+        // WHEN
+        bus.publish(List.of(event));
+
+        // THEN
+        assertTrue(delivered.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of(event, event), received);
+    }
+
+    @Test
+    void should_not_deliver_the_events_of_a_rolled_back_transaction() throws Exception {
+        // GIVEN
+        CountDownLatch delivered = new CountDownLatch(1);
+        List<DomainEvent> received = new CopyOnWriteArrayList<>();
+        bus = busWith(RingBufferBackpressure.BLOCK, 8,
+                subscriber(CourseCreatedEvent.class, event -> {
+                    received.add(event);
+                    delivered.countDown();
+                }));
+        CourseCreatedEvent rolledBack = new CourseCreatedEvent("id-1", "Ring Buffer Basics", "1 hour");
+        CourseCreatedEvent committed = new CourseCreatedEvent("id-2", "Ring Buffer Basics", "1 hour");
+
+        // WHEN one transaction rolls back and the next one commits
+        inTransaction(() -> bus.publish(List.of(rolledBack)), TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertTrue(received.isEmpty());
+        inTransaction(() -> bus.publish(List.of(committed)), TransactionSynchronization.STATUS_COMMITTED);
+
+        // THEN (single consumer: the committed event comes after anything published before it)
+        assertTrue(delivered.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of(committed), received);
+    }
+
+    @Test
+    void should_drop_events_when_the_buffer_is_full() throws Exception {
+        // GIVEN a single consumer stuck on the first event
+        CountDownLatch release = new CountDownLatch(1);
+        bus = busWith(RingBufferBackpressure.DROP, 2,
+                subscriber(CourseCreatedEvent.class, event -> await(release)));
+
+        // WHEN
+        for (int i = 0; i < 10; i++) {
+            bus.publish(List.of(new CourseCreatedEvent("id-" + i, "Ring Buffer Basics", "1 hour")));
+        }
+        release.countDown();
+
+        // THEN (1 in the consumer + 2 in the buffer, at most)
+        assertTrue(meterRegistry.get("event-bus.ring-buffer.dropped").counter().count() >= 7);
+    }
+
+    @Test
+    void should_run_on_the_caller_thread_when_the_buffer_is_full() throws Exception {
+        // GIVEN
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> threads = new CopyOnWriteArrayList<>();
+        bus = busWith(RingBufferBackpressure.CALLER_RUNS, 2,
+                subscriber(CourseCreatedEvent.class, event -> {
+                    threads.add(Thread.currentThread().getName());
+                    if (!Thread.currentThread().getName().equals("main-test")) {
+                        await(release);
+                    }
+                }));
+
+        // WHEN
+        Thread caller = new Thread(() -> {
+            for (int i = 0; i < 10; i++) {
+                bus.publish(List.of(new CourseCreatedEvent("id-" + i, "Ring Buffer Basics", "1 hour")));
+            }
+        }, "main-test");
+        caller.start();
+        caller.join(2000);
+        release.countDown();
+
+        // THEN
+        assertFalse(caller.isAlive());
+        assertTrue(threads.contains("main-test"));
+    }
+
+    private static void inTransaction(Runnable work, int completionStatus) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            if (completionStatus == TransactionSynchronization.STATUS_COMMITTED) {
+                TransactionSynchronizationUtils.invokeAfterCommit(synchronizations);
+            }
+            TransactionSynchronizationUtils.invokeAfterCompletion(synchronizations, completionStatus);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private RingBufferEventBus busWith(RingBufferBackpressure backpressure, int size,
+            DomainEventSubscriber<?>... subscribers) {
+        return new RingBufferEventBus(List.of(subscribers), meterRegistry, size, 1,
+                RingBufferWaitStrategy.BLOCKING, backpressure);
+    }
+
+    private static <E extends DomainEvent> DomainEventSubscriber<E> subscriber(Class<E> type, Consumer<E> action) {
+        return new DomainEventSubscriber<>() {
+            @Override
+            public Class<E> subscribedTo() {
+                return type;
+            }
+
+            @Override
+            public void on(E event) {
+                action.accept(event);
+            }
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.futesat.hexagonal.shared.infrastructure.bus.event.store;
+
+import com.futesat.hexagonal.courses.domain.CourseCreatedEvent;
+import com.futesat.hexagonal.courses.infrastructure.bus.CourseCreatedEventCodec;
+import com.futesat.hexagonal.shared.domain.bus.event.DomainEvent;
+import com.futesat.hexagonal.shared.domain.bus.event.EventStreamFilter;
+import com.futesat.hexagonal.shared.infrastructure.bus.event.JavaDomainEventSerializer;
+import com.futesat.hexagonal.shared.infrastructure.bus.event.binary.BinaryDomainEventSerializer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FileEventStoreTest {
+
+    private static final DataSize SMALL_SEGMENTS = DataSize.ofKilobytes(4);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void should_replay_from_any_offset_across_segments() {
+        // GIVEN enough events to roll several small segments
+        FileEventStore store = open(SMALL_SEGMENTS);
+        store.append(events(0, 200));
+
+        // WHEN
+        List<Long> offsets = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        long resumeFrom = store.replay(137, EventStreamFilter.all(), (offset, event) -> {
+            offsets.add(offset);
+            names.add(((CourseCreatedEvent) event).getName());
+        });
+
+        // THEN
+        assertThat(store.segmentCount()).isGreaterThan(3);
+        assertThat(offsets).containsExactlyElementsOf(LongStream.range(137, 200).boxed().toList());
+        assertThat(names).first().isEqualTo("Course 137");
+        assertThat(resumeFrom).isEqualTo(200);
+        assertThat(store.replay(resumeFrom, EventStreamFilter.all(), (offset, event) -> offsets.add(-1L)))
+                .isEqualTo(200);
+    }
+
+    @Test
+    void should_filter_by_event_name_and_aggregate() {
+        // GIVEN
+        FileEventStore store = open(SMALL_SEGMENTS);
+        store.append(events(0, 50));
+        String aggregateId = aggregateId(42);
+
+        // WHEN
+        List<DomainEvent> byAggregate = new ArrayList<>();
+        store.replay(0, EventStreamFilter.aggregate(aggregateId), (offset, event) -> byAggregate.add(event));
+        List<DomainEvent> byUnknownName = new ArrayList<>();
+        store.replay(0, EventStreamFilter.eventNames("course.renamed"), (offset, event) -> byUnknownName.add(event));
+        List<DomainEvent> byName = new ArrayList<>();
+        store.replay(0, EventStreamFilter.eventNames("course.created"), (offset, event) -> byName.add(event));
+
+        // THEN
+        assertThat(byAggregate).extracting(DomainEvent::aggregateId).containsExactly(aggregateId);
+        assertThat(byUnknownName).isEmpty();
+        assertThat(byName).hasSize(50);
+    }
+
+    @Test
+    void should_recover_after_restart_and_drop_a_torn_tail() throws IOException {
+        // GIVEN a store with events whose last record is then damaged (crash in the middle of a write)
+        FileEventStore store = open(DataSize.ofMegabytes(1));
+        List<DomainEvent> written = events(0, 10);
+        store.append(written);
+        store.close();
+        corruptLastByteOfRecord(9);
+
+        // WHEN
+        FileEventStore reopened = open(DataSize.ofMegabytes(1));
+        reopened.append(events(10, 11));
+
+        // THEN the torn event is gone and the new one takes its offset
+        List<DomainEvent> replayed = new ArrayList<>();
+        reopened.replay(0, EventStreamFilter.all(), (offset, event) -> replayed.add(event));
+        assertThat(reopened.nextOffset()).isEqualTo(10);
+        assertThat(replayed).hasSize(10);
+        assertThat(replayed.get(0).getEventId()).isEqualTo(written.get(0).getEventId());
+        assertThat(replayed.get(0).getOccurredOn()).isEqualTo(written.get(0).getOccurredOn()
+                .withNano(written.get(0).getOccurredOn().getNano() / 1_000 * 1_000));
+        assertThat(((CourseCreatedEvent) replayed.get(9)).getName()).isEqualTo("Course 10");
+    }
+
+    @Test
+    void should_reject_a_batch_with_an_oversized_event_without_writing_any_of_it() {
+        // GIVEN
+        FileEventStore store = open(SMALL_SEGMENTS);
+        store.append(events(0, 10));
+        List<DomainEvent> batch = new ArrayList<>(events(10, 60));
+        batch.add(new CourseCreatedEvent(aggregateId(60), "x".repeat(8_000), "1 hour"));
+
+        // WHEN
+        assertThatThrownBy(() -> store.append(batch)).isInstanceOf(IllegalArgumentException.class);
+
+        // THEN nothing of the batch is visible, now or after a restart
+        assertThat(store.nextOffset()).isEqualTo(10);
+        store.append(events(10, 11));
+        store.close();
+        FileEventStore reopened = open(SMALL_SEGMENTS);
+        List<String> names = new ArrayList<>();
+        reopened.replay(0, EventStreamFilter.all(), (offset, event) -> names.add(((CourseCreatedEvent) event).getName()));
+        assertThat(reopened.nextOffset()).isEqualTo(11);
+        assertThat(names).containsExactlyElementsOf(IntStream.range(0, 11).mapToObj(i -> "Course " + i).toList());
+    }
+
+    private FileEventStore open(DataSize segmentSize) {
+        BinaryDomainEventSerializer serializer = new BinaryDomainEventSerializer(
+                List.of(new CourseCreatedEventCodec()), new JavaDomainEventSerializer());
+        return new FileEventStore(serializer, directory, segmentSize, 16, false);
+    }
+
+    private void corruptLastByteOfRecord(int index) throws IOException {
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.sorted().reduce((first, second) -> second).orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            int position = 0;
+            for (int i = 0; i < index; i++) {
+                position += EventRecordFormat.recordSize(buffer, position);
+            }
+            int last = position + EventRecordFormat.recordSize(buffer, position) - 1;
+            buffer.put(last, (byte) (buffer.get(last) ^ 0xFF));
+        }
+    }
+
+    private static List<DomainEvent> events(int from, int to) {
+        return IntStream.range(from, to)
+                .<DomainEvent>mapToObj(i -> new CourseCreatedEvent(aggregateId(i), "Course " + i, "1 hour"))
+                .toList();
+    }
+
+    private static String aggregateId(int i) {
+        return String.format("00000000-0000-0000-0000-%012d", i);
+    }
+}
@@ -0,0 +1,43 @@
+package com.futesat.hexagonal.shared.infrastructure.bus.query;
+
+import com.futesat.hexagonal.shared.domain.bus.query.Query;
+import com.futesat.hexagonal.shared.domain.bus.query.QueryBus;
+import com.futesat.hexagonal.shared.domain.bus.query.QueryHandler;
+import com.futesat.hexagonal.shared.infrastructure.bus.BusMiddleware;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryQueryBusTest {
+
+    @Test
+    void should_return_the_answer_of_the_handler_through_the_middlewares() {
+        // GIVEN a middleware that decorates the answer
+        BusMiddleware shouting = (type, next) -> message -> next.handle(message).toString().toUpperCase();
+        QueryBus bus = new InMemoryQueryBus(List.of(new GreetingHandler()), List.of(shouting));
+
+        // WHEN
+        String greeting = bus.ask(new Greeting("ana"));
+
+        // THEN
+        assertThat(greeting).isEqualTo("HELLO ANA");
+    }
+
+    private record Greeting(String name) implements Query<String> {
+    }
+
+    private static final class GreetingHandler implements QueryHandler<Greeting, String> {
+
+        @Override
+        public Class<Greeting> subscribedTo() {
+            return Greeting.class;
+        }
+
+        @Override
+        public String handle(Greeting query) {
+            return "hello " + query.name();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.futesat.hexagonal.shared.infrastructure.metrics;
+
+import com.futesat.hexagonal.shared.domain.bus.event.DomainEvent;
+import com.futesat.hexagonal.shared.domain.bus.event.EventBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MeteredPortTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void should_time_calls_and_count_errors_per_operation() {
+        // GIVEN a port that fails on every other call
+        int[] calls = {0};
+        EventBus eventBus = MeteredPort.wrap(EventBus.class, events -> {
+            if (calls[0]++ % 2 == 1) {
+                throw new IllegalStateException("broker down");
+            }
+        }, meterRegistry);
+
+        // WHEN
+        eventBus.publish(List.of());
+        assertThatThrownBy(() -> eventBus.publish(List.of())).isInstanceOf(IllegalStateException.class);
+
+        // THEN failed calls are timed too, and errors carry the exception type
+        assertThat(meterRegistry.get("port.calls").tags("port", "EventBus", "operation", "publish").timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("port.errors")
+                .tags("port", "EventBus", "operation", "publish", "exception", "IllegalStateException")
+                .counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("port.in.flight").tags("port", "EventBus").longTaskTimer().activeTasks())
+                .isZero();
+    }
+
+    @Test
+    void should_report_calls_in_flight() throws Exception {
+        // GIVEN a slow port
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        EventBus eventBus = MeteredPort.wrap(EventBus.class, events -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, meterRegistry);
+
+        // WHEN a call is still running
+        Thread caller = Thread.ofPlatform().start(() -> eventBus.publish(List.of()));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // THEN
+        assertThat(meterRegistry.get("port.in.flight").tags("port", "EventBus").longTaskTimer().activeTasks())
+                .isEqualTo(1);
+        release.countDown();
+        caller.join();
+        assertThat(meterRegistry.get("port.in.flight").tags("port", "EventBus").longTaskTimer().activeTasks())
+                .isZero();
+    }
+
+    @Test
+    void should_keep_a_closeable_target_closeable() throws Exception {
+        // GIVEN
+        boolean[] closed = {false};
+        EventBus eventBus = MeteredPort.wrap(EventBus.class, new CloseableEventBus(() -> closed[0] = true),
+                meterRegistry);
+
+        // WHEN
+        ((AutoCloseable) eventBus).close();
+
+        // THEN
+        assertThat(closed[0]).isTrue();
+    }
+
+    private record CloseableEventBus(Runnable onClose) implements EventBus, AutoCloseable {
+
+        @Override
+        public void publish(List<DomainEvent> events) {
+        }
+
+        @Override
+        public void close() {
+            onClose.run();
+        }
+    }
+}
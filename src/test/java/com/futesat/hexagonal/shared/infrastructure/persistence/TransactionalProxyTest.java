@@ -0,0 +1,47 @@
+package com.futesat.hexagonal.shared.infrastructure.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class TransactionalProxyTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    @Test
+    void should_open_a_transaction_only_for_handle() {
+        // GIVEN
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        GreetingHandler handler = TransactionalProxy.wrap(new GreetingHandler(), transactionManager);
+
+        // WHEN the bus asks for the command type, no transaction (nor pooled connection) is involved
+        // WHEN el bus pregunta el tipo de comando, no interviene ninguna transacción (ni conexión del pool)
+        assertThat(handler.subscribedTo()).isEqualTo(String.class);
+        verifyNoInteractions(transactionManager);
+
+        // THEN handle runs inside one
+        // THEN handle se ejecuta dentro de una
+        assertThat(handler.handle("world")).isEqualTo("Hello world");
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    static class GreetingHandler {
+
+        public Class<String> subscribedTo() {
+            return String.class;
+        }
+
+        public String handle(String name) {
+            return "Hello " + name;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.futesat.hexagonal.shared.infrastructure.threads;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.awaitility.Awaitility.await;
+
+class VirtualThreadPinningMonitorTest {
+
+    private final Object lock = new Object();
+
+    @Test
+    void should_record_virtual_threads_blocked_inside_synchronized() throws Exception {
+        // GIVEN
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(10));
+
+        try {
+            // WHEN a virtual thread sleeps while holding a monitor (it cannot unmount from its carrier)
+            Thread.ofVirtual().start(this::sleepInsideSynchronized).join();
+
+            // THEN
+            await().atMost(Duration.ofSeconds(10))
+                    .until(() -> meterRegistry.get("jvm.threads.virtual.pinned").timer().count() >= 1);
+        } finally {
+            monitor.close();
+        }
+    }
+
+    private void sleepInsideSynchronized() {
+        synchronized (lock) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}